@@ -0,0 +1,19 @@
+package org.neo4j.ogm.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a relationship field as one to follow, to the given depth, when its entity is loaded with the fetch plan
+ * its annotations declare. See {@link org.neo4j.ogm.session.Session#fetchPlan(Class)}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD})
+@Inherited
+public @interface Fetch {
+
+    static final String CLASS = "org.neo4j.ogm.annotation.Fetch";
+    static final String DEPTH = "depth";
+
+    int depth() default 1;
+
+}
@@ -0,0 +1,343 @@
+package org.neo4j.ogm.cypher.compiler;
+
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+/**
+ * Implementation of {@link CypherCompiler} that builds one statement per kind of change rather than one statement per
+ * object graph.
+ *
+ * New nodes are grouped by their label set, new relationships by their type, and each group is written using a single
+ * <code>UNWIND {rows} AS row ...</code> statement whose parameters carry one row per node or relationship. The text
+ * of each statement therefore only depends on the labels and relationship types involved, so saving a large collection
+ * of objects produces a handful of statements that the server's query plan cache can reuse.
+ *
+ * New relationships are always created, whether they have properties or not, and existing ones are matched by id.
+ * Relationships are deleted by id where it is known, and otherwise by their type and the nodes at either end. They are
+ * deleted before any are created, so that a relationship deleted by type and nodes is not confused with one of the same
+ * type created between the same nodes by the same save.
+ *
+ * Statements that create nodes or relationships return one row per created entity, with the columns "ref" and "id",
+ * containing the compiler's reference to the entity and its new identity in the graph.
+ *
+ * A relationship can't be matched to a new node by id before the node's identity is known, so relationships to or from
+ * new nodes are created by the same statement as the new nodes. That statement collects the new nodes of each group in
+ * turn into one list, and relationship rows refer to new nodes by their position in it. Saving objects therefore takes
+ * a single request, whether or not it links new nodes.
+ */
+public class BatchCypherCompiler implements CypherCompiler {
+
+    static final String REF = "ref";
+    static final String ID = "id";
+
+    private final IdentifierManager identifiers = new IdentifierManager();
+
+    private final List<NodeBuilder> newNodes = new ArrayList<>();
+    private final List<NodeBuilder> updatedNodes = new ArrayList<>();
+    private final List<RelationshipBuilder> newRelationships = new ArrayList<>();
+    private final List<ExistingRelationshipBuilder> updatedRelationships = new ArrayList<>();
+    private final Map<String, List<Map<String, Object>>> deletedRelationships = new TreeMap<>();
+    private final List<Map<String, Object>> deletedRelationshipIds = new ArrayList<>();
+
+    private final CypherContext context = new CypherContext();
+
+    @Deprecated
+    @Override
+    public void relate(String startNode, String relationshipType, Map<String, Object> relationshipProperties, String endNode) {
+        RelationshipBuilder newRelationship = newRelationship();
+        newRelationship.type(relationshipType);
+        for (Entry<String, Object> property : relationshipProperties.entrySet()) {
+            newRelationship.addProperty(property.getKey(), property.getValue());
+        }
+        newRelationship.relate(startNode, endNode);
+    }
+
+    @Override
+    public void unrelate(Long startNodeId, String relationshipType, Long endNodeId) {
+        unrelate(startNodeId, relationshipType, endNodeId, null);
+    }
+
+    @Override
+    public void unrelate(Long startNodeId, String relationshipType, Long endNodeId, Long relationshipId) {
+        Map<String, Object> row = new HashMap<>();
+        if (relationshipId != null) {
+            row.put(ID, relationshipId);
+            deletedRelationshipIds.add(row);
+        } else {
+            row.put("start", startNodeId);
+            row.put("end", endNodeId);
+            rows(deletedRelationships, relationshipType).add(row);
+        }
+    }
+
+    @Override
+    public NodeBuilder newNode() {
+        NodeBuilder newNode = new NewNodeBuilder(this.identifiers.nextIdentifier());
+        this.newNodes.add(newNode);
+        return newNode;
+    }
+
+    @Override
+    public NodeBuilder existingNode(Long existingNodeId) {
+        NodeBuilder node = new ExistingNodeBuilder(this.identifiers.identifier(existingNodeId));
+        this.updatedNodes.add(node);
+        return node;
+    }
+
+    @Override
+    public RelationshipBuilder newRelationship() {
+        RelationshipBuilder builder = new NewRelationshipBuilder(identifiers.nextIdentifier());
+        this.newRelationships.add(builder);
+        return builder;
+    }
+
+    @Override
+    public RelationshipBuilder existingRelationship(Long existingRelationshipId) {
+        ExistingRelationshipBuilder builder = new ExistingRelationshipBuilder(this.identifiers.nextIdentifier(), existingRelationshipId);
+        this.updatedRelationships.add(builder);
+        return builder;
+    }
+
+    @Override
+    public List<ParameterisedStatement> getStatements() {
+
+        List<ParameterisedStatement> statements = new ArrayList<>();
+
+        Map<String, List<Map<String, Object>>> nodeGroups = newNodeRows();
+        Map<String, Integer> positions = positions(nodeGroups);
+        Map<String, List<Map<String, Object>>> created = new TreeMap<>();
+        Map<String, List<Map<String, Object>>> linked = new TreeMap<>();
+        newRelationshipRows(positions, created, linked);
+
+        statements.addAll(deletedRelationshipStatements());
+        if (linked.isEmpty()) {
+            statements.addAll(createNodeStatements(nodeGroups));
+        } else {
+            statements.add(createLinkedNodesStatement(nodeGroups, linked));
+        }
+        statements.addAll(updatedNodeStatements());
+        statements.addAll(createRelationshipStatements(created));
+        statements.addAll(updatedRelationshipStatements());
+
+        return statements;
+    }
+
+    private Map<String, List<Map<String, Object>>> newNodeRows() {
+        Map<String, List<Map<String, Object>>> groups = new TreeMap<>();
+        for (NodeBuilder node : newNodes) {
+            Map<String, Object> row = new HashMap<>();
+            row.put(REF, node.reference());
+            row.put("props", node.props);
+            rows(groups, labels(node)).add(row);
+        }
+        return groups;
+    }
+
+    // the position of each new node in the list of new nodes, taken group by group
+    private static Map<String, Integer> positions(Map<String, List<Map<String, Object>>> nodeGroups) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (List<Map<String, Object>> rows : nodeGroups.values()) {
+            for (Map<String, Object> row : rows) {
+                positions.put((String) row.get(REF), positions.size());
+            }
+        }
+        return positions;
+    }
+
+    private List<ParameterisedStatement> createNodeStatements(Map<String, List<Map<String, Object>>> groups) {
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        for (Entry<String, List<Map<String, Object>>> group : groups.entrySet()) {
+            String cypher = "UNWIND {rows} AS row CREATE (n" + group.getKey() + ") SET n=row.props RETURN row.ref AS ref, id(n) AS id";
+            statements.add(statement(cypher, group.getValue()));
+        }
+        return statements;
+    }
+
+    /*
+     * Creates the new nodes group by group, collecting them in a list along with their references and identities, then
+     * creates the relationships of each type, taking new nodes from the list by their position in it.
+     */
+    private ParameterisedStatement createLinkedNodesStatement(Map<String, List<Map<String, Object>>> nodeGroups, Map<String, List<Map<String, Object>>> linked) {
+        StringBuilder cypher = new StringBuilder();
+        Map<String, Object> parameters = new HashMap<>();
+
+        for (Entry<String, List<Map<String, Object>>> group : nodeGroups.entrySet()) {
+            String rows = "nodes" + parameters.size();
+            parameters.put(rows, group.getValue());
+            cypher.append("UNWIND {").append(rows).append("} AS row CREATE (n").append(group.getKey()).append(") SET n=row.props ");
+            if (parameters.size() == 1) {
+                cypher.append("WITH collect(n) AS nodes, collect([row.ref, id(n)]) AS refs ");
+            } else {
+                cypher.append("WITH nodes, refs, collect(n) AS created, collect([row.ref, id(n)]) AS createdRefs ")
+                        .append("WITH nodes + created AS nodes, refs + createdRefs AS refs ");
+            }
+        }
+
+        for (Entry<String, List<Map<String, Object>>> group : linked.entrySet()) {
+            String rows = "rels" + (parameters.size() - nodeGroups.size());
+            parameters.put(rows, group.getValue());
+            cypher.append("UNWIND {").append(rows).append("} AS row ")
+                    .append("OPTIONAL MATCH (s) WHERE id(s)=row.start OPTIONAL MATCH (e) WHERE id(e)=row.end ")
+                    .append("WITH nodes, refs, row, coalesce(s, nodes[row.startIndex]) AS s, coalesce(e, nodes[row.endIndex]) AS e ")
+                    .append("CREATE (s)-[r:`").append(group.getKey()).append("`]->(e) SET r=row.props ")
+                    .append("WITH nodes, refs, collect([row.ref, id(r)]) AS createdRefs ")
+                    .append("WITH nodes, refs + createdRefs AS refs ");
+        }
+
+        cypher.append("UNWIND refs AS created RETURN created[0] AS ref, created[1] AS id");
+        return new ParameterisedStatement(cypher.toString(), parameters);
+    }
+
+    private List<ParameterisedStatement> updatedNodeStatements() {
+        Map<String, List<Map<String, Object>>> groups = new TreeMap<>();
+        for (NodeBuilder node : updatedNodes) {
+            if (!node.props.isEmpty()) {
+                Map<String, Object> row = new HashMap<>();
+                row.put(ID, identifiers.identity(node.reference()));
+                row.put("props", node.props);
+                rows(groups, labels(node)).add(row);
+            }
+        }
+
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        for (Entry<String, List<Map<String, Object>>> group : groups.entrySet()) {
+            StringBuilder cypher = new StringBuilder("UNWIND {rows} AS row MATCH (n) WHERE id(n)=row.id SET ");
+            if (!group.getKey().isEmpty()) {
+                cypher.append('n').append(group.getKey()).append(", ");
+            }
+            cypher.append("n+=row.props");
+            statements.add(statement(cypher.toString(), group.getValue()));
+        }
+        return statements;
+    }
+
+    /*
+     * Sorts the rows of the new relationships by type into those between existing nodes, and those linking new nodes
+     */
+    private void newRelationshipRows(Map<String, Integer> positions, Map<String, List<Map<String, Object>>> created, Map<String, List<Map<String, Object>>> linked) {
+        for (RelationshipBuilder relationship : newRelationships) {
+            // don't emit anything if this relationship isn't used to link any nodes
+            if (relationship.startNodeIdentifier == null || relationship.endNodeIdentifier == null) {
+                continue;
+            }
+            Map<String, Object> row = new HashMap<>();
+            row.put(REF, relationship.getReference());
+            boolean links = endpoint(row, "start", relationship.startNodeIdentifier, positions);
+            links |= endpoint(row, "end", relationship.endNodeIdentifier, positions);
+
+            Map<String, Object> props = new HashMap<>();
+            for (Entry<String, Object> property : relationship.props.entrySet()) {
+                if (property.getValue() != null) {
+                    props.put(property.getKey(), property.getValue());
+                }
+            }
+            row.put("props", props);
+
+            rows(links ? linked : created, relationship.getType()).add(row);
+        }
+    }
+
+    private List<ParameterisedStatement> createRelationshipStatements(Map<String, List<Map<String, Object>>> groups) {
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        for (Entry<String, List<Map<String, Object>>> group : groups.entrySet()) {
+            String cypher = "UNWIND {rows} AS row MATCH (s) WHERE id(s)=row.start MATCH (e) WHERE id(e)=row.end " +
+                    "CREATE (s)-[r:`" + group.getKey() + "`]->(e) SET r=row.props RETURN row.ref AS ref, id(r) AS id";
+            statements.add(statement(cypher, group.getValue()));
+        }
+        return statements;
+    }
+
+    private List<ParameterisedStatement> updatedRelationshipStatements() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (ExistingRelationshipBuilder relationship : updatedRelationships) {
+            if (relationship.startNodeIdentifier != null && relationship.endNodeIdentifier != null && !relationship.props.isEmpty()) {
+                Map<String, Object> row = new HashMap<>();
+                row.put(ID, relationship.id());
+                row.put("props", relationship.props);
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(statement("UNWIND {rows} AS row MATCH ()-[r]->() WHERE id(r)=row.id SET r+=row.props", rows));
+    }
+
+    private List<ParameterisedStatement> deletedRelationshipStatements() {
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        if (!deletedRelationshipIds.isEmpty()) {
+            statements.add(statement("UNWIND {rows} AS row MATCH ()-[r]->() WHERE id(r)=row.id DELETE r", deletedRelationshipIds));
+        }
+        // without an id, every relationship of the type between the two nodes is deleted
+        for (Entry<String, List<Map<String, Object>>> group : deletedRelationships.entrySet()) {
+            String cypher = "UNWIND {rows} AS row MATCH (s)-[r:`" + group.getKey() + "`]->(e) " +
+                    "WHERE id(s)=row.start AND id(e)=row.end DELETE r";
+            statements.add(statement(cypher, group.getValue()));
+        }
+        return statements;
+    }
+
+    /**
+     * existing nodes are referred to by their identity, new nodes by their position among the new nodes
+     *
+     * @return true if the node is a new node, whose identity is not yet known
+     */
+    private boolean endpoint(Map<String, Object> row, String key, String nodeIdentifier, Map<String, Integer> positions) {
+        Long identity = identifiers.identity(nodeIdentifier);
+        if (identity != null) {
+            row.put(key, identity);
+            return false;
+        }
+        row.put(key + "Index", positions.get(nodeIdentifier));
+        return true;
+    }
+
+    private static String labels(NodeBuilder node) {
+        StringBuilder labels = new StringBuilder();
+        for (String label : node.labels) {
+            labels.append(":`").append(label).append('`');
+        }
+        return labels.toString();
+    }
+
+    private static List<Map<String, Object>> rows(Map<String, List<Map<String, Object>>> groups, String key) {
+        List<Map<String, Object>> rows = groups.get(key);
+        if (rows == null) {
+            rows = new ArrayList<>();
+            groups.put(key, rows);
+        }
+        return rows;
+    }
+
+    private static ParameterisedStatement statement(String cypher, List<Map<String, Object>> rows) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+        return new ParameterisedStatement(cypher, parameters);
+    }
+
+    public CypherContext context() {
+        return context;
+    }
+
+    @Override
+    public CypherContext compile() {
+        context.setStatements(getStatements());
+        for (Entry<String, Long> existing : identifiers.existingIdentities().entrySet()) {
+            context.registerIdentity(existing.getKey(), existing.getValue());
+        }
+        return context;
+    }
+
+    @Override
+    public void release(RelationshipBuilder relationshipBuilder) {
+        identifiers.releaseIdentifier();
+    }
+
+    @Override
+    public String nextIdentifier() {
+        return identifiers.nextIdentifier();
+    }
+
+}
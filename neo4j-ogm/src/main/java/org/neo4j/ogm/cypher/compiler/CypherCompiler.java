@@ -25,11 +25,22 @@ public interface CypherCompiler {
     /**
      * Defines a relationship deletion between the specified start node to end node with the given relationship type and direction.
      *
-     * @param startNode The {@link NodeBuilder} representation of the relationship start node
+     * @param startNodeId The ID of the relationship start node in the database
      * @param relationshipType The type of relationship between the nodes to delete
-     * @param endNode The {@link NodeBuilder} representation of the relationship end node
+     * @param endNodeId The ID of the relationship end node in the database
+     */
+    void unrelate(Long startNodeId, String relationshipType, Long endNodeId);
+
+    /**
+     * Defines the deletion of the relationship with the given id, if it is known, between the specified start node and
+     * end node with the given relationship type.
+     *
+     * @param startNodeId The ID of the relationship start node in the database
+     * @param relationshipType The type of relationship between the nodes to delete
+     * @param endNodeId The ID of the relationship end node in the database
+     * @param relationshipId The ID of the relationship in the database, or <code>null</code> if it isn't known
      */
-    void unrelate(String startNode, String relationshipType, String endNode);
+    void unrelate(Long startNodeId, String relationshipType, Long endNodeId, Long relationshipId);
 
     /**
      * Returns {@link NodeBuilder} that represents a new node to be created in the database.
@@ -16,6 +16,10 @@ public class CypherContext {
     private final Collection<MappedRelationship> registeredRelationships = new HashSet<>();
 
     private final Collection<Object> log = new HashSet<>();
+    private int emittedObjects;
+    private int walkedObjects;
+
+    private final Map<String, Long> identities = new HashMap<>();
 
     private List<ParameterisedStatement> statements;
 
@@ -27,6 +31,35 @@ public class CypherContext {
         this.visitedObjects.put(toPersist, nodeBuilder);
     }
 
+    /**
+     * Records that more objects were walked over to decide which objects to visit, without being visited themselves.
+     */
+    public void walked(int objects) {
+        this.walkedObjects += objects;
+    }
+
+    /**
+     * @return the number of objects visited while compiling this context, including those only walked over to decide
+     * which objects to visit
+     */
+    public int visitedObjectCount() {
+        return this.visitedObjects.size() + this.walkedObjects;
+    }
+
+    /**
+     * Records that the properties of another object are written by this context's statements.
+     */
+    public void emitted() {
+        this.emittedObjects++;
+    }
+
+    /**
+     * @return the number of objects whose properties are written by this context's statements
+     */
+    public int emittedObjectCount() {
+        return this.emittedObjects;
+    }
+
     public void registerRelationship(MappedRelationship mappedRelationship) {
         this.registeredRelationships.add(mappedRelationship);
     }
@@ -47,6 +80,14 @@ public class CypherContext {
         return this.statements;
     }
 
+    public void registerIdentity(String cypherName, Long identity) {
+        identities.put(cypherName, identity);
+    }
+
+    public Map<String, Long> identities() {
+        return identities;
+    }
+
     public void registerNewObject(String cypherName, Object toPersist) {
         createdObjects.put(cypherName, toPersist);
     }
@@ -76,4 +117,4 @@ public class CypherContext {
            }
         }
     }
-}
\ No newline at end of file
+}
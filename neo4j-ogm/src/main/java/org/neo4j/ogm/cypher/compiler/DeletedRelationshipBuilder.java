@@ -38,8 +38,8 @@ public class DeletedRelationshipBuilder implements CypherEmitter, Comparable<Del
         if (!varStack.contains(src)) {
             queryBuilder.append(" WHERE id(");
             queryBuilder.append(src);
-            queryBuilder.append(")=");
-            queryBuilder.append(src.substring(1)); // existing nodes have an id. we pass it in as $id
+            queryBuilder.append(")={");
+            queryBuilder.append(src).append("_id}"); // existing nodes have an id. we pass it in as a parameter
             varStack.add(src);
             where = true;
         }
@@ -51,8 +51,8 @@ public class DeletedRelationshipBuilder implements CypherEmitter, Comparable<Del
                 queryBuilder.append(" WHERE id(");
             }
             queryBuilder.append(tgt);
-            queryBuilder.append(")=");
-            queryBuilder.append(tgt.substring(1)); // existing nodes have an id. we pass it in as $id
+            queryBuilder.append(")={");
+            queryBuilder.append(tgt).append("_id}"); // existing nodes have an id. we pass it in as a parameter
             varStack.add(tgt);
         }
 
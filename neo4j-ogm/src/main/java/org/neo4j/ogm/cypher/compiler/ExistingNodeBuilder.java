@@ -20,6 +20,7 @@ class ExistingNodeBuilder extends NodeBuilder {
     public NodeBuilder mapProperties(Object toPersist, ClassInfo classInfo, EntityAccessStrategy objectAccessStrategy) {
         for (PropertyReader propertyReader : objectAccessStrategy.getPropertyReaders(classInfo)) {
             Object value = propertyReader.read(toPersist);
+            // null values are kept, because setting a property to null with += removes it from the node
             addProperty(propertyReader.propertyName(), value);
         }
         return this;
@@ -41,7 +42,7 @@ class ExistingNodeBuilder extends NodeBuilder {
         varStack.add(this.reference());
 
         queryBuilder.append(" MATCH (").append(this.reference()).append(")");
-        queryBuilder.append(" WHERE id(").append(this.reference()).append(")=").append(this.reference().substring(1));
+        queryBuilder.append(" WHERE id(").append(this.reference()).append(")={").append(this.reference()).append("_id}");
 
         if (!this.labels.isEmpty() && !this.props.isEmpty()) {
             queryBuilder.append(" SET ");
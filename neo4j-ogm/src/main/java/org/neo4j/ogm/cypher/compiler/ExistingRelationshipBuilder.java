@@ -12,6 +12,10 @@ class ExistingRelationshipBuilder extends RelationshipBuilder {
         this.id = relationshipId;
     }
 
+    Long id() {
+        return id;
+    }
+
     @Override
     public void relate(String startNodeIdentifier, String endNodeIdentifier) {
         this.startNodeIdentifier = startNodeIdentifier;
@@ -32,7 +36,8 @@ class ExistingRelationshipBuilder extends RelationshipBuilder {
         }
 
         queryBuilder.append(" MATCH ()-[").append(this.reference).append("]->() WHERE id(")
-                .append(this.reference).append(")=").append(this.id);
+                .append(this.reference).append(")={").append(this.reference).append("_id}");
+        parameters.put(this.reference + "_id", this.id);
 
         if (!this.props.isEmpty()) {
             queryBuilder.append(" SET ").append(this.reference).append("+={").append(this.reference).append("_props} ");
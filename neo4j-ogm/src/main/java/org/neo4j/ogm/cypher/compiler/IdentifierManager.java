@@ -1,5 +1,9 @@
 package org.neo4j.ogm.cypher.compiler;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Manages identifiers used within the scope of a single Cypher query.
  *
@@ -10,12 +14,15 @@ package org.neo4j.ogm.cypher.compiler;
  *
  * _0, _1, _2 ...
  *
- * 2. References to existing nodes are identified using the node id prepended by a $, e.g
+ * 2. References to existing nodes are identified by the order in which the nodes are first referred to,
+ * prepended by a $, e.g.
  *
- * $513400, $9075, $2 ...
+ * $0, $1, $2 ...
  *
  * The use of two separate schemes ensures that the identifiers for new nodes and existing nodes cannot
- * overlap.
+ * overlap. Because the ids of existing nodes are never part of their identifiers, they are passed to the
+ * query as parameters, so that structurally identical queries have identical text and can share a cached
+ * query plan on the server.
  *
  */
 class IdentifierManager {
@@ -25,6 +32,9 @@ class IdentifierManager {
 
     private int idCounter;
 
+    private final Map<Long, String> existingIdentifiers = new LinkedHashMap<>();
+    private final Map<String, Long> existingIdentities = new HashMap<>();
+
     /**
      * Generates the next variable name to use in the context of a Cypher query for creating new objects.
      *
@@ -35,12 +45,35 @@ class IdentifierManager {
     }
 
     /**
-     * Generates a variable name to use in the context of a Cypher query referring to existing objects.
+     * Returns the variable name to use in the context of a Cypher query referring to the existing object with
+     * the given id. The same variable name is returned each time the same id is supplied.
      *
-     * @return The variable name to use of the form $id, never <code>null</code>
+     * @return The variable name to use of the form $n, never <code>null</code>
+     */
+    public synchronized String identifier(Long value) {
+        String identifier = existingIdentifiers.get(value);
+        if (identifier == null) {
+            identifier = String.format(EXISTING_FORMAT, existingIdentifiers.size());
+            existingIdentifiers.put(value, identifier);
+            existingIdentities.put(identifier, value);
+        }
+        return identifier;
+    }
+
+    /**
+     * Returns the id of the existing object referred to by the given variable name
+     *
+     * @return The id of the existing object, or <code>null</code> if the variable doesn't refer to an existing object
+     */
+    public synchronized Long identity(String identifier) {
+        return existingIdentities.get(identifier);
+    }
+
+    /**
+     * @return The variable names of all the existing objects referred to so far, mapped to their ids
      */
-    public String identifier(Long value) {
-        return String.format(EXISTING_FORMAT, value);
+    public synchronized Map<String, Long> existingIdentities() {
+        return new HashMap<>(existingIdentities);
     }
 
     public synchronized void releaseIdentifier() {
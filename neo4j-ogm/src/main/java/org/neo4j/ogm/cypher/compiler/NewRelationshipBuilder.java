@@ -33,8 +33,8 @@ class NewRelationshipBuilder extends RelationshipBuilder {
             queryBuilder.append(startNodeIdentifier);
             queryBuilder.append(") WHERE id(");
             queryBuilder.append(startNodeIdentifier);
-            queryBuilder.append(")=");
-            queryBuilder.append(startNodeIdentifier.substring(1)); // existing nodes have an id. we pass it in as $id
+            queryBuilder.append(")={");
+            queryBuilder.append(startNodeIdentifier).append("_id}"); // existing nodes have an id. we pass it in as a parameter
             varStack.add(startNodeIdentifier);
         }
 
@@ -43,8 +43,8 @@ class NewRelationshipBuilder extends RelationshipBuilder {
             queryBuilder.append(endNodeIdentifier);
             queryBuilder.append(") WHERE id(");
             queryBuilder.append(endNodeIdentifier);
-            queryBuilder.append(")=");
-            queryBuilder.append(endNodeIdentifier.substring(1)); // existing nodes have an id. we pass it in as $id
+            queryBuilder.append(")={");
+            queryBuilder.append(endNodeIdentifier).append("_id}"); // existing nodes have an id. we pass it in as a parameter
             varStack.add(endNodeIdentifier);
         }
 
@@ -40,6 +40,17 @@ public abstract class NodeBuilder implements CypherEmitter, Comparable<NodeBuild
         return this;
     }
 
+    /**
+     * Discards the mapped properties whose names aren't in the given set, so that only those are written.
+     *
+     * @param propertyNames The names of the properties to keep
+     * @return This {@link NodeBuilder}
+     */
+    public NodeBuilder retainProperties(Set<String> propertyNames) {
+        this.props.keySet().retainAll(propertyNames);
+        return this;
+    }
+
     public abstract NodeBuilder mapProperties(Object toPersist, ClassInfo classInfo, EntityAccessStrategy objectAccessStrategy);
 
     @Override
@@ -34,8 +34,13 @@ public class SingleStatementCypherCompiler implements CypherCompiler {
     }
 
     @Override
-    public void unrelate(String startNode, String relationshipType, String endNode) {
-        deletedRelationships.add(new DeletedRelationshipBuilder(relationshipType,startNode, endNode, this.identifiers.nextIdentifier()));
+    public void unrelate(Long startNodeId, String relationshipType, Long endNodeId) {
+        deletedRelationships.add(new DeletedRelationshipBuilder(relationshipType, identifiers.identifier(startNodeId), identifiers.identifier(endNodeId), this.identifiers.nextIdentifier()));
+    }
+
+    @Override
+    public void unrelate(Long startNodeId, String relationshipType, Long endNodeId, Long relationshipId) {
+        unrelate(startNodeId, relationshipType, endNodeId);
     }
 
     @Override
@@ -112,6 +117,13 @@ public class SingleStatementCypherCompiler implements CypherCompiler {
 
         returnClause.emit(queryBuilder, parameters, newStack);
 
+        // existing nodes are matched by id, which we pass in as a parameter
+        for (Entry<String, Long> existing : identifiers.existingIdentities().entrySet()) {
+            if (varStack.contains(existing.getKey())) {
+                parameters.put(existing.getKey() + "_id", existing.getValue());
+            }
+        }
+
         return Collections.singletonList(new ParameterisedStatement(queryBuilder.toString(), parameters));
     }
 
@@ -122,6 +134,9 @@ public class SingleStatementCypherCompiler implements CypherCompiler {
     @Override
     public CypherContext compile() {
         context.setStatements(getStatements());
+        for (Entry<String, Long> existing : identifiers.existingIdentities().entrySet()) {
+            context.registerIdentity(existing.getKey(), existing.getValue());
+        }
         return context;
     }
 
@@ -0,0 +1,101 @@
+package org.neo4j.ogm.cypher.query;
+
+import org.neo4j.ogm.annotation.Relationship;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The relationships a load follows from the objects it was asked for, each of a type, in a direction and to a depth
+ * of its own, in place of the single depth to which a load otherwise follows relationships of every type.
+ *
+ * The objects are loaded together with the paths from them that are made up of relationships of one of the types
+ * alone. A plan that follows no relationships loads the objects alone.
+ */
+public class FetchPlan {
+
+    // relationship types are written into the MATCH clause, since Cypher doesn't take them as parameters
+    private static final Pattern RELATIONSHIP_TYPE = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_]*");
+
+    private final List<Traversal> traversals = new ArrayList<>();
+
+    /**
+     * Follows relationships of the given type in either direction, up to the given depth.
+     *
+     * @param relationshipType the type of the relationships
+     * @param depth the number of relationships of the type to follow from an object
+     * @return this fetch plan
+     */
+    public FetchPlan follow(String relationshipType, int depth) {
+        return follow(relationshipType, Relationship.BOTH, depth);
+    }
+
+    /**
+     * Follows relationships of the given type in the given direction, up to the given depth.
+     *
+     * @param relationshipType the type of the relationships
+     * @param direction {@link Relationship#OUTGOING}, {@link Relationship#INCOMING} or {@link Relationship#BOTH}
+     * @param depth the number of relationships of the type to follow from an object
+     * @return this fetch plan
+     */
+    public FetchPlan follow(String relationshipType, String direction, int depth) {
+        if (relationshipType == null || !RELATIONSHIP_TYPE.matcher(relationshipType).matches()) {
+            throw new IllegalArgumentException("Invalid relationship type to follow: " + relationshipType);
+        }
+        if (!Relationship.OUTGOING.equals(direction) && !Relationship.INCOMING.equals(direction) && !Relationship.BOTH.equals(direction)) {
+            throw new IllegalArgumentException("Invalid direction to follow " + relationshipType + " in: " + direction);
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth to follow " + relationshipType + " to must be positive but was " + depth);
+        }
+        traversals.add(new Traversal(relationshipType, direction, depth));
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return traversals.isEmpty();
+    }
+
+    public List<Traversal> getTraversals() {
+        return Collections.unmodifiableList(traversals);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Traversal traversal : traversals) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(traversal.relationshipType).append(' ').append(traversal.direction).append(" to depth ").append(traversal.depth);
+        }
+        return sb.toString();
+    }
+
+    public static class Traversal {
+
+        private final String relationshipType;
+        private final String direction;
+        private final int depth;
+
+        Traversal(String relationshipType, String direction, int depth) {
+            this.relationshipType = relationshipType;
+            this.direction = direction;
+            this.depth = depth;
+        }
+
+        public String getRelationshipType() {
+            return relationshipType;
+        }
+
+        public String getDirection() {
+            return direction;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.neo4j.ogm.cypher.query;
+
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+
+import java.util.Map;
+
+/**
+ * A query whose records are read both as the graph of the nodes and relationships they contain, and as the row of
+ * the values they return.
+ */
+public class GraphRowModelQuery extends ParameterisedStatement {
+
+    public GraphRowModelQuery(String cypher, Map<String, ?> parameters) {
+        super(cypher, parameters, "graph", "row");
+    }
+}
@@ -0,0 +1,41 @@
+package org.neo4j.ogm.cypher.query;
+
+/**
+ * A page of the objects a load returns, numbered from 0.
+ */
+public class Pagination {
+
+    private final int pageNumber;
+    private final int pageSize;
+
+    public Pagination(int pageNumber, int pageSize) {
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("pageNumber must not be negative but was " + pageNumber);
+        }
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive but was " + pageSize);
+        }
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
+    public int getPageNumber() {
+        return pageNumber;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the number of objects on the pages before this one
+     */
+    public long getOffset() {
+        return (long) pageNumber * pageSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("page %d of size %d", pageNumber, pageSize);
+    }
+}
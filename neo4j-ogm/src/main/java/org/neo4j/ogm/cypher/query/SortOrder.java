@@ -0,0 +1,103 @@
+package org.neo4j.ogm.cypher.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The properties by which the objects a load returns are ordered, most significant first. The properties are named
+ * as they are in the graph, as they are when loading by property.
+ */
+public class SortOrder {
+
+    public enum Direction {
+        ASC, DESC
+    }
+
+    // property names are written into the ORDER BY clause, since Cypher doesn't take them as parameters
+    private static final Pattern PROPERTY_NAME = Pattern.compile("[\\p{L}_][\\p{L}\\p{N}_]*");
+
+    private final List<Clause> clauses = new ArrayList<>();
+
+    /**
+     * Orders by the given properties in ascending order, after any properties added before.
+     *
+     * @param properties the names of the properties
+     * @return this sort order
+     */
+    public SortOrder add(String... properties) {
+        return add(Direction.ASC, properties);
+    }
+
+    /**
+     * Orders by the given properties in the given direction, after any properties added before.
+     *
+     * @param direction the direction in which to order by the properties
+     * @param properties the names of the properties
+     * @return this sort order
+     */
+    public SortOrder add(Direction direction, String... properties) {
+        if (direction == null) {
+            throw new NullPointerException("direction");
+        }
+        for (String property : properties) {
+            if (property == null || !PROPERTY_NAME.matcher(property).matches()) {
+                throw new IllegalArgumentException("Invalid property name to sort by: " + property);
+            }
+            clauses.add(new Clause(property, direction));
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+
+    public List<Clause> getClauses() {
+        return Collections.unmodifiableList(clauses);
+    }
+
+    /**
+     * @param variable the Cypher variable of the nodes to order
+     * @return the ORDER BY clause, beginning with a space, or an empty string if there is nothing to order by
+     */
+    public String toCypher(String variable) {
+        if (clauses.isEmpty()) {
+            return "";
+        }
+        StringBuilder cypher = new StringBuilder(" ORDER BY ");
+        for (int i = 0; i < clauses.size(); i++) {
+            Clause clause = clauses.get(i);
+            if (i > 0) {
+                cypher.append(", ");
+            }
+            cypher.append(variable).append('.').append(clause.property).append(' ').append(clause.direction);
+        }
+        return cypher.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toCypher("n").trim();
+    }
+
+    public static class Clause {
+
+        private final String property;
+        private final Direction direction;
+
+        Clause(String property, Direction direction) {
+            this.property = property;
+            this.direction = direction;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public Direction getDirection() {
+            return direction;
+        }
+    }
+}
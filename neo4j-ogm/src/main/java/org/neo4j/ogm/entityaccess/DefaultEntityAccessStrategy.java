@@ -11,7 +11,10 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Default implementation of {@link EntityAccessStrategy} that looks up information from {@link ClassInfo} in the following order.
@@ -24,6 +27,11 @@ import java.util.List;
  * The rationale is simply that we want annotations, whether on fields or on methods, to always take precedence, and we want to
  * use methods in preference to field access, because in many cases hydrating an object means more than just assigning values to
  * fields.
+ * <p>
+ * The accessor resolved for each class and property, relationship or parameter type is remembered, including the fact
+ * that there isn't one, so each is only resolved once. The mapping metadata doesn't change once it has been built, so
+ * remembered accessors never need to be invalidated.
+ * </p>
  */
 public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
 
@@ -35,33 +43,131 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         T makeFieldAccessor(FieldInfo fieldInfo);
     }
 
+    /** The kinds of accessor that are remembered, one for each method of {@link EntityAccessStrategy}. */
+    private static enum Kind {
+        IDENTITY_READER, PROPERTY_READER, PROPERTY_WRITER, RELATIONAL_READER, RELATIONAL_WRITER,
+        ITERABLE_READER, ITERABLE_WRITER, PROPERTY_READERS, RELATIONAL_READERS, START_NODE_READER, END_NODE_READER
+    }
+
+    /** Stands in for an accessor that couldn't be resolved, because a concurrent map can't hold null. */
+    private static final Object NO_ACCESSOR = new Object();
+
+    private final ConcurrentMap<AccessorKey, Object> accessors = new ConcurrentHashMap<>();
+
+    @Override
+    public PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
+        AccessorKey key = new AccessorKey(Kind.IDENTITY_READER, classInfo, null, null);
+        Object accessor = accessors.get(key);
+        return (PropertyReader) (accessor != null ? unwrap(accessor) : remember(key, resolveIdentityPropertyReader(classInfo)));
+    }
+
+    @Override
+    public EntityAccess getPropertyWriter(ClassInfo classInfo, String propertyName) {
+        AccessorKey key = new AccessorKey(Kind.PROPERTY_WRITER, classInfo, propertyName, null);
+        Object accessor = accessors.get(key);
+        return (EntityAccess) (accessor != null ? unwrap(accessor) : remember(key, resolvePropertyWriter(classInfo, propertyName)));
+    }
+
+    @Override
+    public PropertyReader getPropertyReader(ClassInfo classInfo, String propertyName) {
+        AccessorKey key = new AccessorKey(Kind.PROPERTY_READER, classInfo, propertyName, null);
+        Object accessor = accessors.get(key);
+        return (PropertyReader) (accessor != null ? unwrap(accessor) : remember(key, resolvePropertyReader(classInfo, propertyName)));
+    }
+
+    @Override
+    public EntityAccess getRelationalWriter(ClassInfo classInfo, String relationshipType, Object parameter) {
+        // only the type of the parameter determines the writer
+        AccessorKey key = new AccessorKey(Kind.RELATIONAL_WRITER, classInfo, relationshipType, parameter.getClass());
+        Object accessor = accessors.get(key);
+        return (EntityAccess) (accessor != null ? unwrap(accessor) : remember(key, resolveRelationalWriter(classInfo, relationshipType, parameter)));
+    }
+
+    @Override
+    public RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType) {
+        AccessorKey key = new AccessorKey(Kind.RELATIONAL_READER, classInfo, relationshipType, null);
+        Object accessor = accessors.get(key);
+        return (RelationalReader) (accessor != null ? unwrap(accessor) : remember(key, resolveRelationalReader(classInfo, relationshipType)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+        AccessorKey key = new AccessorKey(Kind.PROPERTY_READERS, classInfo, null, null);
+        Object accessor = accessors.get(key);
+        return (Collection<PropertyReader>) (accessor != null ? accessor : remember(key, Collections.unmodifiableCollection(resolvePropertyReaders(classInfo))));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
+        AccessorKey key = new AccessorKey(Kind.RELATIONAL_READERS, classInfo, null, null);
+        Object accessor = accessors.get(key);
+        return (Collection<RelationalReader>) (accessor != null ? accessor : remember(key, Collections.unmodifiableCollection(resolveRelationalReaders(classInfo))));
+    }
+
+    @Override
+    public EntityAccess getIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
+        AccessorKey key = new AccessorKey(Kind.ITERABLE_WRITER, classInfo, null, parameterType);
+        Object accessor = accessors.get(key);
+        return (EntityAccess) (accessor != null ? unwrap(accessor) : remember(key, resolveIterableWriter(classInfo, parameterType)));
+    }
+
+    @Override
+    public RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType) {
+        AccessorKey key = new AccessorKey(Kind.ITERABLE_READER, classInfo, null, parameterType);
+        Object accessor = accessors.get(key);
+        return (RelationalReader) (accessor != null ? unwrap(accessor) : remember(key, resolveIterableReader(classInfo, parameterType)));
+    }
+
+    @Override
+    public RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
+        AccessorKey key = new AccessorKey(Kind.END_NODE_READER, relationshipEntityClassInfo, null, null);
+        Object accessor = accessors.get(key);
+        return (RelationalReader) (accessor != null ? unwrap(accessor) : remember(key, resolveEndNodeReader(relationshipEntityClassInfo)));
+    }
+
     @Override
-    public EntityAccess getPropertyWriter(final ClassInfo classInfo, String propertyName) {
+    public RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
+        AccessorKey key = new AccessorKey(Kind.START_NODE_READER, relationshipEntityClassInfo, null, null);
+        Object accessor = accessors.get(key);
+        return (RelationalReader) (accessor != null ? unwrap(accessor) : remember(key, resolveStartNodeReader(relationshipEntityClassInfo)));
+    }
+
+    private Object remember(AccessorKey key, Object accessor) {
+        accessors.putIfAbsent(key, accessor != null ? accessor : NO_ACCESSOR);
+        return accessor;
+    }
+
+    private static Object unwrap(Object accessor) {
+        return accessor == NO_ACCESSOR ? null : accessor;
+    }
+
+    private EntityAccess resolvePropertyWriter(final ClassInfo classInfo, String propertyName) {
         MethodInfo setterInfo = classInfo.propertySetter(propertyName);
         return determinePropertyAccessor(classInfo, propertyName, setterInfo, new AccessorFactory<EntityAccess>() {
             @Override
             public EntityAccess makeMethodAccessor(MethodInfo methodInfo) {
-                return new MethodWriter(classInfo, methodInfo);
+                return methodWriter(classInfo, methodInfo);
             }
 
             @Override
             public EntityAccess makeFieldAccessor(FieldInfo fieldInfo) {
-                return new FieldWriter(classInfo, fieldInfo);
+                return fieldWriter(classInfo, fieldInfo);
             }
         });
     }
 
-    @Override
-    public PropertyReader getPropertyReader(final ClassInfo classInfo, String propertyName) {
+    private PropertyReader resolvePropertyReader(final ClassInfo classInfo, String propertyName) {
         MethodInfo getterInfo = classInfo.propertyGetter(propertyName);
         return determinePropertyAccessor(classInfo, propertyName, getterInfo, new AccessorFactory<PropertyReader>() {
             @Override
             public PropertyReader makeMethodAccessor(MethodInfo methodInfo) {
-                return new MethodReader(classInfo, methodInfo);
+                return methodReader(classInfo, methodInfo);
             }
             @Override
             public PropertyReader makeFieldAccessor(FieldInfo fieldInfo) {
-                return new FieldReader(classInfo, fieldInfo);
+                return fieldReader(classInfo, fieldInfo);
             }
         });
     }
@@ -87,22 +193,21 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public EntityAccess getRelationalWriter(ClassInfo classInfo, String relationshipType, Object parameter) {
+    private EntityAccess resolveRelationalWriter(ClassInfo classInfo, String relationshipType, Object parameter) {
 
         // 1st, try to find a method annotated with the relationship type.
         MethodInfo methodInfo = classInfo.relationshipSetter(relationshipType);
         if (methodInfo != null && !methodInfo.getAnnotations().isEmpty()) {
             Class<?> setterParameterType = ClassUtils.getType(methodInfo.getDescriptor());
             if (setterParameterType.isAssignableFrom(parameter.getClass())) {
-                return new MethodWriter(classInfo, methodInfo);
+                return methodWriter(classInfo, methodInfo);
             }
         }
 
         // 2nd, try to find a field called or annotated as the neo4j relationship type
         FieldInfo fieldInfo = classInfo.relationshipField(relationshipType);
         if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty() && fieldInfo.isTypeOf(parameter.getClass())) {
-            return new FieldWriter(classInfo, fieldInfo);
+            return fieldWriter(classInfo, fieldInfo);
         }
 
         // 3rd, try to find a "setXYZ" method where XYZ is derived from the relationship type
@@ -110,61 +215,59 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         if (methodInfo != null) {
             Class<?> setterParameterType = ClassUtils.getType(methodInfo.getDescriptor());
             if (setterParameterType.isAssignableFrom(parameter.getClass())) {
-                return new MethodWriter(classInfo, methodInfo);
+                return methodWriter(classInfo, methodInfo);
             }
         }
 
         // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
         fieldInfo = classInfo.relationshipField(relationshipType);
         if (fieldInfo != null && fieldInfo.isTypeOf(parameter.getClass())) {
-            return new FieldWriter(classInfo, fieldInfo);
+            return fieldWriter(classInfo, fieldInfo);
         }
 
         // 5th, try to find a single setter that takes the parameter
         List<MethodInfo> methodInfos = classInfo.findSetters(parameter.getClass());
         if (methodInfos.size() == 1) {
-            return new MethodWriter(classInfo, methodInfos.iterator().next());
+            return methodWriter(classInfo, methodInfos.iterator().next());
         }
 
         // 6th, try to find a field that shares the same type as the parameter
         List<FieldInfo> fieldInfos = classInfo.findFields(parameter.getClass());
         if (fieldInfos.size() == 1) {
-            return new FieldWriter(classInfo, fieldInfos.iterator().next());
+            return fieldWriter(classInfo, fieldInfos.iterator().next());
         }
 
         return null;
     }
 
-    @Override
-    public RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType) {
+    private RelationalReader resolveRelationalReader(ClassInfo classInfo, String relationshipType) {
         // 1st, try to find a method annotated with the relationship type.
         MethodInfo methodInfo = classInfo.relationshipGetter(relationshipType);
         if (methodInfo != null && !methodInfo.getAnnotations().isEmpty()) {
-            return new MethodReader(classInfo, methodInfo);
+            return methodReader(classInfo, methodInfo);
         }
 
         // 2nd, try to find a field called or annotated as the neo4j relationship type
         FieldInfo fieldInfo = classInfo.relationshipField(relationshipType);
         if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-            return new FieldReader(classInfo, fieldInfo);
+            return fieldReader(classInfo, fieldInfo);
         }
 
         // 3rd, try to find a "getXYZ" method where XYZ is derived from the given relationship type
         if (methodInfo != null) {
-            return new MethodReader(classInfo, methodInfo);
+            return methodReader(classInfo, methodInfo);
         }
 
         // 4th, try to find a "XYZ" field name where XYZ is derived from the relationship type
         if (fieldInfo != null) {
-            return new FieldReader(classInfo, fieldInfo);
+            return fieldReader(classInfo, fieldInfo);
         }
 
         //
         return null;
     }
 
-    @Override
-    public Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+    private Collection<PropertyReader> resolvePropertyReaders(ClassInfo classInfo) {
         // do we care about "implicit" fields?  i.e., setX/getX with no matching X field
 
         Collection<PropertyReader> readers = new ArrayList<>();
@@ -172,28 +275,27 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
             MethodInfo getterInfo = classInfo.propertyGetter(fieldInfo.property());
             if (getterInfo != null) {
                 if (!getterInfo.getAnnotations().isEmpty() || fieldInfo.getAnnotations().isEmpty()) {
-                    readers.add(new MethodReader(classInfo, getterInfo));
+                    readers.add(methodReader(classInfo, getterInfo));
                     continue;
                 }
             }
-            readers.add(new FieldReader(classInfo, fieldInfo));
+            readers.add(fieldReader(classInfo, fieldInfo));
         }
         return readers;
     }
 
-    @Override
-    public Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
+    private Collection<RelationalReader> resolveRelationalReaders(ClassInfo classInfo) {
         Collection<RelationalReader> readers = new ArrayList<>();
         for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
             MethodInfo getterInfo = classInfo.methodsInfo().get(inferGetterName(fieldInfo));
 
             if (getterInfo != null) {
                 if (!getterInfo.getAnnotations().isEmpty() || fieldInfo.getAnnotations().isEmpty()) {
-                    readers.add(new MethodReader(classInfo, getterInfo));
+                    readers.add(methodReader(classInfo, getterInfo));
                     continue;
                 }
             }
-            readers.add(new FieldReader(classInfo, fieldInfo));
+            readers.add(fieldReader(classInfo, fieldInfo));
         }
         return readers;
     }
@@ -204,39 +306,35 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return getterNameBuilder.insert(0, "get").toString();
     }
 
-    @Override
-    public EntityAccess getIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
+    private EntityAccess resolveIterableWriter(ClassInfo classInfo, Class<?> parameterType) {
         MethodInfo methodInfo = getIterableSetterMethodInfo(classInfo, parameterType);
         if (methodInfo != null) {
-            return new MethodWriter(classInfo, methodInfo);
+            return methodWriter(classInfo, methodInfo);
         }
         FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType);
         if (fieldInfo != null) {
-            return new FieldWriter(classInfo, fieldInfo);
+            return fieldWriter(classInfo, fieldInfo);
         }
         return null;
     }
 
-    @Override
-    public RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType) {
+    private RelationalReader resolveIterableReader(ClassInfo classInfo, Class<?> parameterType) {
         MethodInfo methodInfo = getIterableGetterMethodInfo(classInfo, parameterType);
         if (methodInfo != null) {
-            return new MethodReader(classInfo, methodInfo);
+            return methodReader(classInfo, methodInfo);
         }
         FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType);
         if (fieldInfo != null) {
-            return new FieldReader(classInfo, fieldInfo);
+            return fieldReader(classInfo, fieldInfo);
         }
         return null;
     }
 
-    @Override
-    public PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
-        return new FieldReader(classInfo, classInfo.identityField());
+    private PropertyReader resolveIdentityPropertyReader(ClassInfo classInfo) {
+        return fieldReader(classInfo, classInfo.identityField());
     }
 
-    @Override
-    public RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
+    private RelationalReader resolveEndNodeReader(ClassInfo relationshipEntityClassInfo) {
         for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
             if (fieldInfo.getAnnotations().get(EndNode.CLASS) != null) {
                 return getRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
@@ -246,8 +344,7 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
-    @Override
-    public RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
+    private RelationalReader resolveStartNodeReader(ClassInfo relationshipEntityClassInfo) {
         for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
             if (fieldInfo.getAnnotations().get(StartNode.CLASS) != null) {
                 return getRelationalReader(relationshipEntityClassInfo, fieldInfo.getName());
@@ -257,6 +354,26 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
+    /**
+     * Creates the object through which the given field is read. Subclasses may override this and the other accessor
+     * factory methods to change how members are accessed without changing how they are chosen.
+     */
+    protected FieldReader fieldReader(ClassInfo classInfo, FieldInfo fieldInfo) {
+        return new FieldReader(classInfo, fieldInfo);
+    }
+
+    protected FieldWriter fieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
+        return new FieldWriter(classInfo, fieldInfo);
+    }
+
+    protected MethodReader methodReader(ClassInfo classInfo, MethodInfo methodInfo) {
+        return new MethodReader(classInfo, methodInfo);
+    }
+
+    protected MethodWriter methodWriter(ClassInfo classInfo, MethodInfo methodInfo) {
+        return new MethodWriter(classInfo, methodInfo);
+    }
+
     private MethodInfo getIterableSetterMethodInfo(ClassInfo classInfo, Class<?> parameterType) {
         List<MethodInfo> methodInfos = classInfo.findIterableSetters(parameterType);
         if (methodInfos.size() == 1) {
@@ -304,4 +421,41 @@ public class DefaultEntityAccessStrategy implements EntityAccessStrategy {
         return null;
     }
 
+    /**
+     * Identifies a resolved accessor by its kind, its class and the property or relationship type and the parameter
+     * type it was resolved for, where these apply.
+     */
+    private static class AccessorKey {
+
+        private final Kind kind;
+        private final ClassInfo classInfo;
+        private final String name;
+        private final Class<?> type;
+
+        AccessorKey(Kind kind, ClassInfo classInfo, String name, Class<?> type) {
+            this.kind = kind;
+            this.classInfo = classInfo;
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AccessorKey)) return false;
+            AccessorKey that = (AccessorKey) o;
+            return kind == that.kind && classInfo == that.classInfo && type == that.type
+                    && (name == null ? that.name == null : name.equals(that.name));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = kind.hashCode();
+            result = 31 * result + System.identityHashCode(classInfo);
+            result = 31 * result + (name != null ? name.hashCode() : 0);
+            result = 31 * result + (type != null ? type.hashCode() : 0);
+            return result;
+        }
+    }
+
 }
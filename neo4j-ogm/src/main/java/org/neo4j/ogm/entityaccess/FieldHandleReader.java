@@ -0,0 +1,39 @@
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * A {@link FieldReader} that reads the field through a {@link MethodHandle} resolved when it is constructed.
+ */
+class FieldHandleReader extends FieldReader {
+
+    private final MethodHandle getter;
+
+    FieldHandleReader(ClassInfo classInfo, FieldInfo fieldInfo) {
+        super(classInfo, fieldInfo);
+        Field field = classInfo.getField(fieldInfo);
+        try {
+            field.setAccessible(true);
+            this.getter = MethodHandles.lookup().unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new EntityAccessException("Failed to access field '" + field.getName() + "'", e);
+        }
+    }
+
+    @Override
+    protected Object get(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+}
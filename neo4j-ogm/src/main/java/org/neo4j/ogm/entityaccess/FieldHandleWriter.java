@@ -0,0 +1,37 @@
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * A {@link FieldWriter} that writes the field through a {@link MethodHandle} resolved when it is constructed.
+ */
+class FieldHandleWriter extends FieldWriter {
+
+    private final MethodHandle setter;
+
+    FieldHandleWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
+        super(classInfo, fieldInfo);
+        try {
+            field.setAccessible(true);
+            this.setter = MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new EntityAccessException("Failed to access field '" + field.getName() + "'", e);
+        }
+    }
+
+    @Override
+    protected void set(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+}
@@ -16,13 +16,20 @@ public class FieldReader implements RelationalReader, PropertyReader {
 
     @Override
     public Object read(Object instance) {
-        Object value = FieldWriter.read(classInfo.getField(fieldInfo), instance);
+        Object value = get(instance);
         if (fieldInfo.hasConverter()) {
             value = fieldInfo.converter().toGraphProperty(value);
         }
         return value;
     }
 
+    /**
+     * Reads the value of the field, before any conversion to a graph property.
+     */
+    protected Object get(Object instance) {
+        return FieldWriter.read(classInfo.getField(fieldInfo), instance);
+    }
+
     @Override
     public String relationshipType() {
         return fieldInfo.relationship();
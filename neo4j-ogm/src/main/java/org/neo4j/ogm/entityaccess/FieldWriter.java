@@ -8,7 +8,7 @@ import java.lang.reflect.Field;
 public class FieldWriter extends EntityAccess {
 
     private final FieldInfo fieldInfo;
-    private final Field field;
+    protected final Field field;
     private final Class<?> fieldType;
 
     public FieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
@@ -40,6 +40,13 @@ public class FieldWriter extends EntityAccess {
         if (fieldInfo.hasConverter()) {
             value = fieldInfo.converter().toEntityAttribute(value);
         }
+        set(instance, value);
+    }
+
+    /**
+     * Writes the value to the field, after any conversion to an entity attribute.
+     */
+    protected void set(Object instance, Object value) {
         FieldWriter.write(field, instance, value);
     }
 
@@ -0,0 +1,97 @@
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
+import org.neo4j.ogm.metadata.info.MethodInfo;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An {@link EntityAccessStrategy} that chooses the members through which entities are accessed in the same way as
+ * {@link DefaultEntityAccessStrategy}, but accesses them through method handles rather than reflection.
+ *
+ * The reflective accessors look up the field or method of their class each time they read a value, whereas the
+ * accessors of this strategy resolve their method handle once, when they are created. Each accessor is created once
+ * per class and member, and kept for the lifetime of the strategy, so an instance of this strategy should be shared
+ * rather than created for each operation.
+ */
+public class MethodHandleEntityAccessStrategy extends DefaultEntityAccessStrategy {
+
+    private final ConcurrentMap<Member, FieldReader> fieldReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Member, FieldWriter> fieldWriters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Member, MethodReader> methodReaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Member, MethodWriter> methodWriters = new ConcurrentHashMap<>();
+
+    @Override
+    protected FieldReader fieldReader(ClassInfo classInfo, FieldInfo fieldInfo) {
+        Member member = new Member(classInfo, fieldInfo);
+        FieldReader reader = fieldReaders.get(member);
+        if (reader == null) {
+            reader = putIfAbsent(fieldReaders, member, new FieldHandleReader(classInfo, fieldInfo));
+        }
+        return reader;
+    }
+
+    @Override
+    protected FieldWriter fieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
+        Member member = new Member(classInfo, fieldInfo);
+        FieldWriter writer = fieldWriters.get(member);
+        if (writer == null) {
+            writer = putIfAbsent(fieldWriters, member, new FieldHandleWriter(classInfo, fieldInfo));
+        }
+        return writer;
+    }
+
+    @Override
+    protected MethodReader methodReader(ClassInfo classInfo, MethodInfo methodInfo) {
+        Member member = new Member(classInfo, methodInfo);
+        MethodReader reader = methodReaders.get(member);
+        if (reader == null) {
+            reader = putIfAbsent(methodReaders, member, new MethodHandleReader(classInfo, methodInfo));
+        }
+        return reader;
+    }
+
+    @Override
+    protected MethodWriter methodWriter(ClassInfo classInfo, MethodInfo methodInfo) {
+        Member member = new Member(classInfo, methodInfo);
+        MethodWriter writer = methodWriters.get(member);
+        if (writer == null) {
+            writer = putIfAbsent(methodWriters, member, new MethodHandleWriter(classInfo, methodInfo));
+        }
+        return writer;
+    }
+
+    private static <T> T putIfAbsent(ConcurrentMap<Member, T> accessors, Member member, T accessor) {
+        T existing = accessors.putIfAbsent(member, accessor);
+        return existing != null ? existing : accessor;
+    }
+
+    /**
+     * A field or method of a class, identified by the metadata describing them.
+     */
+    private static class Member {
+
+        private final ClassInfo classInfo;
+        private final Object memberInfo;
+
+        Member(ClassInfo classInfo, Object memberInfo) {
+            this.classInfo = classInfo;
+            this.memberInfo = memberInfo;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Member)) return false;
+            Member that = (Member) o;
+            return classInfo == that.classInfo && memberInfo == that.memberInfo;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(classInfo) + System.identityHashCode(memberInfo);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.MethodInfo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link MethodReader} that invokes the getter through a {@link MethodHandle} resolved when it is constructed.
+ */
+class MethodHandleReader extends MethodReader {
+
+    private final MethodHandle getter;
+
+    MethodHandleReader(ClassInfo classInfo, MethodInfo methodInfo) {
+        super(classInfo, methodInfo);
+        Method method = classInfo.getMethod(methodInfo);
+        try {
+            method.setAccessible(true);
+            this.getter = MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new EntityAccessException("Failed to access method '" + method.getName() + "'", e);
+        }
+    }
+
+    @Override
+    protected Object invoke(Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.neo4j.ogm.entityaccess;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.MethodInfo;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * A {@link MethodWriter} that invokes the setter through a {@link MethodHandle} resolved when it is constructed.
+ */
+class MethodHandleWriter extends MethodWriter {
+
+    private final MethodHandle setter;
+
+    MethodHandleWriter(ClassInfo classInfo, MethodInfo methodInfo) {
+        super(classInfo, methodInfo);
+        try {
+            method.setAccessible(true);
+            this.setter = MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new EntityAccessException("Failed to access method '" + method.getName() + "'", e);
+        }
+    }
+
+    @Override
+    protected void invoke(Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException cce) {
+            throw new EntityAccessException("Failed to invoke method '" + method.getName() + "'. Expected argument type: " + method.getParameterTypes()[0] + " actual argument type: " + value.getClass(), cce);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new EntityAccessException("Failed to invoke method '" + method.getName() + "'", t);
+        }
+    }
+}
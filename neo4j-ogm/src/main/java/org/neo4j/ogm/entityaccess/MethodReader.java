@@ -16,13 +16,20 @@ public class MethodReader implements RelationalReader, PropertyReader {
 
     @Override
     public Object read(Object instance) {
-        Object value = MethodWriter.read(classInfo.getMethod(methodInfo), instance);
+        Object value = invoke(instance);
         if (methodInfo.hasConverter()) {
             value = methodInfo.converter().toGraphProperty(value);
         }
         return value;
     }
 
+    /**
+     * Invokes the getter, returning its result before any conversion to a graph property.
+     */
+    protected Object invoke(Object instance) {
+        return MethodWriter.read(classInfo.getMethod(methodInfo), instance);
+    }
+
     @Override
     public String relationshipType() {
         return methodInfo.relationship();
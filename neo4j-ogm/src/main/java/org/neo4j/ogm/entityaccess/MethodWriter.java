@@ -10,7 +10,7 @@ public class MethodWriter extends EntityAccess {
 
     private final MethodInfo setterMethodInfo;
     private final Class<?> parameterType;
-    private final Method method;
+    protected final Method method;
 
     MethodWriter(ClassInfo classInfo, MethodInfo methodInfo) {
         this.setterMethodInfo = methodInfo;
@@ -42,6 +42,13 @@ public class MethodWriter extends EntityAccess {
         if (setterMethodInfo.hasConverter()) {
             value = setterMethodInfo.converter().toEntityAttribute(value);
         }
+        invoke(instance, value);
+    }
+
+    /**
+     * Invokes the setter with the value, after any conversion to an entity attribute.
+     */
+    protected void invoke(Object instance, Object value) {
         MethodWriter.write(method, instance, value);
     }
 
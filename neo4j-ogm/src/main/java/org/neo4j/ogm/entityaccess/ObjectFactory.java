@@ -6,11 +6,26 @@ import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 
-import java.util.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 
 public class ObjectFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    // the zero-argument constructor of each class instantiated, made accessible once so that classes whose constructor
+    // isn't public can be instantiated without checking access each time
+    private static final ClassValue<Constructor<?>> constructors = new ClassValue<Constructor<?>>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor;
+            } catch (NoSuchMethodException | SecurityException e) {
+                throw new MappingException("Unable to find a zero-argument constructor for class: " + type.getName(), e);
+            }
+        }
+    };
 
     private final MetaData metadata;
 
@@ -48,30 +63,23 @@ public class ObjectFactory {
             throw new MappingException("Cannot map to a class with no taxa by which to determine the class name.");
         }
 
-        String fqn = resolve(taxa);
+        ClassInfo classInfo = resolve(taxa);
 
         try {
             @SuppressWarnings("unchecked")
-            Class<T> className = (Class<T>) Class.forName(fqn);
-            return className.newInstance();
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
-            throw new MappingException("Unable to instantiate class: " + fqn, e);
+            T instance = (T) constructors.get(classInfo.type()).newInstance();
+            return instance;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new MappingException("Unable to instantiate class: " + classInfo.name(), e);
         }
     }
 
-    private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
-
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo != null) {
-                taxaLeafClass.put(Arrays.toString(taxa), fqn=classInfo.name());
-            } else {
-                throw new MappingException("Could not resolve a single base class from " + taxa);
-            }
+    private ClassInfo resolve(String... taxa) {
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new MappingException("Could not resolve a single base class from " + Arrays.toString(taxa));
         }
-        return fqn;
+        return classInfo;
     }
 
-}
\ No newline at end of file
+}
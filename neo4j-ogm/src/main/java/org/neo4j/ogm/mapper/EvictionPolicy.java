@@ -0,0 +1,73 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * Determines when the {@link MappingContext} of a session lets go of the objects it has loaded or saved.
+ *
+ * <ul>
+ *     <li>{@link #NONE} keeps every object for the lifetime of the session. This is the default.</li>
+ *     <li>{@link #weakReferences()} forgets an object as soon as the application no longer references it.</li>
+ *     <li>{@link #softReferences()} forgets an object that the application no longer references when the JVM
+ *     needs to reclaim memory.</li>
+ *     <li>{@link #leastRecentlyUsed(int)} keeps at most the given number of nodes and the given number of
+ *     relationship entities, forgetting the least recently used ones first.</li>
+ * </ul>
+ *
+ * Under the reference-based policies, an object is only forgotten once it is unreachable, so dirty checking remains
+ * correct for every object the application can still save. The least-recently-used policy cannot know whether the
+ * application still holds an object it evicts: such an object is treated as dirty when it is next saved, and loading
+ * it again creates a new instance.
+ */
+public final class EvictionPolicy {
+
+    public enum Strategy {
+        NONE, WEAK, SOFT, LRU
+    }
+
+    public static final EvictionPolicy NONE = new EvictionPolicy(Strategy.NONE, 0);
+
+    private static final EvictionPolicy WEAK = new EvictionPolicy(Strategy.WEAK, 0);
+    private static final EvictionPolicy SOFT = new EvictionPolicy(Strategy.SOFT, 0);
+
+    private final Strategy strategy;
+    private final int maxEntries;
+
+    private EvictionPolicy(Strategy strategy, int maxEntries) {
+        this.strategy = strategy;
+        this.maxEntries = maxEntries;
+    }
+
+    public static EvictionPolicy weakReferences() {
+        return WEAK;
+    }
+
+    public static EvictionPolicy softReferences() {
+        return SOFT;
+    }
+
+    /**
+     * @param maxEntries The maximum number of nodes, and of relationship entities, to keep in the mapping context
+     * @return An {@link EvictionPolicy} that evicts the least recently used objects beyond the given number
+     */
+    public static EvictionPolicy leastRecentlyUsed(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive but was " + maxEntries);
+        }
+        return new EvictionPolicy(Strategy.LRU, maxEntries);
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return The maximum number of entries kept under the {@link Strategy#LRU} strategy, 0 otherwise
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    @Override
+    public String toString() {
+        return strategy == Strategy.LRU ? "LRU(" + maxEntries + ")" : strategy.name();
+    }
+}
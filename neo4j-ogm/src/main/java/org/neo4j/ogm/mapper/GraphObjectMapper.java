@@ -1,8 +1,10 @@
 package org.neo4j.ogm.mapper;
 
+import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.entityaccess.*;
 import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.info.AnnotationInfo;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
@@ -12,6 +14,9 @@ import org.neo4j.ogm.model.RelationshipModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -24,11 +29,34 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
     private final MetaData metadata;
     private final EntityAccessStrategy entityAccessStrategy;
 
+    // the objects mapped by this mapper, held strongly so that a mapping context with a reference-based eviction
+    // policy can't let go of them before the whole response has been mapped and handed to the application
+    private final LongObjectMap<Object> nodes = new LongObjectMap<>();
+    private final LongObjectMap<Object> relationshipEntities = new LongObjectMap<>();
+
+    // where the load being mapped stopped, if the objects beyond it are to be loaded lazily
+    private final LoadBoundary boundary;
+
     public GraphObjectMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, new DefaultEntityAccessStrategy());
+    }
+
+    public GraphObjectMapper(MetaData metaData, MappingContext mappingContext, EntityAccessStrategy entityAccessStrategy) {
+        this(metaData, mappingContext, entityAccessStrategy, null);
+    }
+
+    /**
+     * Creates a mapper that gives the objects at the boundary of a load {@link LazyCollection}s in place of their
+     * relationship collections, which fetch the related objects that weren't loaded when they are first used.
+     *
+     * @param boundary the boundary of the load whose results are mapped, or <code>null</code> to map them as they are
+     */
+    public GraphObjectMapper(MetaData metaData, MappingContext mappingContext, EntityAccessStrategy entityAccessStrategy, LoadBoundary boundary) {
         this.metadata = metaData;
         this.objectFactory = new ObjectFactory(metadata);
         this.mappingContext = mappingContext;
-        this.entityAccessStrategy = new DefaultEntityAccessStrategy();
+        this.entityAccessStrategy = entityAccessStrategy;
+        this.boundary = boundary;
     }
 
     @Override
@@ -45,36 +73,192 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
         }
     }
 
+    /**
+     * Maps the nodes and relationships of a graph model onto the objects of the mapping context, without collecting
+     * any of them.
+     *
+     * @param graphModel the graph model to map
+     */
+    public void map(GraphModel graphModel) {
+        map(Object.class, graphModel);
+    }
+
+    /**
+     * @param id the id of a node
+     * @return the object mapped from the node with the given id by this mapper, or <code>null</code> if it hasn't
+     * mapped one
+     */
+    public Object node(Long id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * @param id the id of a relationship
+     * @return the relationship entity mapped from the relationship with the given id by this mapper, or
+     * <code>null</code> if it hasn't mapped one
+     */
+    public Object relationshipEntity(Long id) {
+        return relationshipEntities.get(id);
+    }
+
     private <T> void map(Class<T> type, GraphModel graphModel) {
         try {
-            mapNodes(graphModel);
+            Set<Object> created = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+            List<Object> nodes = mapNodes(graphModel, created);
             mapRelationships(graphModel);
+            if (boundary != null && boundary.depth() >= 0) {
+                setLazyCollections(graphModel, created);
+            }
+            rememberObjects(nodes, graphModel);
         } catch (Exception e) {
             throw new MappingException("Error mapping GraphModel to instance of " + type.getName(), e);
         }
     }
 
-    private void mapNodes(GraphModel graphModel) {
+    private List<Object> mapNodes(GraphModel graphModel, Set<Object> created) {
+        List<Object> nodes = new ArrayList<>();
         for (NodeModel node : graphModel.getNodes()) {
             Object object = mappingContext.get(node.getId());
             if (object == null) {
                 object = mappingContext.registerNode(objectFactory.newObject(node), node.getId());
+                created.add(object);
             }
             setIdentity(object, node.getId());
             setProperties(node, object);
-            mappingContext.remember(object);
+            nodes.add(object);
+            this.nodes.put(node.getId(), object);
+        }
+        return nodes;
+    }
+
+    /**
+     * Gives the objects at the boundary of the load lazy collections in place of their relationship collections, and
+     * marks the lazy collections of the objects within it as loaded, since all their relationships have been mapped.
+     *
+     * Each lazy collection loads the relationships of the direction its field declares. The collections of objects
+     * that were already in the mapping context are left as they are, unless they are null, because they may hold
+     * changes that haven't been saved.
+     *
+     * A root node that isn't part of the graph model, such as the owner of a lazy collection whose related objects
+     * are being loaded, has had all its relationships in the direction of the load loaded as well.
+     */
+    private void setLazyCollections(GraphModel graphModel, Set<Object> created) {
+        Map<Long, Integer> distances = distancesFromRoots(graphModel);
+        for (NodeModel node : graphModel.getNodes()) {
+            Object object = nodes.get(node.getId());
+            Integer distance = distances.get(node.getId());
+            if (distance == null || distance >= boundary.depth()) {
+                setLazyCollections(object, node.getId(), created.contains(object));
+            } else {
+                markLazyCollectionsLoaded(object, distance == 0);
+            }
+        }
+        if (boundary.depth() > 0) {
+            for (Long id : boundary.rootIds()) {
+                Object object = mappingContext.get(id);
+                if (object != null && !nodes.containsKey(id)) {
+                    markLazyCollectionsLoaded(object, true);
+                }
+            }
+        }
+    }
+
+    private void setLazyCollections(Object object, Long id, boolean created) {
+        ClassInfo classInfo = metadata.classInfo(object);
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            Field field = classInfo.getField(fieldInfo);
+            Object value = FieldWriter.read(field, object);
+            if (!(value instanceof LazyCollection)
+                    && (value == null || (value instanceof Iterable && created))
+                    && LazyCollections.supports(field.getType())) {
+                FieldWriter.write(field, object, LazyCollections.create(field.getType(), (Iterable<?>) value,
+                        boundary.loader(), object, id, direction(fieldInfo)));
+            }
+        }
+    }
+
+    // a root node has only had the relationships of the direction of the load loaded
+    private void markLazyCollectionsLoaded(Object object, boolean root) {
+        ClassInfo classInfo = metadata.classInfo(object);
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            if (root && !boundary.reachesFromRoots(direction(fieldInfo))) {
+                continue;
+            }
+            Object value = FieldWriter.read(classInfo.getField(fieldInfo), object);
+            if (LazyCollections.unloaded(value)) {
+                LazyCollections.markLoaded(value);
+            }
+        }
+    }
+
+    // the length of the shortest undirected path from a root node to each node, as the loads follow paths of any direction
+    private Map<Long, Integer> distancesFromRoots(GraphModel graphModel) {
+        Map<Long, List<Long>> neighbours = new HashMap<>();
+        for (RelationshipModel edge : graphModel.getRelationships()) {
+            neighbours(neighbours, edge.getStartNode()).add(edge.getEndNode());
+            neighbours(neighbours, edge.getEndNode()).add(edge.getStartNode());
+        }
+        Map<Long, Integer> distances = new HashMap<>();
+        Deque<Long> queue = new ArrayDeque<>();
+        for (NodeModel node : graphModel.getNodes()) {
+            if (boundary.isRoot(node)) {
+                distances.put(node.getId(), 0);
+                queue.add(node.getId());
+            }
+        }
+        while (!queue.isEmpty()) {
+            Long id = queue.poll();
+            int distance = distances.get(id) + 1;
+            List<Long> next = neighbours.get(id);
+            if (next != null) {
+                for (Long neighbour : next) {
+                    if (!distances.containsKey(neighbour)) {
+                        distances.put(neighbour, distance);
+                        queue.add(neighbour);
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static List<Long> neighbours(Map<Long, List<Long>> neighbours, Long id) {
+        List<Long> list = neighbours.get(id);
+        if (list == null) {
+            list = new ArrayList<>();
+            neighbours.put(id, list);
+        }
+        return list;
+    }
+
+    private static String direction(FieldInfo fieldInfo) {
+        AnnotationInfo annotation = fieldInfo.getAnnotations().get(Relationship.CLASS);
+        return annotation == null ? Relationship.OUTGOING : annotation.get(Relationship.DIRECTION, Relationship.OUTGOING);
+    }
+
+    // the objects are only remembered once their relationships have been mapped, because those are remembered too
+    private void rememberObjects(List<Object> nodes, GraphModel graphModel) {
+        for (Object node : nodes) {
+            mappingContext.remember(node);
+        }
+        for (RelationshipModel edge : graphModel.getRelationships()) {
+            Object relationshipEntity = mappingContext.peekRelationshipEntity(edge.getId());
+            if (relationshipEntity != null) {
+                relationshipEntities.put(edge.getId(), relationshipEntity);
+                mappingContext.remember(relationshipEntity);
+            }
         }
     }
 
     private void setIdentity(Object instance, Long id) {
-        ClassInfo classInfo = metadata.classInfo(instance.getClass().getName());
+        ClassInfo classInfo = metadata.classInfo(instance);
         FieldInfo fieldInfo = classInfo.identityField();
         FieldWriter.write(classInfo.getField(fieldInfo), instance, id);
     }
 
     private void setProperties(NodeModel nodeModel, Object instance) {
         // cache this.
-        ClassInfo classInfo = metadata.classInfo(instance.getClass().getName());
+        ClassInfo classInfo = metadata.classInfo(instance);
         for (Property property : nodeModel.getPropertyList()) {
             writeProperty(classInfo, instance, property);
         }
@@ -82,7 +266,7 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
 
     private void setProperties(RelationshipModel relationshipModel, Object instance) {
         // cache this.
-        ClassInfo classInfo = metadata.classInfo(instance.getClass().getName());
+        ClassInfo classInfo = metadata.classInfo(instance);
         if (relationshipModel.getProperties() != null) {
         for (Entry<String, Object> property : relationshipModel.getProperties().entrySet()) {
             writeProperty(classInfo, instance, Property.with(property.getKey(), property.getValue()));
@@ -116,14 +300,14 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
     private boolean mapOneToOne(Object source, Object parameter, RelationshipModel edge) {
 
         String edgeLabel = edge.getType();
-        ClassInfo sourceInfo = metadata.classInfo(source.getClass().getName());
+        ClassInfo sourceInfo = metadata.classInfo(source);
 
         RelationalWriter objectAccess = entityAccessStrategy.getRelationalWriter(sourceInfo, edgeLabel, parameter);
         if (objectAccess != null) {
             objectAccess.write(source, parameter);
             // FIXME: this doesn't remember the right relationship type when objectAccess sets a RelEntity
             // indeed, why do we use objectAccess.relationshipName instead of just edge.getType?
-            mappingContext.remember(new MappedRelationship(edge.getStartNode(), edgeLabel, edge.getEndNode()));
+            mappingContext.remember(new MappedRelationship(edge.getStartNode(), edgeLabel, edge.getEndNode(), edge.getId()));
             return true;
         }
 
@@ -133,6 +317,7 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
     private void mapRelationships(GraphModel graphModel) {
 
         final Set<RelationshipModel> oneToMany = new HashSet<>();
+        final Set<RelationshipModel> incoming = new HashSet<>();
 
         for (RelationshipModel edge : graphModel.getRelationships()) {
             Object source = mappingContext.get(edge.getStartNode());
@@ -157,7 +342,7 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
                     // now, we could just insist that you annotate start/end nodes and resolve these via EAS
                     // Do even we want to have a "simple" strategy for this given anno's are a must for EA anyway?
                     // - still should ask EAS if it's field/method, even if we do look for @StartNode rather than @Relationship
-                    ClassInfo relEntityInfo = metadata.classInfo(relationshipEntity.getClass().getName());
+                    ClassInfo relEntityInfo = metadata.classInfo(relationshipEntity);
                     RelationalWriter startNodeAccess = entityAccessStrategy.getRelationalWriter(relEntityInfo, edge.getType(), source);
                     if (startNodeAccess != null) {
                         startNodeAccess.write(relationshipEntity, source);
@@ -170,23 +355,23 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
                 }
 
                 // source.setRelationshipEntity
-                ClassInfo sourceInfo = metadata.classInfo(source.getClass().getName());
+                ClassInfo sourceInfo = metadata.classInfo(source);
                 RelationalWriter sourceAccess = entityAccessStrategy.getRelationalWriter(sourceInfo, edge.getType(), relationshipEntity);
                 if (sourceAccess != null) {
                     sourceAccess.write(source, relationshipEntity);
-                    mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode()));
+                    mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId()));
                 } else {
                     // cannot set RE on source as one-to-one
                     oneToMany.add(edge);
                 }
 
                 // target.setRelationshipEntity
-                ClassInfo targetInfo = metadata.classInfo(target.getClass().getName());
+                ClassInfo targetInfo = metadata.classInfo(target);
                 RelationalWriter targetAccess = entityAccessStrategy.getRelationalWriter(targetInfo, edge.getType(), relationshipEntity);
                 if (targetAccess != null) {
                     targetAccess.write(target, relationshipEntity);
                     // NB: this is a different direction from the above, although I'm not sure that's the right thing to do :/
-                    mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode()));
+                    mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId()));
                 } else {
                     // cannot set RE on target as one-to-one
                     oneToMany.add(edge);
@@ -197,9 +382,11 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
                     oneToMany.add(edge);
                 }
                 mapOneToOne(target, source, edge);  // try the inverse mapping
+                incoming.add(edge);
             }
         }
         mapOneToMany(oneToMany);
+        mapIncoming(incoming);
     }
 
     public Set<Object> get(Class<?> clazz) {
@@ -239,7 +426,7 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
 
     private boolean mapOneToMany(Object instance, Class<?> valueType, Object values, Set<RelationshipModel> edges) {
 
-        ClassInfo classInfo = metadata.classInfo(instance.getClass().getName());
+        ClassInfo classInfo = metadata.classInfo(instance);
 
         RelationalWriter writer = entityAccessStrategy.getIterableWriter(classInfo, valueType);
         if (writer != null) {
@@ -247,6 +434,12 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
                 RelationalReader reader = entityAccessStrategy.getIterableReader(classInfo, valueType);
                 if (reader != null) {
                     Object currentValues = reader.read(instance);
+                    if (currentValues instanceof LazyCollection) {
+                        // adding the objects to a lazy collection must not make it load
+                        LazyCollections.merge(currentValues, (Iterable<?>) values);
+                        rememberRelationships(edges);
+                        return true;
+                    }
                     if (writer.type().isArray()) {
                         values = EntityAccess.merge(writer.type(), (Iterable<?>) values, (Object[]) currentValues);
                     } else {
@@ -256,11 +449,7 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
                 values = EntityAccess.merge(writer.type(), (Iterable<?>) values, new ArrayList<Object>());
             }
             writer.write(instance, values);
-
-            String relType = writer.relationshipName(); // FIXME: doesn't work for a relationship entity
-            for (RelationshipModel edge : edges) {
-                mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode()));
-            }
+            rememberRelationships(edges);
             return true;
         }
 
@@ -268,4 +457,83 @@ public class GraphObjectMapper implements GraphToObjectMapper<GraphModel> {
         return false;
     }
 
+    /*
+     * Adds the start object of each relationship to the collection of its end object that is declared to hold the
+     * incoming relationships of its type, if there is one. These collections are only found by their annotation,
+     * unlike the outgoing ones, which are found by the type of the related objects, so that a relationship can't end
+     * up in a collection of the other direction.
+     */
+    private void mapIncoming(Set<RelationshipModel> edges) {
+        Map<Object, Map<Field, Set<Object>>> related = new IdentityHashMap<>();
+        Set<RelationshipModel> mapped = new HashSet<>();
+        for (RelationshipModel edge : edges) {
+            Object source = mappingContext.get(edge.getStartNode());
+            Object target = mappingContext.get(edge.getEndNode());
+            Field field = incomingField(target, edge.getType(), source.getClass());
+            if (field != null) {
+                Map<Field, Set<Object>> fields = related.get(target);
+                if (fields == null) {
+                    fields = new HashMap<>();
+                    related.put(target, fields);
+                }
+                Set<Object> sources = fields.get(field);
+                if (sources == null) {
+                    sources = new LinkedHashSet<>();
+                    fields.put(field, sources);
+                }
+                sources.add(source);
+                mapped.add(edge);
+            }
+        }
+
+        for (Entry<Object, Map<Field, Set<Object>>> target : related.entrySet()) {
+            for (Entry<Field, Set<Object>> sources : target.getValue().entrySet()) {
+                Field field = sources.getKey();
+                Object currentValues = FieldWriter.read(field, target.getKey());
+                if (currentValues instanceof LazyCollection) {
+                    // adding the objects to a lazy collection must not make it load
+                    LazyCollections.merge(currentValues, sources.getValue());
+                } else if (currentValues instanceof Object[]) {
+                    FieldWriter.write(field, target.getKey(), EntityAccess.merge(field.getType(), sources.getValue(), (Object[]) currentValues));
+                } else {
+                    Iterable<?> values = currentValues == null ? new ArrayList<>() : (Iterable<?>) currentValues;
+                    FieldWriter.write(field, target.getKey(), EntityAccess.merge(field.getType(), sources.getValue(), values));
+                }
+            }
+        }
+        rememberRelationships(mapped);
+    }
+
+    private Field incomingField(Object target, String relationshipType, Class<?> sourceType) {
+        ClassInfo classInfo = metadata.classInfo(target);
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            if (Relationship.INCOMING.equals(direction(fieldInfo)) && relationshipType.equals(fieldInfo.relationship())) {
+                Field field = classInfo.getField(fieldInfo);
+                Class<?> elementType = elementType(field);
+                if (elementType != null && elementType.isAssignableFrom(sourceType)) {
+                    return field;
+                }
+            }
+        }
+        return null;
+    }
+
+    // the type of the elements of an array or collection field, or null if the field holds a single object
+    private static Class<?> elementType(Field field) {
+        if (field.getType().isArray()) {
+            return field.getType().getComponentType();
+        }
+        if (Iterable.class.isAssignableFrom(field.getType()) && field.getGenericType() instanceof ParameterizedType) {
+            Type typeArgument = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+            return typeArgument instanceof Class ? (Class<?>) typeArgument : Object.class;
+        }
+        return null;
+    }
+
+    private void rememberRelationships(Set<RelationshipModel> edges) {
+        for (RelationshipModel edge : edges) {
+            mappingContext.remember(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId()));
+        }
+    }
+
 }
@@ -0,0 +1,328 @@
+package org.neo4j.ogm.mapper;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * Maps the ids of nodes or relationships to the objects that represent them in a {@link MappingContext}, evicting
+ * objects according to an {@link EvictionPolicy}. All operations are synchronized on the map.
+ */
+abstract class IdentityMap {
+
+    /**
+     * Notified of each object evicted from an {@link IdentityMap}.
+     */
+    interface EvictionListener {
+
+        /**
+         * @param id The id of the evicted object
+         * @param object The evicted object, or <code>null</code> if it has already been garbage collected
+         */
+        void evicted(long id, Object object);
+    }
+
+    static IdentityMap create(EvictionPolicy policy, EvictionListener listener) {
+        switch (policy.getStrategy()) {
+            case WEAK:
+                return new ReferenceIdentityMap(false, listener);
+            case SOFT:
+                return new ReferenceIdentityMap(true, listener);
+            case LRU:
+                return new LruIdentityMap(policy.getMaxEntries(), listener);
+            default:
+                return new StrongIdentityMap();
+        }
+    }
+
+    abstract Object get(long id);
+
+    /**
+     * Unlike {@link #get(long)}, doesn't count as a use of the object under the least-recently-used policy.
+     */
+    abstract boolean contains(long id);
+
+    /**
+     * @return The object already mapped to the id, or <code>null</code> if the given object has been added
+     */
+    abstract Object putIfAbsent(long id, Object object);
+
+    abstract Object remove(long id);
+
+    abstract int size();
+
+    abstract void clear();
+
+    /**
+     * Keeps every object until it is removed explicitly.
+     */
+    private static class StrongIdentityMap extends IdentityMap {
+
+        private final LongObjectMap<Object> objects = new LongObjectMap<>();
+
+        @Override
+        Object get(long id) {
+            return objects.get(id);
+        }
+
+        @Override
+        boolean contains(long id) {
+            return objects.containsKey(id);
+        }
+
+        @Override
+        Object putIfAbsent(long id, Object object) {
+            return objects.putIfAbsent(id, object);
+        }
+
+        @Override
+        Object remove(long id) {
+            return objects.remove(id);
+        }
+
+        @Override
+        int size() {
+            return objects.size();
+        }
+
+        @Override
+        void clear() {
+            objects.clear();
+        }
+    }
+
+    /**
+     * Holds objects by weak or soft references and evicts those the garbage collector has cleared.
+     */
+    private static class ReferenceIdentityMap extends IdentityMap {
+
+        private final LongObjectMap<Reference<Object>> references = new LongObjectMap<>();
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final boolean soft;
+        private final EvictionListener listener;
+
+        ReferenceIdentityMap(boolean soft, EvictionListener listener) {
+            this.soft = soft;
+            this.listener = listener;
+        }
+
+        @Override
+        synchronized Object get(long id) {
+            expunge();
+            return live(id);
+        }
+
+        @Override
+        synchronized boolean contains(long id) {
+            expunge();
+            return live(id) != null;
+        }
+
+        @Override
+        synchronized Object putIfAbsent(long id, Object object) {
+            expunge();
+            Object existing = live(id);
+            if (existing == null) {
+                references.put(id, soft ? new SoftEntry(id, object, queue) : new WeakEntry(id, object, queue));
+            }
+            return existing;
+        }
+
+        @Override
+        synchronized Object remove(long id) {
+            expunge();
+            Reference<Object> reference = references.remove(id);
+            return reference == null ? null : reference.get();
+        }
+
+        @Override
+        synchronized int size() {
+            expunge();
+            return references.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            references.clear();
+            while (queue.poll() != null) {
+                // discard references to objects whose entries have gone anyway
+            }
+        }
+
+        // a reference may be cleared some time before it is enqueued, so evict it as soon as that's noticed
+        private Object live(long id) {
+            Reference<Object> reference = references.get(id);
+            if (reference == null) {
+                return null;
+            }
+            Object object = reference.get();
+            if (object == null) {
+                references.remove(id);
+                listener.evicted(id, null);
+            }
+            return object;
+        }
+
+        private void expunge() {
+            Reference<?> reference;
+            while ((reference = queue.poll()) != null) {
+                long id = ((Entry) reference).id();
+                // the id may have been mapped to a new object since this one was collected
+                if (references.get(id) == reference) {
+                    references.remove(id);
+                    listener.evicted(id, null);
+                }
+            }
+        }
+    }
+
+    private interface Entry {
+        long id();
+    }
+
+    private static class WeakEntry extends WeakReference<Object> implements Entry {
+
+        private final long id;
+
+        WeakEntry(long id, Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.id = id;
+        }
+
+        @Override
+        public long id() {
+            return id;
+        }
+    }
+
+    private static class SoftEntry extends SoftReference<Object> implements Entry {
+
+        private final long id;
+
+        SoftEntry(long id, Object object, ReferenceQueue<Object> queue) {
+            super(object, queue);
+            this.id = id;
+        }
+
+        @Override
+        public long id() {
+            return id;
+        }
+    }
+
+    /**
+     * Keeps a bounded number of objects, evicting the least recently used object when the bound is exceeded.
+     *
+     * Entries are indexed by a {@link LongObjectMap}, so ids aren't boxed, and are threaded onto a doubly-linked list
+     * in order of use through their own prev and next fields, with the most recently used entry at the head.
+     */
+    private static class LruIdentityMap extends IdentityMap {
+
+        private final LongObjectMap<LruEntry> entries = new LongObjectMap<>();
+        private final int maxEntries;
+        private final EvictionListener listener;
+
+        private LruEntry head;
+        private LruEntry tail;
+
+        LruIdentityMap(int maxEntries, EvictionListener listener) {
+            this.maxEntries = maxEntries;
+            this.listener = listener;
+        }
+
+        @Override
+        synchronized Object get(long id) {
+            LruEntry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            unlink(entry);
+            linkFirst(entry);
+            return entry.object;
+        }
+
+        @Override
+        synchronized boolean contains(long id) {
+            return entries.containsKey(id);
+        }
+
+        @Override
+        synchronized Object putIfAbsent(long id, Object object) {
+            Object existing = get(id);
+            if (existing == null) {
+                LruEntry entry = new LruEntry(id, object);
+                entries.put(id, entry);
+                linkFirst(entry);
+                if (entries.size() > maxEntries) {
+                    LruEntry eldest = tail;
+                    unlink(eldest);
+                    entries.remove(eldest.id);
+                    listener.evicted(eldest.id, eldest.object);
+                }
+            }
+            return existing;
+        }
+
+        @Override
+        synchronized Object remove(long id) {
+            LruEntry entry = entries.remove(id);
+            if (entry == null) {
+                return null;
+            }
+            unlink(entry);
+            return entry.object;
+        }
+
+        @Override
+        synchronized int size() {
+            return entries.size();
+        }
+
+        @Override
+        synchronized void clear() {
+            entries.clear();
+            head = null;
+            tail = null;
+        }
+
+        private void linkFirst(LruEntry entry) {
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+            if (tail == null) {
+                tail = entry;
+            }
+        }
+
+        private void unlink(LruEntry entry) {
+            if (entry.prev != null) {
+                entry.prev.next = entry.next;
+            } else {
+                head = entry.next;
+            }
+            if (entry.next != null) {
+                entry.next.prev = entry.prev;
+            } else {
+                tail = entry.prev;
+            }
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    private static class LruEntry {
+
+        private final long id;
+        private final Object object;
+        private LruEntry prev;
+        private LruEntry next;
+
+        LruEntry(long id, Object object) {
+            this.id = id;
+            this.object = object;
+        }
+    }
+}
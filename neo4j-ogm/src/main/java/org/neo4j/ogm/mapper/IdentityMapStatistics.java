@@ -0,0 +1,65 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * A snapshot of the counters kept by a {@link MappingContext}, for sizing its {@link EvictionPolicy}.
+ *
+ * Hits and misses count lookups of nodes and relationship entities by id. Evictions count the objects the mapping
+ * context has let go of under its eviction policy, but not those removed because they were deleted or the session
+ * was purged.
+ */
+public class IdentityMapStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final int nodes;
+    private final int relationshipEntities;
+
+    public IdentityMapStatistics(long hits, long misses, long evictions, int nodes, int relationshipEntities) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.nodes = nodes;
+        this.relationshipEntities = relationshipEntities;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return The number of nodes currently held
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @return The number of relationship entities currently held
+     */
+    public int getRelationshipEntities() {
+        return relationshipEntities;
+    }
+
+    /**
+     * @return The proportion of lookups that found an object, or 0 if there haven't been any lookups
+     */
+    public double getHitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityMapStatistics{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions +
+                ", nodes=" + nodes + ", relationshipEntities=" + relationshipEntities + "}";
+    }
+}
@@ -0,0 +1,16 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * A collection of related objects that hasn't been loaded yet, put in place of the relationship collections of the
+ * objects found at the edge of what a session loaded. It holds the related objects that have been loaded already, and
+ * fetches the others the first time it is used, through the session that loaded its owner.
+ *
+ * Like the collections it replaces, a lazy collection isn't safe for use by several threads at once.
+ */
+public interface LazyCollection {
+
+    /**
+     * @return <code>true</code> once all the related objects have been fetched
+     */
+    boolean isLoaded();
+}
@@ -0,0 +1,213 @@
+package org.neo4j.ogm.mapper;
+
+import java.util.*;
+
+/**
+ * The lists and sets that implement {@link LazyCollection}, and the operations through which the mappers look at them
+ * without making them load.
+ */
+final class LazyCollections {
+
+    private LazyCollections() {
+    }
+
+    /**
+     * @param fieldType the type of the field that is to hold the collection
+     * @return <code>true</code> if a lazy collection can be assigned to a field of the given type
+     */
+    static boolean supports(Class<?> fieldType) {
+        return fieldType.isAssignableFrom(LazyList.class) || fieldType.isAssignableFrom(LazySet.class);
+    }
+
+    /**
+     * Creates a lazy collection that can be assigned to a field of the given type.
+     *
+     * @param fieldType the type of the field, which must be {@link #supports supported}
+     * @param elements the related objects loaded so far, which may be <code>null</code>
+     * @param loader fetches the other related objects when they are needed
+     * @param owner the object that holds the collection
+     * @param id the id of the owner's node
+     * @param direction the direction of the relationships the collection holds
+     * @return the lazy collection
+     */
+    static Collection<Object> create(Class<?> fieldType, Iterable<?> elements, RelationshipLoader loader, Object owner, Long id, String direction) {
+        State state = new State(loader, owner, id, direction);
+        Collection<Object> collection = fieldType.isAssignableFrom(LazyList.class) ? new LazyList(state) : new LazySet(state);
+        if (elements != null) {
+            merge(collection, elements);
+        }
+        return collection;
+    }
+
+    /**
+     * @return <code>true</code> if the given value is a lazy collection that hasn't been loaded
+     */
+    static boolean unloaded(Object value) {
+        return value instanceof LazyCollection && !((LazyCollection) value).isLoaded();
+    }
+
+    /**
+     * Adds the given related objects to a lazy collection, if it doesn't hold them already, without loading it.
+     */
+    static void merge(Object lazyCollection, Iterable<?> elements) {
+        Collection<Object> delegate = delegate(lazyCollection);
+        for (Object element : elements) {
+            if (!delegate.contains(element)) {
+                delegate.add(element);
+            }
+        }
+    }
+
+    /**
+     * Marks a lazy collection as loaded without fetching anything, once all its related objects are known to have
+     * been merged into it.
+     */
+    static void markLoaded(Object lazyCollection) {
+        state(lazyCollection).loaded(delegate(lazyCollection));
+    }
+
+    /**
+     * @return the related objects a lazy collection held when it was loaded, or <code>null</code> if it hasn't been
+     */
+    static Object[] loadedElements(Object lazyCollection) {
+        return state(lazyCollection).loadedElements;
+    }
+
+    private static State state(Object lazyCollection) {
+        return lazyCollection instanceof LazyList ? ((LazyList) lazyCollection).state : ((LazySet) lazyCollection).state;
+    }
+
+    private static Collection<Object> delegate(Object lazyCollection) {
+        return lazyCollection instanceof LazyList ? ((LazyList) lazyCollection).delegate : ((LazySet) lazyCollection).delegate;
+    }
+
+    private static class State {
+
+        private final RelationshipLoader loader;
+        private final Object owner;
+        private final Long id;
+        private final String direction;
+
+        private volatile Object[] loadedElements;
+        private boolean loading;
+
+        State(RelationshipLoader loader, Object owner, Long id, String direction) {
+            this.loader = loader;
+            this.owner = owner;
+            this.id = id;
+            this.direction = direction;
+        }
+
+        boolean isLoaded() {
+            return loadedElements != null;
+        }
+
+        // the loader maps all the objects related in this direction onto the owner, which merges them into this and
+        // its other lazy collections of the direction and marks them as loaded
+        void load(Collection<Object> delegate) {
+            if (loadedElements == null && !loading) {
+                loading = true;
+                try {
+                    loader.load(owner, id, direction);
+                    loaded(delegate);
+                } finally {
+                    loading = false;
+                }
+            }
+        }
+
+        void loaded(Collection<Object> delegate) {
+            loadedElements = delegate.toArray();
+        }
+    }
+
+    private static class LazyList extends AbstractList<Object> implements LazyCollection {
+
+        private final State state;
+        private final List<Object> delegate = new ArrayList<>();
+
+        LazyList(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public boolean isLoaded() {
+            return state.isLoaded();
+        }
+
+        @Override
+        public Object get(int index) {
+            state.load(delegate);
+            return delegate.get(index);
+        }
+
+        @Override
+        public int size() {
+            state.load(delegate);
+            return delegate.size();
+        }
+
+        @Override
+        public Object set(int index, Object element) {
+            state.load(delegate);
+            return delegate.set(index, element);
+        }
+
+        @Override
+        public void add(int index, Object element) {
+            state.load(delegate);
+            delegate.add(index, element);
+        }
+
+        @Override
+        public Object remove(int index) {
+            state.load(delegate);
+            return delegate.remove(index);
+        }
+    }
+
+    private static class LazySet extends AbstractSet<Object> implements LazyCollection {
+
+        private final State state;
+        private final Set<Object> delegate = new LinkedHashSet<>();
+
+        LazySet(State state) {
+            this.state = state;
+        }
+
+        @Override
+        public boolean isLoaded() {
+            return state.isLoaded();
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            state.load(delegate);
+            return delegate.iterator();
+        }
+
+        @Override
+        public int size() {
+            state.load(delegate);
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            state.load(delegate);
+            return delegate.contains(o);
+        }
+
+        @Override
+        public boolean add(Object o) {
+            state.load(delegate);
+            return delegate.add(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            state.load(delegate);
+            return delegate.remove(o);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package org.neo4j.ogm.mapper;
+
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.model.NodeModel;
+import org.neo4j.ogm.model.Property;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Describes how far a load reached from the nodes it was asked for, so that a {@link GraphObjectMapper} can tell
+ * which of the objects it maps may have relationships that weren't loaded, and give them {@link LazyCollection}s.
+ *
+ * The relationships of a node closer to the root nodes than the depth of the load have all been loaded, whereas only
+ * some of those of a node at that depth may have been.
+ */
+public class LoadBoundary {
+
+    private final RelationshipLoader loader;
+    private final int depth;
+    private final Set<Long> rootIds;
+    private final String rootLabel;
+    private final Property<String, Object> rootProperty;
+    private final String rootDirection;
+
+    private LoadBoundary(RelationshipLoader loader, int depth, Set<Long> rootIds, String rootLabel, Property<String, Object> rootProperty, String rootDirection) {
+        this.loader = loader;
+        this.depth = depth;
+        this.rootIds = rootIds;
+        this.rootLabel = rootLabel;
+        this.rootProperty = rootProperty;
+        this.rootDirection = rootDirection;
+    }
+
+    /**
+     * @return the boundary of a load of the nodes with the given ids to the given depth
+     */
+    public static LoadBoundary ofIds(RelationshipLoader loader, Collection<Long> ids, int depth) {
+        return new LoadBoundary(loader, depth, new HashSet<>(ids), null, null, null);
+    }
+
+    /**
+     * @return the boundary of a load of the nodes with the given label to the given depth
+     */
+    public static LoadBoundary ofLabel(RelationshipLoader loader, String label, int depth) {
+        return new LoadBoundary(loader, depth, null, label, null, null);
+    }
+
+    /**
+     * @return the boundary of a load of the nodes with the given label and property to the given depth
+     */
+    public static LoadBoundary ofProperty(RelationshipLoader loader, String label, Property<String, Object> property, int depth) {
+        return new LoadBoundary(loader, depth, null, label, property, null);
+    }
+
+    /**
+     * @return the boundary of a load of the objects related to the node with the given id in the given direction,
+     * which reaches only the relationships of that node in that direction
+     */
+    public static LoadBoundary ofRelated(RelationshipLoader loader, Long id, String direction) {
+        return new LoadBoundary(loader, 1, Collections.singleton(id), null, null, direction);
+    }
+
+    RelationshipLoader loader() {
+        return loader;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * @return the ids of the nodes the load was asked for, or an empty set if they were asked for by label
+     */
+    Set<Long> rootIds() {
+        return rootIds == null ? Collections.<Long>emptySet() : rootIds;
+    }
+
+    /**
+     * @param direction the direction of a relationship collection of a root node
+     * @return <code>true</code> if the load reached all the relationships of the root nodes in the given direction
+     */
+    boolean reachesFromRoots(String direction) {
+        return rootDirection == null || Relationship.BOTH.equals(rootDirection) || rootDirection.equals(direction);
+    }
+
+    boolean isRoot(NodeModel node) {
+        if (rootIds != null) {
+            return rootIds.contains(node.getId());
+        }
+        return node.getLabels() != null && Arrays.asList(node.getLabels()).contains(rootLabel)
+                && (rootProperty == null || node.getPropertyList().contains(rootProperty));
+    }
+}
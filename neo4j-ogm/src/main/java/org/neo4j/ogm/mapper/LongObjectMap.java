@@ -0,0 +1,196 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * A map from primitive <code>long</code> keys to objects, used to hold the identity maps of the {@link MappingContext}.
+ *
+ * Keys and values are held in two parallel arrays and collisions are resolved by linear probing, so no entry objects
+ * are created and no keys are boxed. A session holding a million hydrated nodes therefore needs a <code>long[]</code>
+ * and an <code>Object[]</code> of two million slots, rather than a million map entries and a million <code>Long</code> keys.
+ *
+ * All operations are synchronized on the map. <code>null</code> values are not permitted.
+ *
+ * @param <V> The type of the values held in this map
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    // marks a slot whose entry has been removed, so that probing continues past it
+    private static final Object REMOVED = new Object();
+
+    private long[] keys;
+    private Object[] values;
+
+    private int size;
+    private int used; // live entries plus removed markers
+    private int threshold;
+
+    public LongObjectMap() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize The number of entries the map should hold without having to grow its tables
+     */
+    public LongObjectMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param key The key to look up
+     * @return The value mapped to the given key, or <code>null</code> if there isn't one
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V get(long key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    public synchronized boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Maps the given value to the given key unless the key is already mapped.
+     *
+     * @param key The key
+     * @param value The value to map to the key, which may not be <code>null</code>
+     * @return The value that was already mapped to the key, or <code>null</code> if the given value has been added
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V putIfAbsent(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Cannot map a null value to key " + key);
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        insert(key, value);
+        return null;
+    }
+
+    /**
+     * Maps the given value to the given key, replacing any existing mapping.
+     *
+     * @param key The key
+     * @param value The value to map to the key, which may not be <code>null</code>
+     * @return The value previously mapped to the key, or <code>null</code> if there wasn't one
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("Cannot map a null value to key " + key);
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            V previous = (V) values[slot];
+            values[slot] = value;
+            return previous;
+        }
+        insert(key, value);
+        return null;
+    }
+
+    /**
+     * @param key The key to remove
+     * @return The value that was mapped to the key, or <code>null</code> if there wasn't one
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized V remove(long key) {
+        int slot = find(key);
+        if (slot < 0) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        values[slot] = REMOVED;
+        size--;
+        return previous;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the entries from this map and releases the memory held by its tables.
+     */
+    public synchronized void clear() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    private int find(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (value != REMOVED && keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void insert(long key, Object value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (values[slot] != null && values[slot] != REMOVED) {
+            slot = (slot + 1) & mask;
+        }
+        if (values[slot] == null) {
+            used++;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+
+        if (used > threshold) {
+            // only grow if the table is full of live entries, otherwise rebuilding it clears the removed markers
+            rehash(size > threshold / 2 ? keys.length << 1 : keys.length);
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null && oldValues[i] != REMOVED) {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        size = 0;
+        used = 0;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // node and relationship ids are mostly sequential, so spread them over the table
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LongObjectMap{size=" + size + ", capacity=" + keys.length + "}";
+    }
+}
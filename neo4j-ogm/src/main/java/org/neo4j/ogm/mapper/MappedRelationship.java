@@ -3,17 +3,26 @@ package org.neo4j.ogm.mapper;
 /**
  * Light-weight record of a relationship mapped from the database, stored as a triplet:
  * <code>startNodeId - relationshipType - endNodeId</code>
+ *
+ * The id of the relationship is kept alongside when it is known, so that the relationship can be deleted by it, but
+ * it plays no part in telling two records apart.
  */
 public class MappedRelationship {
 
     private final long startNodeId;
     private final String relationshipType;
     private final long endNodeId;
+    private final Long relationshipId;
 
     public MappedRelationship(long startNodeId, String relationshipType, long endNodeId) {
+        this(startNodeId, relationshipType, endNodeId, null);
+    }
+
+    public MappedRelationship(long startNodeId, String relationshipType, long endNodeId, Long relationshipId) {
         this.startNodeId = startNodeId;
         this.relationshipType = relationshipType;
         this.endNodeId = endNodeId;
+        this.relationshipId = relationshipId;
     }
 
     public long getStartNodeId() {
@@ -28,6 +37,13 @@ public class MappedRelationship {
         return endNodeId;
     }
 
+    /**
+     * @return the id of the relationship in the graph, or <code>null</code> if it isn't known
+     */
+    public Long getRelationshipId() {
+        return relationshipId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,41 +1,98 @@
 package org.neo4j.ogm.mapper;
 
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.metadata.MetaData;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The MappingContext maintains a map of all the objects created during the hydration
  * of an object map (domain hierarchy). The MappingContext lifetime is concurrent
  * with a session lifetime.
+ *
+ * Nodes and relationship entities are held in {@link LongObjectMap}s keyed by their primitive ids, and the
+ * instances of each type in sets that compare objects by identity, so that long-running sessions holding
+ * millions of objects don't pay for a boxed key and a map entry per object.
+ *
+ * Objects are kept until the session is purged unless an {@link EvictionPolicy} says otherwise. When an object is
+ * evicted, it is also forgotten by the type map and the memo used for dirty checking. A mapped relationship is
+ * forgotten once neither of the nodes at its ends is held any more.
  */
 public class MappingContext {
 
-    private final ConcurrentMap<Long, Object> relationshipEntityMap = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Object> objectMap = new ConcurrentHashMap<>();
+    private final IdentityMap relationshipEntityMap;
+    private final IdentityMap objectMap;
     private final ConcurrentMap<Class<?>, Set<Object>> typeMap = new ConcurrentHashMap<>();
 
     // using these two objects we maintain synchronisation state with the database
     private final Set<MappedRelationship> mappedRelationships = new HashSet<>();
-    private final ObjectMemo objectMemo = new ObjectMemo();
+    private final ObjectMemo objectMemo;
 
     private final MetaData metaData;
+    private final EvictionPolicy evictionPolicy;
+
+    // ids of evicted nodes whose mapped relationships haven't been looked at yet
+    private final Set<Long> evictedNodes = Collections.synchronizedSet(new HashSet<Long>());
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
 
     public MappingContext(MetaData metaData) {
+        this(metaData, EvictionPolicy.NONE);
+    }
+
+    public MappingContext(MetaData metaData, EvictionPolicy evictionPolicy) {
+        this(metaData, evictionPolicy, new DefaultEntityAccessStrategy());
+    }
+
+    /**
+     * @param entityAccessStrategy the strategy through which objects are read when they are saved, whose property
+     * readers name the properties reported by {@link #changedProperties(Object)}
+     */
+    public MappingContext(MetaData metaData, EvictionPolicy evictionPolicy, EntityAccessStrategy entityAccessStrategy) {
         this.metaData = metaData;
+        this.evictionPolicy = evictionPolicy;
+        this.objectMemo = new ObjectMemo(referenceBased(), entityAccessStrategy);
+        this.objectMap = IdentityMap.create(evictionPolicy, new IdentityMap.EvictionListener() {
+            @Override
+            public void evicted(long id, Object node) {
+                evictions.incrementAndGet();
+                evictedNodes.add(id);
+                if (node != null) {
+                    deregisterTypes(node.getClass(), node);
+                    objectMemo.forget(node);
+                }
+            }
+        });
+        this.relationshipEntityMap = IdentityMap.create(evictionPolicy, new IdentityMap.EvictionListener() {
+            @Override
+            public void evicted(long id, Object relationshipEntity) {
+                evictions.incrementAndGet();
+                if (relationshipEntity != null) {
+                    objectMemo.forget(relationshipEntity);
+                }
+            }
+        });
+    }
+
+    public EvictionPolicy evictionPolicy() {
+        return evictionPolicy;
     }
 
     public Object get(Long id) {
-        return objectMap.get(id);
+        return count(objectMap.get(id));
     }
 
     public Object registerNode(Object object, Long id) {
-        objectMap.putIfAbsent(id, object);
-        object = objectMap.get(id);
+        Object existing = objectMap.putIfAbsent(id, object);
+        if (existing != null) {
+            object = existing;
+        }
         registerTypes(object.getClass(), object);
         return object;
     }
@@ -45,7 +102,7 @@ public class MappingContext {
         getAll(type).add(object);
         if (type.getSuperclass() != null
                 && metaData != null
-                && metaData.classInfo(type.getSuperclass().getName()) != null
+                && metaData.classInfo(type.getSuperclass()) != null
                 && !type.getSuperclass().getName().equals("java.lang.Object")) {
             registerTypes(type.getSuperclass(), object);
         }
@@ -56,7 +113,7 @@ public class MappingContext {
         getAll(type).remove(object);
         if (type.getSuperclass() != null
                 && metaData != null
-                && metaData.classInfo(type.getSuperclass().getName()) != null
+                && metaData.classInfo(type.getSuperclass()) != null
                 && !type.getSuperclass().getName().equals("java.lang.Object")) {
             deregisterTypes(type.getSuperclass(), object);
         }
@@ -73,23 +130,51 @@ public class MappingContext {
     public void deregister(Object object, Long id) {
         deregisterTypes(object.getClass(), object);
         objectMap.remove(id);
+        objectMemo.forget(object);
     }
 
     public Set<Object> getAll(Class<?> type) {
         Set<Object> objectList = typeMap.get(type);
         if (objectList == null) {
-            typeMap.putIfAbsent(type, Collections.synchronizedSet(new HashSet<>()));
+            Map<Object, Boolean> instances = referenceBased() ? new WeakIdentityHashMap<Object, Boolean>() : new IdentityHashMap<Object, Boolean>();
+            typeMap.putIfAbsent(type, Collections.synchronizedSet(Collections.newSetFromMap(instances)));
             objectList = typeMap.get(type);
         }
         return objectList;
     }
 
     public void remember(Object object) {
-        objectMemo.remember(object, metaData.classInfo(object.getClass().getName()));
+        objectMemo.remember(object, metaData.classInfo(object));
     }
 
     public boolean isDirty(Object toPersist) {
-        return !objectMemo.remembered(toPersist, metaData.classInfo(toPersist.getClass().getName()));
+        return !objectMemo.remembered(toPersist, metaData.classInfo(toPersist));
+    }
+
+    /**
+     * @param toPersist the object to check
+     * @return the names of the properties of the object that have changed since it was last loaded or saved, or
+     * <code>null</code> if it hasn't been, in which case all its properties must be written
+     */
+    public Set<String> changedProperties(Object toPersist) {
+        return objectMemo.changedProperties(toPersist, metaData.classInfo(toPersist));
+    }
+
+    /**
+     * @param object the object to check
+     * @return true if the object's relationship fields refer to different objects than when it was last loaded or
+     * saved, or if it hasn't been
+     */
+    public boolean relationshipsChanged(Object object) {
+        return objectMemo.relationshipsChanged(object, metaData.classInfo(object));
+    }
+
+    /**
+     * @return the objects whose properties or relationships have changed since they were last loaded or saved, found
+     * from their snapshots rather than by following relationships from any of them
+     */
+    public List<Object> changedObjects() {
+        return objectMemo.changed();
     }
 
     public boolean isRegisteredRelationship(MappedRelationship relationship) {
@@ -97,6 +182,7 @@ public class MappingContext {
     }
 
     public Set<MappedRelationship> mappedRelationships() {
+        forgetEvictedRelationships();
         return mappedRelationships;
     }
 
@@ -110,9 +196,15 @@ public class MappingContext {
         objectMap.clear();
         typeMap.clear();
         relationshipEntityMap.clear();
+        evictedNodes.clear();
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
+        return count(relationshipEntityMap.get(relationshipId));
+    }
+
+    // looks up a relationship entity without counting the lookup in the statistics
+    Object peekRelationshipEntity(Long relationshipId) {
         return relationshipEntityMap.get(relationshipId);
     }
 
@@ -121,4 +213,44 @@ public class MappingContext {
         return relationshipEntity;
     }
 
+    public IdentityMapStatistics statistics() {
+        return new IdentityMapStatistics(hits.get(), misses.get(), evictions.get(), objectMap.size(), relationshipEntityMap.size());
+    }
+
+    private Object count(Object object) {
+        if (object != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return object;
+    }
+
+    // the memo and type map must not keep objects the identity maps only hold by reference
+    private boolean referenceBased() {
+        return evictionPolicy.getStrategy() == EvictionPolicy.Strategy.WEAK || evictionPolicy.getStrategy() == EvictionPolicy.Strategy.SOFT;
+    }
+
+    /**
+     * Forgets the mapped relationships between nodes that have both been evicted. A relationship with a node that's
+     * still held must be remembered, because that node may be saved without it, in which case it has to be deleted.
+     */
+    private void forgetEvictedRelationships() {
+        if (evictedNodes.isEmpty()) {
+            return;
+        }
+        Set<Long> evicted;
+        synchronized (evictedNodes) {
+            evicted = new HashSet<>(evictedNodes);
+            evictedNodes.clear();
+        }
+        for (Iterator<MappedRelationship> iterator = mappedRelationships.iterator(); iterator.hasNext(); ) {
+            MappedRelationship relationship = iterator.next();
+            if ((evicted.contains(relationship.getStartNodeId()) || evicted.contains(relationship.getEndNodeId()))
+                    && !objectMap.contains(relationship.getStartNodeId())
+                    && !objectMap.contains(relationship.getEndNodeId())) {
+                iterator.remove();
+            }
+        }
+    }
 }
@@ -13,6 +13,8 @@ import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.*;
+
 /**
  * Implementation of {@link ObjectToCypherMapper} that is driven by an instance of {@link MetaData}.
  */
@@ -23,6 +25,14 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
     private final MetaData metaData;
     private final EntityAccessStrategy entityAccessStrategy;
     private final MappingContext mappingContext;
+    private final SaveMode saveMode;
+
+    // under SKIP_CLEAN, the ids of the nodes whose related objects lead to changed objects, which are traversed even
+    // when they are clean themselves
+    private final Set<Long> pathsToChanges = new HashSet<>();
+
+    // under SKIP_CLEAN, the ids of the nodes walked over to find those paths that haven't been visited since
+    private final Set<Long> walked = new HashSet<>();
 
     /**
      * Constructs a new {@link ObjectCypherMapper} that uses the given {@link MetaData}.
@@ -31,9 +41,35 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
      * @param mappingContext The {@link MappingContext} for the current session
      */
     public ObjectCypherMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, SaveMode.TRAVERSE_ALL);
+    }
+
+    /**
+     * Constructs a new {@link ObjectCypherMapper} that uses the given {@link MetaData} and traverses the object graph
+     * according to the given {@link SaveMode}.
+     *
+     * @param metaData The {@link MetaData} containing the mapping information
+     * @param mappingContext The {@link MappingContext} for the current session
+     * @param saveMode The {@link SaveMode} determining which objects are visited
+     */
+    public ObjectCypherMapper(MetaData metaData, MappingContext mappingContext, SaveMode saveMode) {
+        this(metaData, mappingContext, saveMode, new DefaultEntityAccessStrategy());
+    }
+
+    /**
+     * Constructs a new {@link ObjectCypherMapper} that uses the given {@link MetaData} and accesses entities through
+     * the given {@link EntityAccessStrategy}.
+     *
+     * @param metaData The {@link MetaData} containing the mapping information
+     * @param mappingContext The {@link MappingContext} for the current session
+     * @param saveMode The {@link SaveMode} determining which objects are visited
+     * @param entityAccessStrategy The {@link EntityAccessStrategy} through which entities are read
+     */
+    public ObjectCypherMapper(MetaData metaData, MappingContext mappingContext, SaveMode saveMode, EntityAccessStrategy entityAccessStrategy) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
-        this.entityAccessStrategy = new DefaultEntityAccessStrategy();
+        this.saveMode = saveMode;
+        this.entityAccessStrategy = entityAccessStrategy;
     }
 
     /**
@@ -55,6 +91,41 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
 
         // add all the relationships we know about:
         compiler.context().registeredRelationships().addAll(mappingContext.mappedRelationships());
+        findPathsToChanges();
+
+        mapRoot(entity, horizon, compiler);
+        compiler.context().walked(walked.size());
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.compile();
+    }
+
+    @Override
+    public CypherContext mapAll(Iterable<?> entities, int horizon) {
+
+        if (entities == null) {
+            throw new NullPointerException("Cannot map null collection");
+        }
+
+        CypherCompiler compiler = new BatchCypherCompiler();
+
+        // add all the relationships we know about:
+        compiler.context().registeredRelationships().addAll(mappingContext.mappedRelationships());
+        findPathsToChanges();
+
+        for (Object entity : entities) {
+            if (entity == null) {
+                throw new NullPointerException("Cannot map null object");
+            }
+            mapRoot(entity, horizon, compiler);
+        }
+        compiler.context().walked(walked.size());
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.compile();
+    }
+
+    private void mapRoot(Object entity, int horizon, CypherCompiler compiler) {
 
         // if the map request is rooted on a relationship entity, we re-root it on the start node
         if (isRelationshipEntity(entity)) {
@@ -64,10 +135,73 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
             }
         }
 
-        deepMap(entity, horizon, compiler);
-        deleteObsoleteRelationships(compiler);
+        deepMap(entity, horizon, compiler, true);
+    }
 
-        return compiler.compile();
+    /**
+     * When clean branches are skipped, changed objects that are only related to those being saved through clean ones
+     * would not be visited. So the objects whose properties or relationships have changed are found by comparing the
+     * snapshots of the mapping context, and the relationships it remembers are followed backwards from each of them
+     * to find the nodes that lead to it. Only those nodes are traversed when they are clean, so a clean branch is
+     * skipped without walking any of the objects beyond it. The depth being saved and the changes made to the
+     * relationships of the objects in between are taken care of by the traversal itself.
+     */
+    private void findPathsToChanges() {
+        if (saveMode != SaveMode.SKIP_CLEAN) {
+            return;
+        }
+
+        Deque<Long> pending = new ArrayDeque<>();
+        for (Object changed : mappingContext.changedObjects()) {
+            if (isRelationshipEntity(changed)) {
+                // a changed relationship entity is saved along with its start node
+                Object startNode = entityAccessStrategy.getStartNodeReader(metaData.classInfo(changed)).read(changed);
+                Long id = startNode == null ? null : identity(startNode);
+                if (id != null) {
+                    pathsToChanges.add(id);
+                    walk(id, pending);
+                }
+            } else {
+                Long id = identity(changed);
+                if (id != null) {
+                    walk(id, pending);
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> startNodes = new HashMap<>();
+        for (MappedRelationship relationship : mappingContext.mappedRelationships()) {
+            List<Long> ids = startNodes.get(relationship.getEndNodeId());
+            if (ids == null) {
+                ids = new ArrayList<>();
+                startNodes.put(relationship.getEndNodeId(), ids);
+            }
+            ids.add(relationship.getStartNodeId());
+        }
+        while (!pending.isEmpty()) {
+            List<Long> ids = startNodes.get(pending.poll());
+            if (ids != null) {
+                for (Long id : ids) {
+                    if (pathsToChanges.add(id)) {
+                        walk(id, pending);
+                    }
+                }
+            }
+        }
+    }
+
+    private void walk(Long id, Deque<Long> pending) {
+        if (walked.add(id)) {
+            pending.add(id);
+        }
+    }
+
+    private Long identity(Object object) {
+        Object id = entityAccessStrategy.getIdentityPropertyReader(metaData.classInfo(object)).read(object);
+        return id == null ? null : Long.valueOf(id.toString());
     }
 
 
@@ -83,7 +217,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
             logger.debug("delete-check relationship: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
             if (!context.isRegisteredRelationship(mappedRelationship)) {
                 logger.debug("not found in tx context! deleting: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                compiler.unrelate("$" + mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), "$" + mappedRelationship.getEndNodeId());
+                compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
             }
         }
     }
@@ -91,11 +225,16 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
     /**
      * Builds Cypher to save the specified object and all its composite objects into the graph database.
      *
+     * Under {@link SaveMode#SKIP_CLEAN}, the related objects of an object other than the root are only mapped if its
+     * relationships have changed or one of them leads to a changed object. The relationships of a clean object stay registered in the context, so none
+     * of them is deleted.
+     *
      * @param compiler The {@link CypherCompiler} used to construct the query
      * @param entity The object to persist into the graph database as a node
+     * @param root whether the object is one of those being saved, rather than one reached from them
      * @return The "root" node of the object graph that matches
      */
-    private NodeBuilder deepMap(Object entity, int horizon, CypherCompiler compiler) {
+    private NodeBuilder deepMap(Object entity, int horizon, CypherCompiler compiler, boolean root) {
 
         if (isRelationshipEntity(entity)) {
             throw new RuntimeException("Should not happen!");
@@ -110,7 +249,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
         NodeBuilder nodeBuilder = getNodeBuilder(compiler, entity);
         if (nodeBuilder != null) {
             update(entity, context, nodeBuilder);
-            if (horizon != 0) {
+            if (horizon != 0 && traverse(entity, context, root)) {
                 findRelatedObjects(compiler, entity, nodeBuilder, horizon - 1);
             }
         }
@@ -118,17 +257,49 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
     }
 
     /**
-     * Creates a new node or updates an existing one in the graph, if it has changed.
+     * Determines whether the related objects of the given object must be mapped. An object whose relationships have
+     * changed is logged, so that they are remembered once the transaction commits.
+     *
+     * @param entity the domain object being persisted
+     * @param context the current {@link CypherContext}
+     * @param root whether the object is one of those being saved
+     * @return true unless clean branches are skipped, the object's relationships haven't changed and none of its
+     * related objects leads to a changed object
+     */
+    private boolean traverse(Object entity, CypherContext context, boolean root) {
+        if (saveMode == SaveMode.TRAVERSE_ALL) {
+            return true;
+        }
+        if (mappingContext.relationshipsChanged(entity)) {
+            context.log(entity);
+            return true;
+        }
+        if (root) {
+            return true;
+        }
+        Long id = identity(entity);
+        return id != null && pathsToChanges.contains(id);
+    }
+
+    /**
+     * Creates a new node or updates an existing one in the graph, if it has changed. Only the properties that have
+     * changed since the node was loaded or last saved are written, including those that have become null, which
+     * are removed from the node.
      *
      * @param node the domain object to be persisted
      * @param context  the current {@link CypherContext}
      * @param nodeBuilder a {@link NodeBuilder} that knows how to compile node create/update cypher phrases
      */
     private void update(Object node, CypherContext context, NodeBuilder nodeBuilder) {
-        if (mappingContext.isDirty(node)) {
+        Set<String> changedProperties = mappingContext.changedProperties(node);
+        if (changedProperties == null || !changedProperties.isEmpty()) {
             context.log(node);
+            context.emitted();
             ClassInfo classInfo = metaData.classInfo(node);
             nodeBuilder.mapProperties(node, classInfo, entityAccessStrategy);
+            if (changedProperties != null) {
+                nodeBuilder.retainProperties(changedProperties);
+            }
         }
     }
 
@@ -159,6 +330,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
         }
         NodeBuilder existingNode = compiler.existingNode(Long.valueOf(id.toString())).addLabels(classInfo.labels());
         context.visit(toPersist, existingNode);
+        walked.remove(Long.valueOf(id.toString()));
 
         return existingNode;
     }
@@ -187,6 +359,11 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
             String relationshipType = reader.relationshipType();
             String relationshipDirection = reader.relationshipDirection();
 
+            if (LazyCollections.unloaded(relatedObject)) {
+                // nothing can have been added to or removed from it, so its relationships stay as they are
+                continue;
+            }
+
             clearContextRelationships(context, srcIdentity, relationshipType);
 
             if (relatedObject instanceof Iterable) {
@@ -308,6 +485,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
         }
 
         if (mappingContext.isDirty(relationshipEntity)) {
+            context.log(relationshipEntity); // so that it is remembered as clean once the transaction commits
             ClassInfo targetInfo = metaData.classInfo(newTargetObject);
             Long tgtIdentity = (Long) entityAccessStrategy.getIdentityPropertyReader(targetInfo).read(newTargetObject);
             if (tgtIdentity != null) {
@@ -345,7 +523,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
             return;
         }
 
-        NodeBuilder target = deepMap(tgtObject, horizon, compiler);
+        NodeBuilder target = deepMap(tgtObject, horizon, compiler, false);
 
         // target will be null if tgtObject is a transient class, or a subclass of a transient class
         if (target != null) {
@@ -432,7 +610,7 @@ public class ObjectCypherMapper implements ObjectToCypherMapper {
         logger.debug("creating new relationship {}-[:{}]->{}", src, relBuilder.getType(), tgt);
         relBuilder.relate(src, tgt);
         // TODO: probably needs refactoring, this is not exactly an intuitive design!
-        ctx.log(new TransientRelationship(src, relBuilder.getType(), tgt)); // we log the new relationship as part of the transaction context.
+        ctx.log(new TransientRelationship(src, relBuilder.getType(), tgt, relBuilder.getReference())); // we log the new relationship as part of the transaction context.
     }
 
     /**
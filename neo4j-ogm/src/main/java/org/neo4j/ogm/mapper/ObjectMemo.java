@@ -1,72 +1,442 @@
 package org.neo4j.ogm.mapper;
 
-import org.neo4j.ogm.entityaccess.FieldWriter;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.FieldReader;
+import org.neo4j.ogm.entityaccess.PropertyReader;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
 
+/**
+ * Remembers the property values and related objects of objects as they were last loaded from or saved to the
+ * database, so that we can tell which properties and relationships of an object have changed since.
+ *
+ * Each object is remembered as a snapshot of its property fields. Primitive values are held unboxed, arrays and
+ * collections are copied and compared by content, and immutable values are held by reference. Values of any other
+ * type are compared by their string representation, because they may be modified in place.
+ *
+ * The properties of a class are those of its property readers, so changed properties are reported under the names
+ * with which they are written to the graph. Properties read through a getter are remembered as the getter returns them.
+ *
+ * The snapshot also holds the objects referred to by each of the object's relationship fields, with collections
+ * copied, so that adding an object to or removing one from a collection is detected. Related objects are compared by
+ * identity: changes to their own properties are detected by their own snapshots. When snapshots are let go of along
+ * with their objects, related objects are held by weak references, so that a snapshot doesn't keep the objects it
+ * refers to reachable, and with them their own snapshots and the objects those refer to.
+ */
 public class ObjectMemo {
 
-    private final Map<Object, Long> objectHash = new HashMap<>();
+    private final Map<Object, Snapshot> snapshots;
+    private final Map<ClassInfo, Layout> layouts = new HashMap<>();
+    private final EntityAccessStrategy entityAccessStrategy;
+    private final boolean weakKeys;
 
-    // objects with no properties will always hash to this value.
-    private static final long seed = 0xDEADBEEF / (11 * 257);
+    public ObjectMemo() {
+        this(false, new DefaultEntityAccessStrategy());
+    }
 
     /**
-     * constructs a 64-bit hash of this object's node properties
-     * and maps the object to that hash. The object must not be null
-     * @param object the object whose persistable properties we want to hash
+     * @param weakKeys whether to let go of the snapshot of an object once the object is unreachable
+     * @param entityAccessStrategy the strategy whose property readers determine the properties of each class
+     */
+    ObjectMemo(boolean weakKeys, EntityAccessStrategy entityAccessStrategy) {
+        this.snapshots = weakKeys ? new WeakIdentityHashMap<Object, Snapshot>() : new IdentityHashMap<Object, Snapshot>();
+        this.entityAccessStrategy = entityAccessStrategy;
+        this.weakKeys = weakKeys;
+    }
+
+    /**
+     * takes a snapshot of this object's node properties
+     * and maps the object to that snapshot. The object must not be null
+     * @param object the object whose persistable properties we want to remember
      * @param classInfo metadata about the object
      */
     public void remember(Object object, ClassInfo classInfo) {
-        objectHash.put(object, hash(object, classInfo));
+        snapshots.put(object, layout(classInfo).snapshot(object));
     }
 
     /**
      * determines whether the specified has already
      * been memorised. The object must not be null. An object
-     * is regarded as memorised if its hash value in the memo hash
-     * is identical to a recalculation of its hash value.
+     * is regarded as memorised if none of its properties differ
+     * from the snapshot taken when it was remembered.
      *
      * @param object the object whose persistable properties we want to check
      * @param classInfo metadata about the object
      * @return true if the object hasn't changed since it was remembered, false otherwise
      */
     public boolean remembered(Object object, ClassInfo classInfo) {
-        return objectHash.containsKey(object) && hash(object, classInfo) == objectHash.get(object);
+        Snapshot snapshot = snapshots.get(object);
+        return snapshot != null && layout(classInfo).firstChange(snapshot, object, 0) < 0;
+    }
+
+    /**
+     * @param object the object whose relationships we want to check
+     * @param classInfo metadata about the object
+     * @return true if any of the object's relationship fields refers to different objects than when the object was
+     * remembered, or if the object hasn't been remembered at all
+     */
+    public boolean relationshipsChanged(Object object, ClassInfo classInfo) {
+        Snapshot snapshot = snapshots.get(object);
+        return snapshot == null || snapshot.layout.relationshipsChanged(snapshot, object);
+    }
+
+    /**
+     * @param object the object whose persistable properties we want to check
+     * @param classInfo metadata about the object
+     * @return the names of the properties that have changed since the object was remembered, which is empty if the
+     * object is unchanged, or <code>null</code> if the object hasn't been remembered at all
+     */
+    public Set<String> changedProperties(Object object, ClassInfo classInfo) {
+        Snapshot snapshot = snapshots.get(object);
+        if (snapshot == null) {
+            return null;
+        }
+        Layout layout = layout(classInfo);
+        Set<String> changed = new HashSet<>();
+        for (int i = layout.firstChange(snapshot, object, 0); i >= 0; i = layout.firstChange(snapshot, object, i + 1)) {
+            changed.add(layout.properties[i]);
+        }
+        return changed;
+    }
+
+    /**
+     * Compares each remembered object with its snapshot, without following its relationships to any other object.
+     *
+     * @return the remembered objects whose properties or relationships have changed since they were remembered
+     */
+    public List<Object> changed() {
+        List<Object> changed = new ArrayList<>();
+        for (Map.Entry<Object, Snapshot> entry : snapshots.entrySet()) {
+            Object object = entry.getKey();
+            Snapshot snapshot = entry.getValue();
+            if (snapshot.layout.firstChange(snapshot, object, 0) >= 0 || snapshot.layout.relationshipsChanged(snapshot, object)) {
+                changed.add(object);
+            }
+        }
+        return changed;
     }
 
     public void clear() {
-        objectHash.clear();
+        snapshots.clear();
     }
 
     public boolean contains(Object o) {
-        return objectHash.containsKey(o);
+        return snapshots.containsKey(o);
+    }
+
+    public void forget(Object object) {
+        snapshots.remove(object);
+    }
+
+    private Layout layout(ClassInfo classInfo) {
+        Layout layout = layouts.get(classInfo);
+        if (layout == null) {
+            layout = new Layout(classInfo, entityAccessStrategy.getPropertyReaders(classInfo), weakKeys);
+            layouts.put(classInfo, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * The values of an object's property fields. Primitive fields occupy the slots of the primitives array and all
+     * other fields the slots of the references array, in the order given by the {@link Layout} of the object's class.
+     * The related array holds the objects referred to by each relationship field, or weak references to them.
+     */
+    private static class Snapshot {
+
+        private final Layout layout;
+        private final long[] primitives;
+        private final Object[] references;
+        private final Object[] related;
+
+        Snapshot(Layout layout) {
+            this.layout = layout;
+            this.primitives = layout.primitives == 0 ? EMPTY_PRIMITIVES : new long[layout.primitives];
+            this.references = layout.references == 0 ? EMPTY_REFERENCES : new Object[layout.references];
+            this.related = layout.relationships.length == 0 ? EMPTY_REFERENCES : new Object[layout.relationships.length];
+        }
+
+        private static final long[] EMPTY_PRIMITIVES = new long[0];
+        private static final Object[] EMPTY_REFERENCES = new Object[0];
+    }
+
+    /**
+     * The properties and relationship fields of a class, in the order in which their values are held in a {@link Snapshot}.
+     * Properties read straight from a field are read through the field, and any others through their property reader.
+     */
+    private static class Layout {
+
+        private final PropertyReader[] readers;
+        private final Field[] fields; // null where the property isn't read straight from a field
+        private final Field[] relationships;
+        private final String[] properties;
+        private final int[] slots; // the slot of each property in the primitives or references array of a snapshot
+        private final int primitives;
+        private final int references;
+        private final boolean weakRelated;
+
+        Layout(ClassInfo classInfo, Collection<PropertyReader> propertyReaders, boolean weakRelated) {
+            this.weakRelated = weakRelated;
+
+            Map<String, FieldInfo> fieldInfos = new HashMap<>();
+            for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+                fieldInfos.put(fieldInfo.property(), fieldInfo);
+            }
+
+            this.readers = propertyReaders.toArray(new PropertyReader[propertyReaders.size()]);
+            this.fields = new Field[readers.length];
+            this.properties = new String[readers.length];
+            this.slots = new int[readers.length];
+
+            int primitives = 0;
+            int references = 0;
+            for (int i = 0; i < readers.length; i++) {
+                properties[i] = readers[i].propertyName();
+                FieldInfo fieldInfo = readers[i] instanceof FieldReader ? fieldInfos.get(properties[i]) : null;
+                if (fieldInfo != null) {
+                    fields[i] = classInfo.getField(fieldInfo);
+                    fields[i].setAccessible(true);
+                }
+                slots[i] = primitive(i) ? primitives++ : references++;
+            }
+            this.primitives = primitives;
+            this.references = references;
+
+            Collection<FieldInfo> relationshipInfos = classInfo.relationshipFields();
+            this.relationships = new Field[relationshipInfos.size()];
+            int i = 0;
+            for (FieldInfo fieldInfo : relationshipInfos) {
+                Field field = classInfo.getField(fieldInfo);
+                field.setAccessible(true);
+                relationships[i++] = field;
+            }
+        }
+
+        Snapshot snapshot(Object object) {
+            Snapshot snapshot = new Snapshot(this);
+            for (int i = 0; i < readers.length; i++) {
+                if (primitive(i)) {
+                    snapshot.primitives[slots[i]] = primitive(fields[i], object);
+                } else {
+                    snapshot.references[slots[i]] = copy(value(i, object));
+                }
+            }
+            for (int i = 0; i < relationships.length; i++) {
+                Object related = related(read(relationships[i], object));
+                snapshot.related[i] = weakRelated ? weaken(related) : related;
+            }
+            return snapshot;
+        }
+
+        boolean relationshipsChanged(Snapshot snapshot, Object object) {
+            for (int i = 0; i < relationships.length; i++) {
+                if (!sameRelated(snapshot.related[i], read(relationships[i], object))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return the index of the first field from the given index onwards whose value differs from the snapshot,
+         * or -1 if there isn't one
+         */
+        int firstChange(Snapshot snapshot, Object object, int from) {
+            for (int i = from; i < readers.length; i++) {
+                if (primitive(i)) {
+                    if (snapshot.primitives[slots[i]] != primitive(fields[i], object)) {
+                        return i;
+                    }
+                } else if (!same(snapshot.references[slots[i]], value(i, object))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean primitive(int property) {
+            return fields[property] != null && fields[property].getType().isPrimitive();
+        }
+
+        private Object value(int property, Object object) {
+            return fields[property] != null ? read(fields[property], object) : readers[property].read(object);
+        }
+
+        private static long primitive(Field field, Object object) {
+            try {
+                Class<?> type = field.getType();
+                if (type == long.class) return field.getLong(object);
+                if (type == double.class) return Double.doubleToRawLongBits(field.getDouble(object));
+                if (type == float.class) return Float.floatToRawIntBits(field.getFloat(object));
+                if (type == boolean.class) return field.getBoolean(object) ? 1 : 0;
+                return field.getInt(object); // int, short, char and byte all widen to int
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private static Object read(Field field, Object object) {
+            try {
+                return field.get(object);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
     }
 
+    // collections, arrays and maps of related objects are held as arrays of the objects they contain, except for lazy
+    // collections that haven't been loaded, which are held as they are so as not to load them
+    private static Object related(Object value) {
+        if (LazyCollections.unloaded(value)) {
+            return value;
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).toArray();
+        }
+        if (value instanceof Object[]) {
+            return ((Object[]) value).clone();
+        }
+        if (value instanceof Map) {
+            List<Object> entries = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                entries.add(entry.getKey());
+                entries.add(entry.getValue());
+            }
+            return entries.toArray();
+        }
+        return value;
+    }
 
-    private static long hash(Object object, ClassInfo classInfo) {
-        long hash = seed;
-        for (FieldInfo fieldInfo : classInfo.propertyFields()) {
-            Field field = classInfo.getField(fieldInfo);
-            Object value = FieldWriter.read(field, object);
-            if (value != null) {
-                hash = hash * 31L + hash(value.toString());
+    private static Object weaken(Object related) {
+        if (related instanceof Object[]) {
+            Object[] references = new Object[((Object[]) related).length];
+            for (int i = 0; i < references.length; i++) {
+                references[i] = weaken(((Object[]) related)[i]);
             }
+            return references;
         }
-        return hash;
+        return related == null ? null : new RelatedReference(related);
     }
 
-    private static long hash(String string) {
-        long h = 1125899906842597L; // prime
-        int len = string.length();
+    private static boolean sameRelated(Object snapshot, Object value) {
+        if (snapshot instanceof RelatedReference) {
+            snapshot = ((RelatedReference) snapshot).get();
+            if (snapshot == null) {
+                return false; // the object has been collected, so the field can't refer to it any more
+            }
+        }
+        if (snapshot instanceof LazyCollection) {
+            // a lazy collection can only have been changed once it has loaded
+            if (snapshot != value) {
+                return false;
+            }
+            if (!((LazyCollection) value).isLoaded()) {
+                return true;
+            }
+            snapshot = LazyCollections.loadedElements(value);
+        }
+        if (!(snapshot instanceof Object[])) {
+            return snapshot == value;
+        }
+        Object current = related(value);
+        if (!(current instanceof Object[]) || ((Object[]) current).length != ((Object[]) snapshot).length) {
+            return false;
+        }
+        for (int i = 0; i < ((Object[]) snapshot).length; i++) {
+            Object element = ((Object[]) snapshot)[i];
+            if (element instanceof RelatedReference) {
+                element = ((RelatedReference) element).get();
+                if (element == null) {
+                    return false;
+                }
+            }
+            if (element != ((Object[]) current)[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class RelatedReference extends WeakReference<Object> {
+        RelatedReference(Object related) {
+            super(related);
+        }
+    }
 
-        for (int i = 0; i < len; i++) {
-            h = 31*h + string.charAt(i);
+    private static Object copy(Object value) {
+        if (value == null || immutable(value)) {
+            return value;
+        }
+        if (value instanceof Object[]) {
+            return copy(Arrays.asList((Object[]) value));
+        }
+        if (value.getClass().isArray()) {
+            return copyPrimitiveArray(value);
+        }
+        if (value instanceof Collection) {
+            Collection<?> elements = (Collection<?>) value;
+            Object[] copy = new Object[elements.size()];
+            int i = 0;
+            for (Object element : elements) {
+                copy[i++] = copy(element);
+            }
+            return copy;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).clone();
         }
-        return h;
+        return value.toString();
+    }
+
+    private static boolean same(Object snapshot, Object value) {
+        if (value == null || snapshot == null) {
+            return value == snapshot;
+        }
+        if (immutable(value) || value instanceof Date) {
+            return value.equals(snapshot);
+        }
+        if (value instanceof Object[]) {
+            return same(snapshot, Arrays.asList((Object[]) value));
+        }
+        if (value.getClass().isArray()) {
+            return Arrays.deepEquals(new Object[] { snapshot }, new Object[] { value });
+        }
+        if (value instanceof Collection) {
+            if (!(snapshot instanceof Object[]) || ((Object[]) snapshot).length != ((Collection<?>) value).size()) {
+                return false;
+            }
+            int i = 0;
+            for (Object element : (Collection<?>) value) {
+                if (!same(((Object[]) snapshot)[i++], element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return snapshot.equals(value.toString());
+    }
+
+    private static Object copyPrimitiveArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    private static boolean immutable(Object value) {
+        return value instanceof String
+                || value instanceof Number && (value.getClass().getName().startsWith("java.lang.")
+                        || value instanceof BigDecimal || value instanceof BigInteger)
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum;
     }
 }
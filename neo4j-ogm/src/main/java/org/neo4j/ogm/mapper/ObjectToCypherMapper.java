@@ -30,4 +30,17 @@ public interface ObjectToCypherMapper {
      */
     CypherContext map(Object toPersist, int depth);
 
+    /**
+     * Processes all the given objects and any of their composite persistent objects to the specified depth and produces
+     * Cypher queries to persist their state in Neo4j. The objects are compiled together, so that objects of the same kind
+     * are written by the same statement regardless of how many objects there are.
+     *
+     * @param toPersist The "root" nodes of the object graphs to persist
+     * @param depth The number of objects away from each "root" to traverse when looking for objects to map
+     * @return A {@link CypherContext} object containing the statements required to persist the given objects to Neo4j, along
+     *         with a representation of the changes to be made by the Cypher statements never <code>null</code>
+     * @throws NullPointerException if invoked with <code>null</code>
+     */
+    CypherContext mapAll(Iterable<?> toPersist, int depth);
+
 }
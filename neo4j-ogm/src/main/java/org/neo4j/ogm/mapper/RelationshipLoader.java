@@ -0,0 +1,22 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * Fetches the objects related to an object on behalf of a {@link LazyCollection} that is accessed for the first time.
+ */
+public interface RelationshipLoader {
+
+    /**
+     * Loads the objects at the other end of the relationships of a node in the given direction, and maps them onto
+     * the object of that node, whose lazy collections of that direction receive them.
+     *
+     * All the relationships in that direction are loaded at once, rather than only those of the collection being
+     * accessed, because the related objects are mapped onto outgoing collections by their type, which doesn't always
+     * tell the type of relationship.
+     *
+     * @param owner the object whose relationships are loaded
+     * @param id the id of the node of the object
+     * @param direction the direction of the relationships from the node, as declared by the collection's
+     * {@link org.neo4j.ogm.annotation.Relationship} annotation
+     */
+    void load(Object owner, Long id, String direction);
+}
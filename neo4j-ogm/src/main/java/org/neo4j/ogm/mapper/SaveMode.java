@@ -0,0 +1,23 @@
+package org.neo4j.ogm.mapper;
+
+/**
+ * Determines how much of the object graph reachable from the objects being saved the {@link ObjectCypherMapper}
+ * traverses.
+ *
+ * <ul>
+ *     <li>{@link #TRAVERSE_ALL} visits every object reachable from the objects being saved, up to the requested
+ *     depth. This is the default.</li>
+ *     <li>{@link #SKIP_CLEAN} does not look beyond an object whose relationships are unchanged since it was loaded
+ *     or last saved, unless one of its related objects leads to a changed object. The changed objects are found by
+ *     comparing the snapshots of the session's objects, and the relationships the session knows of are followed
+ *     back from them, so a clean branch is skipped without walking the objects beyond it. Changed objects that
+ *     aren't reachable from those being saved, within the requested depth, are not saved.</li>
+ * </ul>
+ *
+ * Either way, an object whose properties are unchanged is not written.
+ */
+public enum SaveMode {
+
+    TRAVERSE_ALL, SKIP_CLEAN
+
+}
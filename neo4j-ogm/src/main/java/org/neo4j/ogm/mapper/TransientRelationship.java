@@ -24,23 +24,32 @@ public class TransientRelationship {
     private final String src;
     private final String tgt;
     private final String rel;
+    private final String ref;
 
     public TransientRelationship(String src, String rel, String tgt) {
+        this(src, rel, tgt, null);
+    }
+
+    /**
+     * @param ref the compiler's reference to the relationship itself, whose identity the response may also contain
+     */
+    public TransientRelationship(String src, String rel, String tgt, String ref) {
         this.src = src;
         this.tgt = tgt;
         this.rel = rel;
+        this.ref = ref;
     }
 
     /**
      * Creates a MappedRelationship from a TransientRelationship
      * using the supplied refMap to lookup and replace the correct start and end node ids
-     * @param refMap A Map containing refs to the src/tgt ids
+     * @param refMap A Map containing refs to the src/tgt ids, of both new and existing nodes
      * @return
      */
     public MappedRelationship convert(Map<String, Long> refMap) {
 
-        Long srcIdentity = src.startsWith("_") ? refMap.get(src) : Long.parseLong(src.substring(1));
-        Long tgtIdentity = tgt.startsWith("_") ? refMap.get(tgt) : Long.parseLong(tgt.substring(1));
+        Long srcIdentity = refMap.get(src);
+        Long tgtIdentity = refMap.get(tgt);
 
         if (srcIdentity == null) {
             throw new RuntimeException("Couldn't get identity for " + src);
@@ -50,7 +59,7 @@ public class TransientRelationship {
             throw new RuntimeException("Couldn't get identity for " + tgt);
         }
 
-        return new MappedRelationship(srcIdentity, rel, tgtIdentity);
+        return new MappedRelationship(srcIdentity, rel, tgtIdentity, ref == null ? null : refMap.get(ref));
     }
 
     public boolean equalsIgnoreDirection(String src, String type, String tgt) {
@@ -0,0 +1,153 @@
+package org.neo4j.ogm.mapper;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * A map whose keys are compared by identity and held by weak references, so that an entry disappears once its key
+ * is no longer reachable. The JDK has a weak map and an identity map, but not both at once, and domain objects
+ * can't be relied upon to implement equals and hashCode in a way that's stable across changes to their properties.
+ *
+ * This class is not thread-safe.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+class WeakIdentityHashMap<K, V> extends AbstractMap<K, V> {
+
+    private final Map<IdentityWeakReference, V> map = new HashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    @Override
+    public V get(Object key) {
+        expunge();
+        return map.get(new IdentityWeakReference(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        expunge();
+        return map.containsKey(new IdentityWeakReference(key));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        expunge();
+        return map.put(new IdentityWeakReference(key, queue), value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        expunge();
+        return map.remove(new IdentityWeakReference(key));
+    }
+
+    @Override
+    public int size() {
+        expunge();
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        while (queue.poll() != null) {
+            // discard references to keys whose entries have gone anyway
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        expunge();
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator(map.entrySet().iterator());
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    private void expunge() {
+        Object reference;
+        while ((reference = queue.poll()) != null) {
+            map.remove(reference);
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<IdentityWeakReference, V>> entries;
+        private Entry<K, V> next;
+
+        EntryIterator(Iterator<Entry<IdentityWeakReference, V>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean hasNext() {
+            // skip over entries whose keys have been collected but not yet expunged
+            while (next == null && entries.hasNext()) {
+                Entry<IdentityWeakReference, V> entry = entries.next();
+                Object key = entry.getKey().get();
+                if (key != null) {
+                    next = new SimpleEntry<>((K) key, entry.getValue());
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Entry<K, V> entry = next;
+            next = null;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (next != null) {
+                // hasNext() has already moved the underlying iterator past the entry last returned
+                throw new IllegalStateException("remove() must directly follow next()");
+            }
+            entries.remove();
+        }
+    }
+
+    private static class IdentityWeakReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        IdentityWeakReference(Object referent) {
+            super(referent);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        IdentityWeakReference(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof IdentityWeakReference)) return false;
+            Object referent = get();
+            return referent != null && referent == ((IdentityWeakReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
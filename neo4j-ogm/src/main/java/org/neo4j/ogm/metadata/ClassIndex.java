@@ -0,0 +1,123 @@
+package org.neo4j.ogm.metadata;
+
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.ClassInfoProcessor;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.*;
+
+/**
+ * An index of the classes in the domain packages, written when the domain is built so that its metadata can be loaded
+ * without searching the classpath.
+ *
+ * The index of each package is a resource named <code>META-INF/neo4j-ogm/index/</code> followed by the package name,
+ * listing the fully-qualified name of each class in the package and its sub-packages, one per line. When every
+ * package of the domain has an index, the listed classes are read directly from the class loader; otherwise the
+ * classpath is scanned as usual.
+ *
+ * The indexes are written by running this class after the domain classes have been compiled, with the output folder
+ * followed by the domain packages as its arguments, for instance with the exec-maven-plugin in the process-classes
+ * phase, giving <code>${project.build.outputDirectory}</code> as the first argument.
+ */
+public class ClassIndex {
+
+    public static final String LOCATION = "META-INF/neo4j-ogm/index/";
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    public static void main(String... args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ClassIndex <output folder> <package>...");
+        }
+        write(new File(args[0]), Arrays.copyOfRange(args, 1, args.length));
+    }
+
+    /**
+     * Writes the index of each of the given packages into the META-INF folder below the given folder.
+     *
+     * @param folder the root of the classpath folder to write the index to
+     * @param packages the domain packages to index
+     * @throws IOException if an index can't be written
+     */
+    public static void write(File folder, String... packages) throws IOException {
+        File indexFolder = new File(folder, LOCATION);
+        if (!indexFolder.isDirectory() && !indexFolder.mkdirs()) {
+            throw new IOException("Unable to create " + indexFolder);
+        }
+        for (String packageName : packages) {
+            ClassNames classNames = new ClassNames();
+            new ClassPathScanner().scan(Collections.singletonList(packageName.replace(".", File.separator)), classNames);
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(new File(indexFolder, packageName)), UTF_8)) {
+                for (String className : classNames.sorted()) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the class files listed in the indexes of the given packages.
+     *
+     * @param classLoader the class loader from which to read the indexes
+     * @param packages the domain packages
+     * @return the resource names of the indexed class files, or <code>null</code> if any of the packages is not indexed
+     */
+    public static List<String> classResources(ClassLoader classLoader, String... packages) {
+        Set<String> resources = new LinkedHashSet<>();
+        try {
+            for (String packageName : packages) {
+                Enumeration<URL> indexes = classLoader.getResources(LOCATION + packageName);
+                if (!indexes.hasMoreElements()) {
+                    return null;
+                }
+                while (indexes.hasMoreElements()) {
+                    read(indexes.nextElement(), resources);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new ArrayList<>(resources);
+    }
+
+    private static void read(URL index, Set<String> resources) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(), UTF_8))) {
+            String className;
+            while ((className = reader.readLine()) != null) {
+                className = className.trim();
+                if (!className.isEmpty()) {
+                    resources.add(className.replace('.', '/') + ".class");
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the names of the classes and interfaces scanned.
+     */
+    private static class ClassNames implements ClassInfoProcessor {
+
+        private final Set<String> classNames = Collections.synchronizedSet(new HashSet<String>());
+
+        @Override
+        public void process(InputStream inputStream) throws IOException {
+            String className = new ClassInfo(inputStream).name();
+            if (className != null) {
+                classNames.add(className);
+            }
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        List<String> sorted() {
+            List<String> sorted = new ArrayList<>(classNames);
+            Collections.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -6,13 +6,30 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+/**
+ * Finds the class files of the domain and hands each of them to a {@link ClassInfoProcessor}.
+ *
+ * Each classpath folder, sub-folder and jar is scanned by a separate task of a fork-join pool, so the processor must
+ * accept class files from several threads at once. Its {@link ClassInfoProcessor#finish()} method is called once all
+ * of them have been processed.
+ *
+ * Only the base entries of multi-release jars are scanned: their versioned entries live under META-INF/versions,
+ * which is never one of the packages being scanned, and describe the same members of the same classes.
+ */
 public class ClassPathScanner {
 
+    // the number of class resources read by a single task when loading the classes listed in an index
+    private static final int RESOURCES_PER_TASK = 16;
+
     private List<String> classPaths;
     private ClassInfoProcessor processor;
 
@@ -45,14 +62,16 @@ public class ClassPathScanner {
         if (scanFolders || scanFiles) {
             File[] subFiles = folder.listFiles();
             if (subFiles != null) {
+                List<FolderScan> subFolders = new ArrayList<>();
                 for (final File subFile : subFiles) {
                     if (subFile.isDirectory()) {
-                        scanFolder(subFile, prefixSize);
+                        subFolders.add(new FolderScan(subFile, prefixSize));
                     } else if (scanFiles && subFile.isFile()) {
                         String leafSuffix = "/" + subFile.getName();
                         scanFile(subFile, relativePath + leafSuffix);
                     }
                 }
+                ForkJoinTask.invokeAll(subFolders);
             }
         }
     }
@@ -79,29 +98,160 @@ public class ClassPathScanner {
         }
     }
 
+    private void scanClasspathElement(File classPathElement) throws IOException {
+        String path = classPathElement.getPath();
+        if (classPathElement.isDirectory()) {
+            scanFolder(classPathElement, path.length() + 1);
+        } else if (classPathElement.isFile()) {
+            String pathLower = path.toLowerCase();
+            if (pathLower.endsWith(".jar") || pathLower.endsWith(".zip")) {
+                try (ZipFile zipFile = new ZipFile(classPathElement)) {
+                    scanZipFile(zipFile);
+                }
+            } else {
+                scanFile(classPathElement, classPathElement.getName());
+            }
+        }
+    }
+
+    private void scanResources(ClassLoader classLoader, List<String> resources) throws IOException {
+        for (String resource : resources) {
+            try (InputStream inputStream = classLoader.getResourceAsStream(resource)) {
+                if (inputStream == null) {
+                    throw new MappingException("Indexed class " + resource + " was not found on the classpath");
+                }
+                processor.process(inputStream);
+            }
+        }
+    }
+
+    /**
+     * Scans the class files in the given paths of every element of the classpath.
+     *
+     * @param classPaths the paths to scan, relative to the roots of the classpath
+     * @param processor the processor to hand the class files found to
+     */
     public void scan(List<String> classPaths, ClassInfoProcessor processor) {
 
         this.classPaths = classPaths;
         this.processor = processor;
 
+        List<ClasspathElementScan> tasks = new ArrayList<>();
+        for (File classPathElement : ClassUtils.getUniqueClasspathElements()) {
+            tasks.add(new ClasspathElementScan(classPathElement));
+        }
+        run(new AllOf(tasks));
+        processor.finish();
+    }
+
+    /**
+     * Reads the named class files from a class loader instead of searching the classpath for them, as is done for the
+     * classes listed in a {@link ClassIndex}.
+     *
+     * @param classLoader the class loader from which to read the class files
+     * @param resources the resource names of the class files
+     * @param processor the processor to hand the class files to
+     */
+    public void scan(ClassLoader classLoader, List<String> resources, ClassInfoProcessor processor) {
+
+        this.processor = processor;
+
+        run(new ResourceScan(classLoader, resources));
+        processor.finish();
+    }
+
+    private static void run(ForkJoinTask<?> task) {
+        ForkJoinPool pool = new ForkJoinPool();
         try {
-            for (File classPathElement : ClassUtils.getUniqueClasspathElements()) {
-                String path = classPathElement.getPath();
-                if (classPathElement.isDirectory()) {
-                    scanFolder(classPathElement, path.length() + 1);
-                } else if (classPathElement.isFile()) {
-                    String pathLower = path.toLowerCase();
-                    if (pathLower.endsWith(".jar") || pathLower.endsWith(".zip")) {
-                        scanZipFile(new ZipFile(classPathElement));
-                    } else {
-                        scanFile(classPathElement, classPathElement.getName());
-                    }
-                }
+            pool.invoke(task);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private class AllOf extends RecursiveAction {
+
+        private static final long serialVersionUID = -8584238018207091516L;
+
+        private final List<? extends ForkJoinTask<?>> tasks;
+
+        AllOf(List<? extends ForkJoinTask<?>> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(tasks);
+        }
+    }
+
+    private class ClasspathElementScan extends RecursiveAction {
+
+        private static final long serialVersionUID = -6260772090886383980L;
+
+        private final File classPathElement;
+
+        ClasspathElementScan(File classPathElement) {
+            this.classPathElement = classPathElement;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                scanClasspathElement(classPathElement);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private class FolderScan extends RecursiveAction {
+
+        private static final long serialVersionUID = -6484373429260029456L;
+
+        private final File folder;
+        private final int prefixSize;
+
+        FolderScan(File folder, int prefixSize) {
+            this.folder = folder;
+            this.prefixSize = prefixSize;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                scanFolder(folder, prefixSize);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
             }
-            processor.finish();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
     }
 
+    private class ResourceScan extends RecursiveAction {
+
+        private static final long serialVersionUID = -241669832246706187L;
+
+        private final ClassLoader classLoader;
+        private final List<String> resources;
+
+        ResourceScan(ClassLoader classLoader, List<String> resources) {
+            this.classLoader = classLoader;
+            this.resources = resources;
+        }
+
+        @Override
+        protected void compute() {
+            int size = resources.size();
+            if (size <= RESOURCES_PER_TASK) {
+                try {
+                    scanResources(classLoader, resources);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            } else {
+                invokeAll(new ResourceScan(classLoader, resources.subList(0, size / 2)),
+                        new ResourceScan(classLoader, resources.subList(size / 2, size)));
+            }
+        }
+    }
 }
@@ -1,8 +1,5 @@
 package org.neo4j.ogm.metadata;
 
-import org.neo4j.ogm.annotation.NodeEntity;
-import org.neo4j.ogm.annotation.RelationshipEntity;
-import org.neo4j.ogm.metadata.info.AnnotationInfo;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.DomainInfo;
 import org.slf4j.Logger;
@@ -12,6 +9,8 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class MetaData {
 
@@ -19,6 +18,16 @@ public class MetaData {
 
     private final DomainInfo domainInfo;
 
+    private final ClassValue<ClassInfo> classInfos = new ClassValue<ClassInfo>() {
+        @Override
+        protected ClassInfo computeValue(Class<?> type) {
+            return classInfo(type.getName());
+        }
+    };
+
+    // the base classes found for the taxa of the nodes and relationships loaded so far
+    private final ConcurrentMap<Taxa, ClassInfo> resolvedTaxa = new ConcurrentHashMap<>();
+
     public MetaData(String... packages) {
         domainInfo = new DomainInfo(packages);
     }
@@ -30,40 +39,36 @@ public class MetaData {
      * @return A ClassInfo matching the supplied name, or null if it doesn't exist
      */
     public ClassInfo classInfo(String name) {
-        ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+        ClassInfo classInfo = domainInfo.getClassInfoForLabel(name);
         if (classInfo != null) {
             return classInfo;
         }
-        classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
+        classInfo = domainInfo.getClassInfoForRelationshipType(name);
         if (classInfo != null) {
             return classInfo;
         }
         return domainInfo.getClassSimpleName(name);
     }
 
+    /**
+     * Finds the ClassInfo for the supplied class. The result is remembered for each class, so this is the cheapest way to
+     * look up the metadata of an object's class.
+     *
+     * @param type the class whose classInfo we want to find
+     * @return A ClassInfo matching the supplied class, or null if it doesn't exist
+     */
+    public ClassInfo classInfo(Class<?> type) {
+        return classInfos.get(type);
+    }
 
     /**
-     * Finds the ClassInfo for the supplied object by looking up its class name
+     * Finds the ClassInfo for the supplied object by looking up its class
      *
-     * @param object the class name whose classInfo we want to find
+     * @param object the object whose classInfo we want to find
      * @return A ClassInfo matching the supplied object's class, or null if it doesn't exist
      */
     public ClassInfo classInfo(Object object) {
-        return classInfo(object.getClass().getName());
-    }
-
-    private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-        List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-        if (labelledClasses != null) {
-            for (ClassInfo labelledClass : labelledClasses) {
-                AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-                String value = annotationInfo.get(annotationPropertyName, labelledClass.label());
-                if (value.equals(name)) {
-                    return labelledClass;
-                }
-            }
-        }
-        return null;
+        return classInfo(object.getClass());
     }
 
     /**
@@ -74,6 +79,18 @@ public class MetaData {
      * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
      */
     public ClassInfo resolve(String... taxa) {
+        Taxa key = new Taxa(taxa);
+        ClassInfo classInfo = resolvedTaxa.get(key);
+        if (classInfo == null) {
+            classInfo = resolveBaseClass(taxa);
+            if (classInfo != null) {
+                resolvedTaxa.putIfAbsent(new Taxa(taxa.clone()), classInfo);
+            }
+        }
+        return classInfo;
+    }
+
+    private ClassInfo resolveBaseClass(String... taxa) {
 
         if (taxa.length > 0) {
             Set<ClassInfo> baseClasses = new HashSet<>();
@@ -123,5 +140,27 @@ public class MetaData {
 
     }
 
+    /**
+     * The taxa of a node or relationship, which are equal to any others with the same names in the same order.
+     */
+    private static class Taxa {
+
+        private final String[] names;
+        private final int hashCode;
 
+        Taxa(String[] names) {
+            this.names = names;
+            this.hashCode = Arrays.hashCode(names);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Taxa && Arrays.equals(names, ((Taxa) o).names));
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
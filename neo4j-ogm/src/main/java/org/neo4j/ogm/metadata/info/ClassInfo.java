@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Maintains object to graph mapping details at the class (type) level
@@ -52,6 +54,19 @@ public class ClassInfo {
     private final Set<InterfaceInfo> interfaces = new HashSet<>();
     private InterfacesInfo interfacesInfo = new InterfacesInfo();
 
+    // views derived from the class's members and hierarchy, each worked out the first time it is asked for and
+    // forgotten whenever the class is changed while the domain is being loaded
+    private volatile Class<?> type;
+    private volatile FieldInfo identityField;
+    private volatile Collection<String> labels;
+    private volatile Members<FieldInfo> propertyFields;
+    private volatile Members<FieldInfo> relationshipFields;
+    private volatile Members<MethodInfo> propertyGetters;
+    private volatile Members<MethodInfo> propertySetters;
+    private volatile Members<MethodInfo> relationshipGetters;
+    private volatile Members<MethodInfo> relationshipSetters;
+    private final ConcurrentMap<String, Field> fields = new ConcurrentHashMap<>();
+
     // todo move this to a factory class
     public ClassInfo(InputStream inputStream) throws IOException {
 
@@ -101,6 +116,7 @@ public class ClassInfo {
             this.annotationsInfo.append(classInfoDetails.annotationsInfo());
             this.fieldsInfo.append(classInfoDetails.fieldsInfo());
             this.methodsInfo.append(classInfoDetails.methodsInfo());
+            invalidate();
        }
     }
 
@@ -108,6 +124,25 @@ public class ClassInfo {
         this.interfaces.addAll(classInfo.interfaces());
         this.fieldsInfo.append(classInfo.fieldsInfo());
         this.methodsInfo.append(classInfo.methodsInfo());
+        invalidate();
+    }
+
+    /*
+     * Forgets the derived views of this class and its subclasses, whose labels include those of this class.
+     */
+    private void invalidate() {
+        identityField = null;
+        labels = null;
+        propertyFields = null;
+        relationshipFields = null;
+        propertyGetters = null;
+        propertySetters = null;
+        relationshipGetters = null;
+        relationshipSetters = null;
+        fields.clear();
+        for (ClassInfo subclass : directSubclasses) {
+            subclass.invalidate();
+        }
     }
 
     /** This class was referenced as a superclass of the given subclass. */
@@ -124,6 +159,7 @@ public class ClassInfo {
         }
         subclass.directSuperclass = this;
         this.directSubclasses.add(subclass);
+        subclass.invalidate();
     }
 
     public boolean hydrated() {
@@ -150,7 +186,11 @@ public class ClassInfo {
      *         <code>null</code>
      */
     public Collection<String> labels() {
-        return collectLabels(new ArrayList<String>());
+        Collection<String> labels = this.labels;
+        if (labels == null) {
+            this.labels = labels = Collections.unmodifiableList(collectLabels(new ArrayList<String>()));
+        }
+        return labels;
     }
 
     public String label() {
@@ -158,7 +198,7 @@ public class ClassInfo {
         return((annotationInfo != null) ? annotationInfo.get(NodeEntity.LABEL, simpleName()) : simpleName());
     }
 
-    private Collection<String> collectLabels(Collection<String> labelNames) {
+    private List<String> collectLabels(List<String> labelNames) {
         if (!isAbstract || annotationsInfo.get(NodeEntity.CLASS) != null) {
             labelNames.add(label());
         }
@@ -216,6 +256,14 @@ public class ClassInfo {
      * @throws MappingException if no identity field can be found
      */
     public FieldInfo identityField() {
+        FieldInfo identityField = this.identityField;
+        if (identityField == null) {
+            this.identityField = identityField = findIdentityField();
+        }
+        return identityField;
+    }
+
+    private FieldInfo findIdentityField() {
         for (FieldInfo fieldInfo : fieldsInfo().fields()) {
             AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(GraphId.CLASS);
             if (annotationInfo != null) {
@@ -240,6 +288,14 @@ public class ClassInfo {
      * @return A Collection of FieldInfo objects describing the classInfo's property fields
      */
     public Collection<FieldInfo> propertyFields() {
+        return propertyFieldMembers().all;
+    }
+
+    private Members<FieldInfo> propertyFieldMembers() {
+        Members<FieldInfo> members = this.propertyFields;
+        if (members != null) {
+            return members;
+        }
         FieldInfo identityField = identityField();
         Set<FieldInfo> fieldInfos = new HashSet<>();
         for (FieldInfo fieldInfo : fieldsInfo().fields()) {
@@ -254,7 +310,11 @@ public class ClassInfo {
                 }
             }
         }
-        return fieldInfos;
+        Map<String, FieldInfo> byName = new HashMap<>();
+        for (FieldInfo fieldInfo : fieldInfos) {
+            index(byName, fieldInfo.property(), fieldInfo);
+        }
+        return this.propertyFields = new Members<>(fieldInfos, byName);
     }
 
     /**
@@ -264,12 +324,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required property field, or null if it doesn't exist.
      */
     public FieldInfo propertyField(String propertyName) {
-        for (FieldInfo fieldInfo : propertyFields()) {
-            if (fieldInfo.property().equalsIgnoreCase(propertyName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return propertyFieldMembers().named(propertyName);
     }
 
     /**
@@ -279,6 +334,14 @@ public class ClassInfo {
      * @return A Collection of FieldInfo objects describing the classInfo's relationship fields
      */
     public Collection<FieldInfo> relationshipFields() {
+        return relationshipFieldMembers().all;
+    }
+
+    private Members<FieldInfo> relationshipFieldMembers() {
+        Members<FieldInfo> members = this.relationshipFields;
+        if (members != null) {
+            return members;
+        }
         FieldInfo identityField = identityField();
         Set<FieldInfo> fieldInfos = new HashSet<>();
         for (FieldInfo fieldInfo : fieldsInfo().fields()) {
@@ -293,7 +356,11 @@ public class ClassInfo {
                 }
             }
         }
-        return fieldInfos;
+        Map<String, FieldInfo> byName = new HashMap<>();
+        for (FieldInfo fieldInfo : fieldInfos) {
+            index(byName, fieldInfo.relationship(), fieldInfo);
+        }
+        return this.relationshipFields = new Members<>(fieldInfos, byName);
     }
 
     /**
@@ -303,12 +370,7 @@ public class ClassInfo {
      * @return A FieldInfo object describing the required relationship field, or null if it doesn't exist.
      */
     public FieldInfo relationshipField(String relationshipName) {
-        for (FieldInfo fieldInfo : relationshipFields()) {
-            if (fieldInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return fieldInfo;
-            }
-        }
-        return null;
+        return relationshipFieldMembers().named(relationshipName);
     }
 
     /**
@@ -366,6 +428,14 @@ public class ClassInfo {
      * @return A Collection of MethodInfo objects describing the classInfo's property getters
      */
     public Collection<MethodInfo> propertyGetters() {
+        return propertyGetterMembers().all;
+    }
+
+    private Members<MethodInfo> propertyGetterMembers() {
+        Members<MethodInfo> members = this.propertyGetters;
+        if (members != null) {
+            return members;
+        }
         MethodInfo identityGetter = identityGetter();
         Set<MethodInfo> propertyGetters = new HashSet<>();
         for (MethodInfo methodInfo : methodsInfo().getters()) {
@@ -380,7 +450,11 @@ public class ClassInfo {
                 }
             }
         }
-        return propertyGetters;
+        Map<String, MethodInfo> byName = new HashMap<>();
+        for (MethodInfo methodInfo : propertyGetters) {
+            index(byName, methodInfo.property(), methodInfo);
+        }
+        return this.propertyGetters = new Members<>(propertyGetters, byName);
     }
 
     /**
@@ -390,6 +464,14 @@ public class ClassInfo {
      * @return A Collection of MethodInfo objects describing the classInfo's property setters
      */
     public Collection<MethodInfo> propertySetters() {
+        return propertySetterMembers().all;
+    }
+
+    private Members<MethodInfo> propertySetterMembers() {
+        Members<MethodInfo> members = this.propertySetters;
+        if (members != null) {
+            return members;
+        }
         MethodInfo identitySetter = identitySetter();
         Set<MethodInfo> propertySetters = new HashSet<>();
         for (MethodInfo methodInfo : methodsInfo().setters()) {
@@ -404,7 +486,11 @@ public class ClassInfo {
                 }
             }
         }
-        return propertySetters;
+        Map<String, MethodInfo> byName = new HashMap<>();
+        for (MethodInfo methodInfo : propertySetters) {
+            index(byName, methodInfo.property(), methodInfo);
+        }
+        return this.propertySetters = new Members<>(propertySetters, byName);
     }
 
     /**
@@ -414,6 +500,14 @@ public class ClassInfo {
      * @return A Collection of MethodInfo objects describing the classInfo's property getters
      */
     public Collection<MethodInfo> relationshipGetters() {
+        return relationshipGetterMembers().all;
+    }
+
+    private Members<MethodInfo> relationshipGetterMembers() {
+        Members<MethodInfo> members = this.relationshipGetters;
+        if (members != null) {
+            return members;
+        }
         MethodInfo identityGetter = identityGetter();
         Set<MethodInfo> relationshipGetters = new HashSet<>();
         for (MethodInfo methodInfo : methodsInfo().getters()) {
@@ -428,7 +522,11 @@ public class ClassInfo {
                 }
             }
         }
-        return relationshipGetters;
+        Map<String, MethodInfo> byName = new HashMap<>();
+        for (MethodInfo methodInfo : relationshipGetters) {
+            index(byName, methodInfo.relationship(), methodInfo);
+        }
+        return this.relationshipGetters = new Members<>(relationshipGetters, byName);
     }
 
     /**
@@ -438,6 +536,14 @@ public class ClassInfo {
      * @return A Collection of MethodInfo objects describing the classInfo's property getters
      */
     public Collection<MethodInfo> relationshipSetters() {
+        return relationshipSetterMembers().all;
+    }
+
+    private Members<MethodInfo> relationshipSetterMembers() {
+        Members<MethodInfo> members = this.relationshipSetters;
+        if (members != null) {
+            return members;
+        }
         MethodInfo identitySetter = identitySetter();
         Set<MethodInfo> relationshipSetters = new HashSet<>();
         for (MethodInfo methodInfo : methodsInfo().setters()) {
@@ -452,7 +558,11 @@ public class ClassInfo {
                 }
             }
         }
-        return relationshipSetters;
+        Map<String, MethodInfo> byName = new HashMap<>();
+        for (MethodInfo methodInfo : relationshipSetters) {
+            index(byName, methodInfo.relationship(), methodInfo);
+        }
+        return this.relationshipSetters = new Members<>(relationshipSetters, byName);
     }
 
     /**
@@ -462,12 +572,7 @@ public class ClassInfo {
      * @return A MethodInfo object describing the required relationship getter, or null if it doesn't exist.
      */
     public MethodInfo relationshipGetter(String relationshipName) {
-        for (MethodInfo methodInfo : relationshipGetters()) {
-            if (methodInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return methodInfo;
-            }
-        }
-        return null;
+        return relationshipGetterMembers().named(relationshipName);
     }
 
     /**
@@ -477,12 +582,7 @@ public class ClassInfo {
      * @return A MethodInfo object describing the required relationship setter, or null if it doesn't exist.
      */
     public MethodInfo relationshipSetter(String relationshipName) {
-        for (MethodInfo methodInfo : relationshipSetters()) {
-            if (methodInfo.relationship().equalsIgnoreCase(relationshipName)) {
-                return methodInfo;
-            }
-        }
-        return null;
+        return relationshipSetterMembers().named(relationshipName);
     }
 
     /**
@@ -492,13 +592,9 @@ public class ClassInfo {
      * @return A MethodInfo object describing the required property setter, or null if it doesn't exist.
      */
     public MethodInfo propertySetter(String propertyName) {
-        for (MethodInfo methodInfo : propertySetters()) {
-            String match = methodInfo.property();
-            if (match.equalsIgnoreCase(propertyName) || match.equalsIgnoreCase("set" + propertyName)) {
-                return methodInfo;
-            }
-        }
-        return null;
+        Members<MethodInfo> members = propertySetterMembers();
+        MethodInfo methodInfo = members.named(propertyName);
+        return methodInfo != null ? methodInfo : members.named("set" + propertyName);
     }
 
     /**
@@ -508,13 +604,9 @@ public class ClassInfo {
      * @return A MethodInfo object describing the required property getter, or null if it doesn't exist.
      */
     public MethodInfo propertyGetter(String propertyName) {
-        for (MethodInfo methodInfo : propertyGetters()) {
-            String match = methodInfo.property();
-            if (match.equalsIgnoreCase(propertyName) || match.equalsIgnoreCase("get" + propertyName)) {
-                return methodInfo;
-            }
-        }
-        return null;
+        Members<MethodInfo> members = propertyGetterMembers();
+        MethodInfo methodInfo = members.named(propertyName);
+        return methodInfo != null ? methodInfo : members.named("get" + propertyName);
     }
 
     /**
@@ -533,18 +625,42 @@ public class ClassInfo {
      * @return
      */
     public Field getField(FieldInfo fieldInfo) {
+        Field field = fields.get(fieldInfo.getName());
+        if (field == null) {
+            field = findField(fieldInfo);
+            fields.put(fieldInfo.getName(), field);
+        }
+        return field;
+    }
+
+    private Field findField(FieldInfo fieldInfo) {
         try {
-            return Class.forName(name()).getDeclaredField(fieldInfo.getName());
+            return type().getDeclaredField(fieldInfo.getName());
         } catch (NoSuchFieldException e) {
             if (directSuperclass() != null) {
                 return directSuperclass().getField(fieldInfo);
             } else {
                 throw new RuntimeException("Field " + fieldInfo.getName() + " not found in class " + name() + " or any of its superclasses");
             }
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException(e);
         }
+    }
 
+    /**
+     * Loads the class described by this ClassInfo the first time it is asked for.
+     *
+     * @return The {@link Class} described by this ClassInfo, never <code>null</code>
+     * @throws MappingException if the class can't be loaded
+     */
+    public Class<?> type() {
+        Class<?> type = this.type;
+        if (type == null) {
+            try {
+                this.type = type = Class.forName(name());
+            } catch (ClassNotFoundException e) {
+                throw new MappingException("Unable to load class: " + name(), e);
+            }
+        }
+        return type;
     }
 
     /**
@@ -555,7 +671,7 @@ public class ClassInfo {
      */
     public Method getMethod(MethodInfo methodInfo, Class... parameterTypes) {
         try {
-            return Class.forName(name()).getMethod(methodInfo.getName(), parameterTypes);
+            return type().getMethod(methodInfo.getName(), parameterTypes);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -738,5 +854,42 @@ public class ClassInfo {
     public boolean isTransient() {
         return annotationsInfo.get(Transient.CLASS) != null;
     }
-}
 
+    private static <T> void index(Map<String, T> byName, String name, T member) {
+        String key = caseInsensitive(name);
+        if (!byName.containsKey(key)) {
+            byName.put(key, member);
+        }
+    }
+
+    /*
+     * Folds the case of each character the way String.equalsIgnoreCase compares them, so that names which are equal
+     * ignoring case have the same key.
+     */
+    private static String caseInsensitive(String name) {
+        char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * The fields or methods of a class that map to properties or relationships, together with an index of them by the
+     * name of the property or relationship, ignoring case.
+     */
+    private static class Members<T> {
+
+        private final Collection<T> all;
+        private final Map<String, T> byName;
+
+        Members(Set<T> all, Map<String, T> byName) {
+            this.all = Collections.unmodifiableSet(all);
+            this.byName = byName;
+        }
+
+        T named(String name) {
+            return byName.get(caseInsensitive(name));
+        }
+    }
+}
@@ -19,6 +19,9 @@ class ConstantPool {
                     pool[i] = stream.readUTF();
                     break;
                 case ConstantPoolTags.INTEGER:
+                    // kept for the int and boolean values of annotation elements
+                    pool[i] = String.valueOf(stream.readInt());
+                    break;
                 case ConstantPoolTags.FLOAT:
                     stream.skipBytes(4);
                     break;
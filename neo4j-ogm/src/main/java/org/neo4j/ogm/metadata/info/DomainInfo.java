@@ -1,5 +1,8 @@
 package org.neo4j.ogm.metadata.info;
 
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.metadata.ClassIndex;
 import org.neo4j.ogm.metadata.ClassPathScanner;
 import org.neo4j.ogm.metadata.MappingException;
 import org.slf4j.Logger;
@@ -24,6 +27,12 @@ public class DomainInfo implements ClassInfoProcessor {
 
     private final Set<String> enumTypes = new HashSet<>();
 
+    // indexes built once all classes have been loaded, see buildIndexes()
+    private Map<String, ClassInfo> labelToClassInfo = Collections.emptyMap();
+    private Map<String, ClassInfo> typeToClassInfo = Collections.emptyMap();
+    private Map<String, ClassInfo> partialNameToClassInfo = Collections.emptyMap();
+    private Set<String> ambiguousPartialNames = Collections.emptySet();
+
     private static final Logger LOGGER = LoggerFactory.getLogger(ClassInfoProcessor.class);
 
     public DomainInfo(String... packages) {
@@ -95,7 +104,7 @@ public class DomainInfo implements ClassInfoProcessor {
         }
     }
 
-    public void finish() {
+    public synchronized void finish() {
         buildAnnotationNameToClassInfoMap();
         registerDefaultTypeConverters();
         List<ClassInfo> transientClasses = new ArrayList<>();
@@ -118,6 +127,52 @@ public class DomainInfo implements ClassInfoProcessor {
             removeTransientClass(transientClass);
         }
 
+        buildIndexes();
+    }
+
+    /*
+     * Indexes the classes by each of the names they can be looked up by, so that lookups don't depend on the size of
+     * the domain. Where several classes have the same label or type, the first one found wins, as it did when the
+     * annotated classes were searched in turn. Partial class names matching more than one class are only an error
+     * when they are looked up, so they're recorded separately.
+     */
+    private void buildIndexes() {
+        labelToClassInfo = Collections.unmodifiableMap(indexByAnnotationValue(NodeEntity.class.getName(), "label"));
+        typeToClassInfo = Collections.unmodifiableMap(indexByAnnotationValue(RelationshipEntity.class.getName(), "type"));
+
+        Map<String, ClassInfo> partialNames = new HashMap<>();
+        Set<String> ambiguousNames = new HashSet<>();
+        for (Map.Entry<String, ClassInfo> entry : classNameToClassInfo.entrySet()) {
+            String fqn = entry.getKey();
+            if (fqn == null) continue;
+            // the fully-qualified name itself and every suffix of it following a '.'
+            int dot = -1;
+            do {
+                String partialName = fqn.substring(dot + 1);
+                if (partialNames.put(partialName, entry.getValue()) != null) {
+                    ambiguousNames.add(partialName);
+                }
+                dot = fqn.indexOf('.', dot + 1);
+            } while (dot >= 0);
+        }
+        partialNames.keySet().removeAll(ambiguousNames);
+        partialNameToClassInfo = Collections.unmodifiableMap(partialNames);
+        ambiguousPartialNames = Collections.unmodifiableSet(ambiguousNames);
+    }
+
+    private Map<String, ClassInfo> indexByAnnotationValue(String annotation, String annotationPropertyName) {
+        Map<String, ClassInfo> index = new HashMap<>();
+        List<ClassInfo> annotatedClasses = annotationNameToClassInfo.get(annotation);
+        if (annotatedClasses != null) {
+            for (ClassInfo annotatedClass : annotatedClasses) {
+                AnnotationInfo annotationInfo = annotatedClass.annotationsInfo().get(annotation);
+                String value = annotationInfo.get(annotationPropertyName, annotatedClass.label());
+                if (!index.containsKey(value)) {
+                    index.put(value, annotatedClass);
+                }
+            }
+        }
+        return index;
     }
 
     private void removeTransientClass(ClassInfo transientClass) {
@@ -139,9 +194,15 @@ public class DomainInfo implements ClassInfoProcessor {
         }
     }
 
+    /**
+     * Reads a class file and adds the class it describes to the domain. Class files may be processed by several threads
+     * at once: they are read concurrently, but added to the domain one at a time.
+     */
     public void process(final InputStream inputStream) throws IOException {
+        register(new ClassInfo(inputStream));
+    }
 
-        ClassInfo classInfo = new ClassInfo(inputStream);
+    private synchronized void register(ClassInfo classInfo) {
 
         String className = classInfo.name();
         String superclassName = classInfo.superclassName();
@@ -192,7 +253,19 @@ public class DomainInfo implements ClassInfoProcessor {
             classPaths.add(path);
         }
 
-        new ClassPathScanner().scan(classPaths, this);
+        ClassLoader classLoader = classLoader();
+        List<String> indexedClasses = ClassIndex.classResources(classLoader, packages);
+        if (indexedClasses != null) {
+            LOGGER.info("Loading " + indexedClasses.size() + " indexed classes");
+            new ClassPathScanner().scan(classLoader, indexedClasses, this);
+        } else {
+            new ClassPathScanner().scan(classPaths, this);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : DomainInfo.class.getClassLoader();
 
     }
 
@@ -201,18 +274,26 @@ public class DomainInfo implements ClassInfoProcessor {
     }
 
     public ClassInfo getClassSimpleName(String fullOrPartialClassName) {
-
-        ClassInfo match = null;
-        for (String fqn : classNameToClassInfo.keySet()) {
-            if (fqn.endsWith("." + fullOrPartialClassName) || fqn.equals(fullOrPartialClassName)) {
-                if (match == null) {
-                    match = classNameToClassInfo.get(fqn);
-                } else {
-                    throw new MappingException("More than one class has simple name: " + fullOrPartialClassName);
-                }
-            }
+        if (ambiguousPartialNames.contains(fullOrPartialClassName)) {
+            throw new MappingException("More than one class has simple name: " + fullOrPartialClassName);
         }
-        return match;
+        return partialNameToClassInfo.get(fullOrPartialClassName);
+    }
+
+    /**
+     * @param label the label of a node
+     * @return the ClassInfo of the @NodeEntity class with the given label, or null if there isn't one
+     */
+    public ClassInfo getClassInfoForLabel(String label) {
+        return labelToClassInfo.get(label);
+    }
+
+    /**
+     * @param type the type of a relationship
+     * @return the ClassInfo of the @RelationshipEntity class with the given type, or null if there isn't one
+     */
+    public ClassInfo getClassInfoForRelationshipType(String type) {
+        return typeToClassInfo.get(type);
     }
 
     public ClassInfo getNamedClassWithAnnotation(String annotation, String className) {
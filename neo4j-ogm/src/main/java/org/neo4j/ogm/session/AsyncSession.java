@@ -0,0 +1,57 @@
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.transaction.Transaction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+/**
+ * A session whose operations return as soon as they have been submitted, leaving their results to be collected from
+ * a {@link Future}, so that a few threads can keep many requests to the database in flight.
+ *
+ * Unlike a {@link Session}, an asynchronous session never looks for a transaction bound to the calling thread. Each
+ * operation is given the transaction it takes part in, as obtained from {@link #beginTransactionAsync()}, or
+ * <code>null</code> to have it committed as soon as it is executed. Operations may complete in any order, even when
+ * they share a transaction.
+ *
+ * @see SessionFactory#openAsyncSession(String, java.util.concurrent.ExecutorService)
+ */
+public interface AsyncSession {
+
+    <T> Future<T> loadAsync(Class<T> type, Long id, int depth, Transaction tx);
+
+    <T> Future<Collection<T>> loadAllAsync(Class<T> type, Collection<Long> ids, int depth, Transaction tx);
+
+    <T> Future<Collection<T>> loadAllAsync(Class<T> type, int depth, Transaction tx);
+
+    <T> Future<Collection<T>> loadByPropertyAsync(Class<T> type, Property<String, Object> property, int depth, Transaction tx);
+
+    /**
+     * @see Session#query(Class, String, java.util.Map)
+     */
+    <T> Future<Collection<T>> queryAsync(Class<T> type, String cypher, Map<String, Object> parameters, Transaction tx);
+
+    /**
+     * @return a future of the saved object, once its changes have been sent to the database
+     */
+    <T> Future<T> saveAsync(T object, int depth, Transaction tx);
+
+    Future<Void> executeAsync(String cypher, Map<String, Object> parameters, Transaction tx);
+
+    /**
+     * @return a future of a new transaction, which isn't bound to any thread and ends only when it is committed or
+     * rolled back through this session
+     */
+    Future<Transaction> beginTransactionAsync();
+
+    Future<Void> commitAsync(Transaction tx);
+
+    Future<Void> rollbackAsync(Transaction tx);
+
+    /**
+     * @return the blocking session sharing this session's objects, for operations not offered asynchronously
+     */
+    Session session();
+}
@@ -0,0 +1,149 @@
+package org.neo4j.ogm.session;
+
+/**
+ * Settings for the pool of HTTP connections that the sessions opened by a {@link SessionFactory} share.
+ *
+ * Times are given in milliseconds. A negative timeout leaves the system default in place, which is to wait
+ * indefinitely. By default, the pool holds at most 20 connections, all of which may be used with the same server,
+ * connections are kept alive for as long as the server allows, and idle connections are never closed by the client.
+ * Responses may be compressed by the server, but requests are never compressed.
+ */
+public class ConnectionConfiguration {
+
+    private int maxConnections = 20;
+    private int maxConnectionsPerRoute = 20;
+    private int connectTimeout = -1;
+    private int socketTimeout = -1;
+    private int connectionRequestTimeout = -1;
+    private long keepAlive = -1;
+    private boolean staleConnectionCheck = true;
+    private long idleConnectionTimeout = -1;
+    private boolean responseCompression = true;
+    private int requestCompressionThreshold = -1;
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @param maxConnections The number of connections the pool may hold, with any server
+     */
+    public void setMaxConnections(int maxConnections) {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be positive: " + maxConnections);
+        }
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * @param maxConnectionsPerRoute The number of connections the pool may hold with the same server
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        if (maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerRoute must be positive: " + maxConnectionsPerRoute);
+        }
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @param connectTimeout How long to wait for a connection to the server to be established
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getSocketTimeout() {
+        return socketTimeout;
+    }
+
+    /**
+     * @param socketTimeout How long to wait for the server between two packets of a response
+     */
+    public void setSocketTimeout(int socketTimeout) {
+        this.socketTimeout = socketTimeout;
+    }
+
+    public int getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    /**
+     * @param connectionRequestTimeout How long a request waits for a connection when all of them are in use
+     */
+    public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * @param keepAlive The longest a connection is kept for reuse, even if the server would keep it open longer, or a
+     *                  negative value to keep it for as long as the server allows
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public boolean isStaleConnectionCheck() {
+        return staleConnectionCheck;
+    }
+
+    /**
+     * @param staleConnectionCheck Whether to check that a pooled connection is still open before each request is
+     *                             sent over it, which costs a little time but avoids failing on connections the
+     *                             server has closed
+     */
+    public void setStaleConnectionCheck(boolean staleConnectionCheck) {
+        this.staleConnectionCheck = staleConnectionCheck;
+    }
+
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * @param idleConnectionTimeout How long a connection may stay unused in the pool before a background thread closes
+     *                              it, together with any connection whose keep-alive has expired, or a negative value
+     *                              to close none
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+    }
+
+    public boolean isResponseCompression() {
+        return responseCompression;
+    }
+
+    /**
+     * @param responseCompression Whether to let the server compress its responses with gzip or deflate, which are then
+     *                            decompressed as they are read
+     */
+    public void setResponseCompression(boolean responseCompression) {
+        this.responseCompression = responseCompression;
+    }
+
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Requests whose bodies are larger than the threshold are sent compressed with gzip. This is only of use when the
+     * server, or a proxy in front of it, accepts compressed request bodies.
+     *
+     * @param requestCompressionThreshold The size in bytes above which request bodies are compressed, or a negative
+     *                                    value to never compress them
+     */
+    public void setRequestCompressionThreshold(int requestCompressionThreshold) {
+        this.requestCompressionThreshold = requestCompressionThreshold;
+    }
+}
@@ -0,0 +1,55 @@
+package org.neo4j.ogm.session;
+
+/**
+ * A snapshot of the state of the HTTP connection pool shared by the sessions of a {@link SessionFactory}.
+ *
+ * A steady number of pending requests shows that the pool is too small for the load on it.
+ */
+public class ConnectionPoolStatistics {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int max;
+
+    public ConnectionPoolStatistics(int leased, int available, int pending, int max) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.max = max;
+    }
+
+    /**
+     * @return The number of connections currently carrying a request
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return The number of open connections waiting in the pool to be reused
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return The number of requests waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return The number of connections the pool may hold
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics{leased=" + leased + ", available=" + available + ", pending=" + pending +
+                ", max=" + max + "}";
+    }
+}
@@ -0,0 +1,119 @@
+package org.neo4j.ogm.session;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The HTTP client of a {@link SessionFactory}, with the pool of connections it draws on and, if idle connections are
+ * to be closed, the thread that closes them.
+ */
+class HttpConnections {
+
+    private final Logger logger = LoggerFactory.getLogger(HttpConnections.class);
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ScheduledExecutorService idleConnectionEvictor;
+
+    HttpConnections(ConnectionConfiguration configuration) {
+
+        connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(configuration.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerRoute());
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(configuration.getConnectTimeout())
+                .setSocketTimeout(configuration.getSocketTimeout())
+                .setConnectionRequestTimeout(configuration.getConnectionRequestTimeout())
+                .setStaleConnectionCheckEnabled(configuration.isStaleConnectionCheck())
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(new KeepAliveStrategy(configuration.getKeepAlive()));
+        if (!configuration.isResponseCompression()) {
+            builder.disableContentCompression();
+        }
+        httpClient = builder.build();
+
+        final long idleConnectionTimeout = configuration.getIdleConnectionTimeout();
+        if (idleConnectionTimeout >= 0) {
+            idleConnectionEvictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "neo4j-ogm-idle-connection-evictor");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            long period = Math.max(idleConnectionTimeout, 100);
+            idleConnectionEvictor.scheduleWithFixedDelay(new Runnable() {
+                @Override
+                public void run() {
+                    connectionManager.closeExpiredConnections();
+                    connectionManager.closeIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+                }
+            }, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            idleConnectionEvictor = null;
+        }
+    }
+
+    CloseableHttpClient httpClient() {
+        return httpClient;
+    }
+
+    ConnectionPoolStatistics statistics() {
+        PoolStats stats = connectionManager.getTotalStats();
+        return new ConnectionPoolStatistics(stats.getLeased(), stats.getAvailable(), stats.getPending(), stats.getMax());
+    }
+
+    void close() {
+        if (idleConnectionEvictor != null) {
+            idleConnectionEvictor.shutdownNow();
+        }
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            logger.warn("Could not close the HTTP client: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Keeps connections alive for as long as the server says, but no longer than the configured limit, if any.
+     */
+    private static class KeepAliveStrategy implements ConnectionKeepAliveStrategy {
+
+        private final long keepAlive;
+
+        KeepAliveStrategy(long keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        @Override
+        public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+            long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            if (keepAlive < 0) {
+                return duration;
+            }
+            return duration < 0 ? keepAlive : Math.min(duration, keepAlive);
+        }
+    }
+}
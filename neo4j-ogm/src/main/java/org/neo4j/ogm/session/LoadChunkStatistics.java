@@ -0,0 +1,52 @@
+package org.neo4j.ogm.session;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A snapshot of the latencies of the requests a session has made to load objects by id, each of which carries one
+ * chunk of the ids of a load. The latency of a chunk runs from sending its request until its objects have been mapped.
+ *
+ * A maximum far above the mean shows that a few chunks are much slower than the rest, and hold up the loads they are
+ * part of.
+ *
+ * @see SessionFactory#setLoadChunking(int, java.util.concurrent.ExecutorService)
+ */
+public class LoadChunkStatistics {
+
+    private final long chunks;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    public LoadChunkStatistics(long chunks, long totalNanos, long maxNanos) {
+        this.chunks = chunks;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return The number of chunks loaded
+     */
+    public long getChunks() {
+        return chunks;
+    }
+
+    /**
+     * @return The mean latency of a chunk in milliseconds, or 0 if none have been loaded
+     */
+    public double getMeanLatencyMillis() {
+        return chunks == 0 ? 0 : (double) totalNanos / chunks / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return The latency of the slowest chunk in milliseconds
+     */
+    public double getMaxLatencyMillis() {
+        return (double) maxNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LoadChunkStatistics{chunks=%d, meanLatencyMillis=%.3f, maxLatencyMillis=%.3f}",
+                chunks, getMeanLatencyMillis(), getMaxLatencyMillis());
+    }
+}
@@ -0,0 +1,196 @@
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.transaction.Transaction;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the operations of a {@link Neo4jSession} on an executor, handing each one its transaction explicitly.
+ *
+ * Requests to the database run concurrently, as many at a time as the executor and the connections of the HTTP client
+ * allow. The objects loaded and saved are shared with the session, whose mapping context is updated by one operation
+ * at a time.
+ *
+ * When the session's transactions are bound to the thread that began them, as those of an embedded database are,
+ * each transaction begun through this session is given a thread of its own. Every operation handed the transaction,
+ * including its commit or rollback, runs on that thread, and the thread ends with the transaction.
+ */
+public class Neo4jAsyncSession implements AsyncSession {
+
+    private final Neo4jSession session;
+    private final ExecutorService executor;
+    private final Map<Transaction, ExecutorService> transactionExecutors = new ConcurrentHashMap<>();
+
+    public Neo4jAsyncSession(Neo4jSession session, ExecutorService executor) {
+        this.session = session;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T> Future<T> loadAsync(final Class<T> type, final Long id, final int depth, final Transaction tx) {
+        return executor(tx).submit(new Callable<T>() {
+            @Override
+            public T call() {
+                return session.load(type, id, depth, transaction(tx));
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> loadAllAsync(final Class<T> type, final Collection<Long> ids, final int depth, final Transaction tx) {
+        return executor(tx).submit(new Callable<Collection<T>>() {
+            @Override
+            public Collection<T> call() {
+                return session.loadAll(type, ids, depth, transaction(tx));
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> loadAllAsync(final Class<T> type, final int depth, final Transaction tx) {
+        return executor(tx).submit(new Callable<Collection<T>>() {
+            @Override
+            public Collection<T> call() {
+                return session.loadAll(type, depth, transaction(tx));
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> loadByPropertyAsync(final Class<T> type, final Property<String, Object> property, final int depth, final Transaction tx) {
+        return executor(tx).submit(new Callable<Collection<T>>() {
+            @Override
+            public Collection<T> call() {
+                return session.loadByProperty(type, property, depth, transaction(tx));
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> queryAsync(final Class<T> type, final String cypher, final Map<String, Object> parameters, final Transaction tx) {
+        session.checkReadOnly(cypher);
+        return executor(tx).submit(new Callable<Collection<T>>() {
+            @Override
+            public Collection<T> call() {
+                return session.query(type, cypher, parameters, transaction(tx));
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<T> saveAsync(final T object, final int depth, final Transaction tx) {
+        return executor(tx).submit(new Callable<T>() {
+            @Override
+            public T call() {
+                session.save(object, depth, transaction(tx));
+                return object;
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> executeAsync(final String cypher, final Map<String, Object> parameters, final Transaction tx) {
+        return executor(tx).submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                session.execute(cypher, parameters, transaction(tx));
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Future<Transaction> beginTransactionAsync() {
+        if (!session.threadBoundTransactions()) {
+            return executor.submit(new Callable<Transaction>() {
+                @Override
+                public Transaction call() {
+                    return session.newTransaction();
+                }
+            });
+        }
+        final ExecutorService transactionExecutor = Executors.newSingleThreadExecutor();
+        return transactionExecutor.submit(new Callable<Transaction>() {
+            @Override
+            public Transaction call() {
+                try {
+                    Transaction tx = session.newTransaction();
+                    transactionExecutors.put(tx, transactionExecutor);
+                    return tx;
+                } catch (RuntimeException e) {
+                    transactionExecutor.shutdown();
+                    throw e;
+                }
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> commitAsync(final Transaction tx) {
+        return executor(tx).submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    session.commit(tx);
+                } finally {
+                    release(tx);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Future<Void> rollbackAsync(final Transaction tx) {
+        return executor(tx).submit(new Callable<Void>() {
+            @Override
+            public Void call() {
+                try {
+                    tx.rollback();
+                } finally {
+                    release(tx);
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public Session session() {
+        return session;
+    }
+
+    /**
+     * @return the executor on which the operations of the given transaction run
+     * @throws IllegalArgumentException if the transaction is bound to a thread but wasn't begun by this session
+     */
+    private ExecutorService executor(Transaction tx) {
+        if (tx == null || !session.threadBoundTransactions()) {
+            return executor;
+        }
+        ExecutorService transactionExecutor = transactionExecutors.get(tx);
+        if (transactionExecutor == null) {
+            throw new IllegalArgumentException("Transaction " + tx.url() + " is bound to a thread, so it must be begun with beginTransactionAsync()");
+        }
+        return transactionExecutor;
+    }
+
+    // the transaction's thread finishes once the transaction has ended
+    private void release(Transaction tx) {
+        ExecutorService transactionExecutor = transactionExecutors.remove(tx);
+        if (transactionExecutor != null) {
+            transactionExecutor.shutdown();
+        }
+    }
+
+    private Transaction transaction(Transaction tx) {
+        return tx == null ? session.autoCommitTransaction() : tx;
+    }
+}
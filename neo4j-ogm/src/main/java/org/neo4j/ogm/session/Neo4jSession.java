@@ -3,25 +3,44 @@ package org.neo4j.ogm.session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.neo4j.ogm.cypher.compiler.CypherContext;
+import org.neo4j.ogm.annotation.Fetch;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.cypher.query.GraphRowModelQuery;
+import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.RowModelQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.FieldWriter;
+import org.neo4j.ogm.mapper.EvictionPolicy;
+import org.neo4j.ogm.mapper.IdentityMapStatistics;
+import org.neo4j.ogm.mapper.LoadBoundary;
 import org.neo4j.ogm.mapper.MappingContext;
 import org.neo4j.ogm.mapper.ObjectCypherMapper;
+import org.neo4j.ogm.mapper.RelationshipLoader;
+import org.neo4j.ogm.mapper.SaveMode;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.info.AnnotationInfo;
 import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.query.Query;
 import org.neo4j.ogm.session.request.DefaultRequest;
 import org.neo4j.ogm.session.request.Neo4jRequest;
 import org.neo4j.ogm.session.request.RequestHandler;
 import org.neo4j.ogm.session.request.SessionRequestHandler;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
+import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.VariableDepthQuery;
 import org.neo4j.ogm.session.response.Neo4jResponse;
 import org.neo4j.ogm.session.response.ResponseHandler;
 import org.neo4j.ogm.session.response.SessionResponseHandler;
+import org.neo4j.ogm.session.result.GraphRowModel;
+import org.neo4j.ogm.session.result.ResultProcessingException;
 import org.neo4j.ogm.session.result.RowModel;
 import org.neo4j.ogm.session.transaction.SimpleTransaction;
 import org.neo4j.ogm.session.transaction.Transaction;
@@ -31,6 +50,11 @@ import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,32 +67,125 @@ public class Neo4jSession implements Session {
     private final ObjectMapper mapper;
     private final String autoCommitUrl;
     private final TransactionManager txManager;
+    private final SaveMode saveMode;
+    private final EntityAccessStrategy entityAccessStrategy;
 
     private Neo4jRequest<String> request;
+    private boolean lazyLoading;
+    private QueryStatements queryStatements = new VariableDepthQuery();
+    private int loadChunkSize = Integer.MAX_VALUE;
+    private ExecutorService loadExecutor;
+
+    private final AtomicLong loadedChunks = new AtomicLong();
+    private final AtomicLong chunkNanos = new AtomicLong();
+    private final AtomicLong maxChunkNanos = new AtomicLong();
 
     private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE)\\b");
 
     public Neo4jSession(MetaData metaData, String url, CloseableHttpClient client, ObjectMapper mapper) {
+        this(metaData, url, client, mapper, EvictionPolicy.NONE);
+    }
+
+    public Neo4jSession(MetaData metaData, String url, CloseableHttpClient client, ObjectMapper mapper, EvictionPolicy evictionPolicy) {
+        this(metaData, url, client, mapper, evictionPolicy, SaveMode.TRAVERSE_ALL);
+    }
+
+    public Neo4jSession(MetaData metaData, String url, CloseableHttpClient client, ObjectMapper mapper, EvictionPolicy evictionPolicy, SaveMode saveMode) {
+        this(metaData, url, client, mapper, evictionPolicy, saveMode, new DefaultEntityAccessStrategy());
+    }
+
+    public Neo4jSession(MetaData metaData, String url, CloseableHttpClient client, ObjectMapper mapper, EvictionPolicy evictionPolicy, SaveMode saveMode, EntityAccessStrategy entityAccessStrategy) {
+        this(metaData, new DefaultRequest(client, mapper), new TransactionManager(client, url), mapper, evictionPolicy, saveMode, entityAccessStrategy);
+    }
+
+    /**
+     * Creates a session that sends its statements through the given request and manages its transactions with the
+     * given transaction manager, which together decide how the database is reached.
+     */
+    public Neo4jSession(MetaData metaData, Neo4jRequest<String> request, TransactionManager txManager, ObjectMapper mapper, EvictionPolicy evictionPolicy, SaveMode saveMode, EntityAccessStrategy entityAccessStrategy) {
         this.metaData = metaData;
+        this.saveMode = saveMode;
+        this.entityAccessStrategy = entityAccessStrategy;
         this.mapper = mapper;
-        this.mappingContext = new MappingContext(metaData);
-        this.txManager = new TransactionManager(client, url);
-        this.autoCommitUrl = autoCommit(url);
-        this.request = new DefaultRequest(client);
+        this.mappingContext = new MappingContext(metaData, evictionPolicy, entityAccessStrategy);
+        this.txManager = txManager;
+        this.autoCommitUrl = txManager.autoCommitUrl();
+        this.request = request;
     }
 
     public void setRequest(Neo4jRequest<String> neo4jRequest) {
         this.request=neo4jRequest;
     }
 
+    /**
+     * Sets whether the relationship collections of the objects at the edge of a load are loaded lazily, the first time
+     * they are accessed, rather than left holding only the objects that the load happened to reach.
+     *
+     * @param lazyLoading <code>true</code> to load relationship collections beyond the load depth lazily
+     */
+    public void setLazyLoading(boolean lazyLoading) {
+        this.lazyLoading = lazyLoading;
+    }
+
+    /**
+     * Sets the strategy that writes the Cypher queries by which objects are loaded.
+     *
+     * @param queryStatements the {@link QueryStatements} to use, such as a
+     *                        {@link org.neo4j.ogm.session.request.strategy.SubgraphQuery}
+     */
+    public void setQueryStatements(QueryStatements queryStatements) {
+        if (queryStatements == null) {
+            throw new NullPointerException("queryStatements");
+        }
+        this.queryStatements = queryStatements;
+    }
+
+    /**
+     * Sets the number of ids that each request of a load by ids carries at most, and the executor on which the
+     * requests of a load outside a transaction are made concurrently.
+     *
+     * @param chunkSize the most ids to load in one request
+     * @param executor the {@link ExecutorService} on which to make the requests, or <code>null</code> to make them one
+     *                 after another on the calling thread
+     */
+    public void setLoadChunking(int chunkSize, ExecutorService executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive but was " + chunkSize);
+        }
+        this.loadChunkSize = chunkSize;
+        this.loadExecutor = executor;
+    }
+
     private RequestHandler getRequestHandler() {
         return new SessionRequestHandler(mapper, request);
     }
 
     private ResponseHandler getResponseHandler() {
-        return new SessionResponseHandler(metaData, mappingContext);
+        return getResponseHandler(null);
     }
 
+    private ResponseHandler getResponseHandler(LoadBoundary boundary) {
+        return new SessionResponseHandler(metaData, mappingContext, entityAccessStrategy, boundary);
+    }
+
+    private boolean loadsLazily(int depth) {
+        return lazyLoading && depth >= 0;
+    }
+
+    private final RelationshipLoader relationshipLoader = new RelationshipLoader() {
+        @Override
+        public void load(Object owner, Long id, String direction) {
+            synchronized (mappingContext) {
+                mappingContext.registerNode(owner, id);
+            }
+            GraphModelQuery qry = queryStatements.findRelated(id, direction);
+            try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url())) {
+                // the related objects are one step beyond the owner, so their own collections are lazy too
+                getResponseHandler(LoadBoundary.ofRelated(this, id, direction)).load(response);
+            }
+        }
+    };
+
     @Override
     public <T> T load(Class<T> type, Long id) {
         return load(type, id, 0);
@@ -76,10 +193,14 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> T load(Class<T> type, Long id, int depth) {
-        String url = getOrCreateTransaction().url();
-        GraphModelQuery qry = new VariableDepthQuery().findOne(id, depth);
-        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, url)) {
-            return getResponseHandler().loadById(type, response, id);
+        return load(type, id, depth, getOrCreateTransaction());
+    }
+
+    <T> T load(Class<T> type, Long id, int depth, Transaction tx) {
+        GraphModelQuery qry = queryStatements.findOne(id, depth);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, tx.url())) {
+            LoadBoundary boundary = loadsLazily(depth) ? LoadBoundary.ofIds(relationshipLoader, Collections.singleton(id), depth) : null;
+            return getResponseHandler(boundary).loadById(type, response, id);
         }
     }
 
@@ -90,10 +211,90 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Collection<Long> ids, int depth) {
-        String url = getOrCreateTransaction().url();
-        GraphModelQuery qry = new VariableDepthQuery().findAll(ids, depth);
-        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, url)) {
-            return getResponseHandler().loadAll(type, response);
+        return loadAll(type, ids, depth, getOrCreateTransaction());
+    }
+
+    <T> Collection<T> loadAll(final Class<T> type, Collection<Long> ids, final int depth, Transaction tx) {
+        List<List<Long>> chunks = chunks(ids);
+        if (chunks.size() == 1) {
+            return loadChunk(type, chunks.get(0), depth, tx);
+        }
+
+        Set<T> objects = new HashSet<>();
+        // the requests of a transaction can't run concurrently, because the server only takes one of them at a time
+        if (loadExecutor == null || !tx.url().equals(autoCommitUrl)) {
+            for (List<Long> chunk : chunks) {
+                objects.addAll(loadChunk(type, chunk, depth, tx));
+            }
+            return objects;
+        }
+
+        List<Future<Collection<T>>> futures = new ArrayList<>(chunks.size());
+        try {
+            for (final List<Long> chunk : chunks) {
+                futures.add(loadExecutor.submit(new Callable<Collection<T>>() {
+                    @Override
+                    public Collection<T> call() {
+                        return loadChunk(type, chunk, depth, autoCommitTransaction());
+                    }
+                }));
+            }
+            for (Future<Collection<T>> future : futures) {
+                objects.addAll(future.get());
+            }
+            return objects;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ResultProcessingException("Could not load " + type.getName() + " objects by id", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResultProcessingException("Interrupted while loading " + type.getName() + " objects by id", e);
+        } finally {
+            // the chunks of a load that has failed are no longer needed, but those being mapped are left to finish
+            for (Future<Collection<T>> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private List<List<Long>> chunks(Collection<Long> ids) {
+        if (ids.size() <= loadChunkSize) {
+            return Collections.singletonList(ids instanceof List ? (List<Long>) ids : new ArrayList<>(ids));
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        List<Long> chunk = new ArrayList<>(loadChunkSize);
+        for (Long id : ids) {
+            chunk.add(id);
+            if (chunk.size() == loadChunkSize) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(loadChunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private <T> Collection<T> loadChunk(Class<T> type, List<Long> ids, int depth, Transaction tx) {
+        long start = System.nanoTime();
+        GraphModelQuery qry = queryStatements.findAll(ids, depth);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, tx.url())) {
+            LoadBoundary boundary = loadsLazily(depth) ? LoadBoundary.ofIds(relationshipLoader, ids, depth) : null;
+            return getResponseHandler(boundary).loadAll(type, response);
+        } finally {
+            recordChunk(System.nanoTime() - start);
+        }
+    }
+
+    private void recordChunk(long nanos) {
+        loadedChunks.incrementAndGet();
+        chunkNanos.addAndGet(nanos);
+        long max;
+        while (nanos > (max = maxChunkNanos.get()) && !maxChunkNanos.compareAndSet(max, nanos)) {
+            // another chunk has set a new maximum since it was read
         }
     }
 
@@ -104,11 +305,111 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> Collection<T> loadAll(Class<T> type, int depth) {
-        ClassInfo classInfo = metaData.classInfo(type.getName());
-        String url = getOrCreateTransaction().url();
-        GraphModelQuery qry = new VariableDepthQuery().findByLabel(classInfo.label(), depth);
-        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, url)) {
-            return getResponseHandler().loadAll(type, response);
+        return loadAll(type, depth, getOrCreateTransaction());
+    }
+
+    <T> Collection<T> loadAll(Class<T> type, int depth, Transaction tx) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        GraphModelQuery qry = queryStatements.findByLabel(classInfo.label(), depth);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, tx.url())) {
+            LoadBoundary boundary = loadsLazily(depth) ? LoadBoundary.ofLabel(relationshipLoader, classInfo.label(), depth) : null;
+            return getResponseHandler(boundary).loadAll(type, response);
+        }
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Pagination pagination, SortOrder sortOrder, int depth) {
+        return loadAll(type, pagination, sortOrder, depth, getOrCreateTransaction());
+    }
+
+    <T> Collection<T> loadAll(Class<T> type, Pagination pagination, SortOrder sortOrder, int depth, Transaction tx) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        RowModelQuery qry = queryStatements.findIdsByLabel(classInfo.label(), pagination, sortOrder);
+        List<Long> ids = new ArrayList<>();
+        try (Neo4jResponse<RowModel> response = getRequestHandler().execute(qry, tx.url())) {
+            RowModel rowModel;
+            while ((rowModel = response.next()) != null) {
+                ids.add(((Number) rowModel.getValues()[0]).longValue());
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // the objects are loaded in no particular order, along with any others of the type that are related to them
+        Map<Object, T> loaded = new HashMap<>();
+        for (T object : loadAll(type, ids, depth, tx)) {
+            loaded.put(identity(object), object);
+        }
+        List<T> page = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T object = loaded.get(id);
+            if (object != null) {
+                page.add(object);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public <T> T load(Class<T> type, Long id, FetchPlan fetchPlan) {
+        GraphModelQuery qry = queryStatements.findOne(id, fetchPlan);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url())) {
+            // a plan needn't follow every relationship of any object, so all of their collections are at the boundary
+            LoadBoundary boundary = lazyLoading ? LoadBoundary.ofIds(relationshipLoader, Collections.singleton(id), 0) : null;
+            return getResponseHandler(boundary).loadById(type, response, id);
+        }
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, Collection<Long> ids, FetchPlan fetchPlan) {
+        GraphModelQuery qry = queryStatements.findAll(ids, fetchPlan);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url())) {
+            LoadBoundary boundary = lazyLoading ? LoadBoundary.ofIds(relationshipLoader, ids, 0) : null;
+            return getResponseHandler(boundary).loadAll(type, response);
+        }
+    }
+
+    @Override
+    public <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        GraphModelQuery qry = queryStatements.findByLabel(classInfo.label(), fetchPlan);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url())) {
+            LoadBoundary boundary = lazyLoading ? LoadBoundary.ofLabel(relationshipLoader, classInfo.label(), 0) : null;
+            return getResponseHandler(boundary).loadAll(type, response);
+        }
+    }
+
+    @Override
+    public FetchPlan fetchPlan(Class<?> type) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        // in the order of the fields' names, so that the same query is written every time
+        Map<String, FieldInfo> fields = new TreeMap<>();
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            if (fieldInfo.getAnnotations().get(Fetch.CLASS) != null) {
+                fields.put(fieldInfo.getName(), fieldInfo);
+            }
+        }
+        FetchPlan fetchPlan = new FetchPlan();
+        for (FieldInfo fieldInfo : fields.values()) {
+            AnnotationInfo relationship = fieldInfo.getAnnotations().get(Relationship.CLASS);
+            String direction = relationship == null ? Relationship.OUTGOING : relationship.get(Relationship.DIRECTION, Relationship.OUTGOING);
+            int depth = Integer.parseInt(fieldInfo.getAnnotations().get(Fetch.CLASS).get(Fetch.DEPTH, "1"));
+            fetchPlan.follow(fieldInfo.relationship(), direction, depth);
+        }
+        return fetchPlan;
+    }
+
+    @Override
+    public long countEntitiesOfType(Class<?> type) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        if (classInfo == null) {
+            return 0;
+        }
+        RowModelQuery qry = queryStatements.countByLabel(classInfo.label());
+        try (Neo4jResponse<RowModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url())) {
+            RowModel rowModel = response.next();
+            return rowModel == null ? 0 : ((Number) rowModel.getValues()[0]).longValue();
         }
     }
 
@@ -126,7 +427,7 @@ public class Neo4jSession implements Session {
 
         Set<Long> ids = new HashSet<>();
         Class type = objects.iterator().next().getClass();
-        ClassInfo classInfo = metaData.classInfo(type.getName());
+        ClassInfo classInfo = metaData.classInfo(type);
         Field identityField = classInfo.getField(classInfo.identityField());
         for (Object o: objects) {
             ids.add((Long) FieldWriter.read(identityField, o));
@@ -141,11 +442,15 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> Collection<T> loadByProperty(Class<T> type, Property<String, Object> property, int depth) {
-        ClassInfo classInfo = metaData.classInfo(type.getName());
-        String url = getOrCreateTransaction().url();
-        GraphModelQuery qry = new VariableDepthQuery().findByProperty(classInfo.label(), property, depth);
-        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, url)) {
-            return getResponseHandler().loadByProperty(type, response, property);
+        return loadByProperty(type, property, depth, getOrCreateTransaction());
+    }
+
+    <T> Collection<T> loadByProperty(Class<T> type, Property<String, Object> property, int depth, Transaction tx) {
+        ClassInfo classInfo = metaData.classInfo(type);
+        GraphModelQuery qry = queryStatements.findByProperty(classInfo.label(), property, depth);
+        try (Neo4jResponse<GraphModel> response = getRequestHandler().execute(qry, tx.url())) {
+            LoadBoundary boundary = loadsLazily(depth) ? LoadBoundary.ofProperty(relationshipLoader, classInfo.label(), property, depth) : null;
+            return getResponseHandler(boundary).loadByProperty(type, response, property);
         }
     }
 
@@ -184,13 +489,21 @@ public class Neo4jSession implements Session {
     @Override
     public <T> Collection<T> query(Class<T> type, String cypher, Map<String, Object> parameters)
     {
+        checkReadOnly(cypher);
+        return query(type, cypher, parameters, getOrCreateTransaction());
+    }
+
+    void checkReadOnly(String cypher) {
         Matcher matcher = WRITE_CYPHER_KEYWORDS.matcher(cypher.toUpperCase());
 
         if (matcher.find()) {
             throw new RuntimeException("query() only allows read only cypher. To make modifications use execute()");
         }
+    }
 
-        String url = getOrCreateTransaction().url();
+    <T> Collection<T> query(Class<T> type, String cypher, Map<String, Object> parameters, Transaction tx)
+    {
+        String url = tx.url();
 
         // FIXME: doesn't handle Collection<S> or S[] where S is a domain object
         if (metaData.classInfo(type.getSimpleName()) != null) {
@@ -231,7 +544,12 @@ public class Neo4jSession implements Session {
     @Override
     public void execute(String cypher, Map<String, Object> parameters)
     {
-        String url  = getOrCreateTransaction().url();
+        execute(cypher, parameters, getOrCreateTransaction());
+    }
+
+    void execute(String cypher, Map<String, Object> parameters, Transaction tx)
+    {
+        String url  = tx.url();
         // NOTE: No need to check if domain objects are parameters and flatten them to json as this is done
         // for us using the existing execute() method.
         RowModelQuery qry = new RowModelQuery(cypher, parameters);
@@ -253,24 +571,86 @@ public class Neo4jSession implements Session {
         mappingContext.clear();
     }
 
+    @Override
+    public IdentityMapStatistics identityMapStatistics() {
+        return mappingContext.statistics();
+    }
+
+    @Override
+    public LoadChunkStatistics loadChunkStatistics() {
+        return new LoadChunkStatistics(loadedChunks.get(), chunkNanos.get(), maxChunkNanos.get());
+    }
+
     @Override
     public <T> void save(T object) {
-        if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
-            saveAll(object, -1);
-        } else {
-            save(object, -1); // default : full tree of changed objects
-        }
+        save(object, -1); // default : full tree of changed objects
     }
 
-    private <T> void saveAll(T object, int depth) {
-        List<T> list;
+    private <T> void saveAll(T object, int depth, Transaction tx) {
+        List<Object> list;
         if (object.getClass().isArray()) {
-            list = Arrays.asList(object);
+            list = Arrays.asList((Object[]) object);
         } else {
-            list = (List<T>) object;
+            list = new ArrayList<>();
+            for (Object element : (Iterable<?>) object) {
+                list.add(element);
+            }
         }
-        for (T element : list) {
-            save(element, depth);
+
+        List<Object> persistable = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (metaData.classInfo(element) != null) {
+                persistable.add(element);
+            } else {
+                logger.info(element.getClass().getName() + " is not an instance of a persistable class");
+            }
+        }
+
+        if (!persistable.isEmpty()) {
+            CypherContext context;
+            synchronized (mappingContext) {
+                context = new ObjectCypherMapper(metaData, mappingContext, saveMode, entityAccessStrategy).mapAll(persistable, depth);
+            }
+            save(context, tx);
+        }
+    }
+
+    /**
+     * Begins a transaction that is not the current transaction of any thread, for operations that are handed it
+     * explicitly.
+     */
+    Transaction newTransaction() {
+        return txManager.newTransaction(mappingContext);
+    }
+
+    /**
+     * @return true if each transaction of this session must be used only by the thread that began it
+     */
+    boolean threadBoundTransactions() {
+        return txManager.isThreadBound();
+    }
+
+    /**
+     * @return a transaction that commits each operation as soon as it is executed
+     */
+    Transaction autoCommitTransaction() {
+        return new SimpleTransaction(mappingContext, autoCommitUrl);
+    }
+
+    // committing a transaction updates the mapping context, which other threads may be using
+    void commit(Transaction tx) {
+        synchronized (mappingContext) {
+            tx.commit();
+        }
+    }
+
+    private void save(CypherContext context, Transaction tx) {
+        logger.debug("save visited {} objects and writes {} of them", context.visitedObjectCount(), context.emittedObjectCount());
+        try (Neo4jResponse<String> response = getRequestHandler().execute(context.getStatements(), tx.url())) {
+            getResponseHandler().updateObjects(context, response, mapper);
+        }
+        synchronized (mappingContext) {
+            tx.append(context);
         }
     }
 
@@ -288,20 +668,20 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> void save(T object, int depth) {
+        save(object, depth, getOrCreateTransaction());
+    }
+
+    <T> void save(T object, int depth, Transaction tx) {
         if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
-            saveAll(object, depth);
+            saveAll(object, depth, tx);
         } else {
-            ClassInfo classInfo = metaData.classInfo(object.getClass().getName());
+            ClassInfo classInfo = metaData.classInfo(object);
             if (classInfo != null) {
-                Transaction tx = getOrCreateTransaction();
-                CypherContext context = new ObjectCypherMapper(metaData, mappingContext).map(object, depth);
-                try (Neo4jResponse<String> response = getRequestHandler().execute(context.getStatements(), tx.url())) {
-                    getResponseHandler().updateObjects(context, response, mapper);
-                    tx.append(context);
+                CypherContext context;
+                synchronized (mappingContext) {
+                    context = new ObjectCypherMapper(metaData, mappingContext, saveMode, entityAccessStrategy).map(object, depth);
                 }
-//                catch (Exception e) {
-//                    throw new RuntimeException(e);
-//                }
+                save(context, tx);
             } else {
                 logger.info(object.getClass().getName() + " is not an instance of a persistable class");
             }
@@ -313,7 +693,7 @@ public class Neo4jSession implements Session {
         if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
             deleteAll(object);
         } else {
-            ClassInfo classInfo = metaData.classInfo(object.getClass().getName());
+            ClassInfo classInfo = metaData.classInfo(object);
             if (classInfo != null) {
                 Field identityField = classInfo.getField(classInfo.identityField());
                 Long identity = (Long) FieldWriter.read(identityField, object);
@@ -335,7 +715,7 @@ public class Neo4jSession implements Session {
 
     @Override
     public <T> void deleteAll(Class<T> type) {
-        ClassInfo classInfo = metaData.classInfo(type.getName());
+        ClassInfo classInfo = metaData.classInfo(type);
         if (classInfo != null) {
             String url = getOrCreateTransaction().url();
             ParameterisedStatement request = new DeleteStatements().deleteByLabel(classInfo.label());
@@ -349,12 +729,6 @@ public class Neo4jSession implements Session {
         }
     }
 
-    private static String autoCommit(String url) {
-        if (url == null) return url;
-        if (!url.endsWith("/")) url = url + "/";
-        return url + "db/data/transaction/commit";
-    }
-
     private Transaction getOrCreateTransaction() {
 
         logger.info("getOrCreateTransaction() being called on thread: " + Thread.currentThread().getId());
@@ -366,7 +740,7 @@ public class Neo4jSession implements Session {
                 || tx.status().equals(Transaction.Status.COMMITTED)
                 || tx.status().equals(Transaction.Status.ROLLEDBACK)) {
             logger.info("There is no existing transaction, creating a transient one");
-            return new SimpleTransaction(mappingContext, autoCommitUrl);
+            return autoCommitTransaction();
         }
 
         logger.info("Current transaction: " + tx.url() + ", tx id: " + tx);
@@ -375,31 +749,75 @@ public class Neo4jSession implements Session {
     }
 
 
-//    @Override
-//    public <T> Query<T> createQuery(final T type, final String cypher, final Map<String, Object> parameters) {
-//
-//        return new Query<T>() {
-//
-//            private Neo4jResponse<T> response;
-//
-//            @Override
-//            public Query<T> execute() {
-//                ParameterisedStatement statement = new ParameterisedStatement(cypher, parameters);
-//                Transaction tx = getOrCreateTransaction();
-//                Neo4jResponse<String> jsonResponse = getRequestHandler().execute(statement, tx.url());
-//                //response = new GraphModelResponse(jsonResponse, mapper);
-//                return this;
-//            }
-//
-//            @Override
-//            public T next() {
-//                return response.next();
-//            }
-//
-//            @Override
-//            public void close() throws Exception {
-//                response.close();
-//            }
-//        };
-//    }
+    @Override
+    public <T> Query<T> createQuery(final Class<T> type, final String cypher, final Map<String, Object> parameters) {
+
+        checkReadOnly(cypher);
+
+        if (metaData.classInfo(type.getSimpleName()) != null) {
+            return new StreamingQuery<T, GraphModel>() {
+                @Override
+                protected Neo4jResponse<GraphModel> open() {
+                    GraphModelQuery qry = new GraphModelQuery(cypher, parameters);
+                    return getRequestHandler().execute(qry, getOrCreateTransaction().url());
+                }
+
+                @Override
+                protected List<T> map(GraphModel graphModel) {
+                    return getResponseHandler().loadRecord(type, graphModel);
+                }
+            };
+        }
+
+        return new StreamingQuery<T, RowModel>() {
+            @Override
+            protected Neo4jResponse<RowModel> open() {
+                RowModelQuery qry = new RowModelQuery(cypher, parameters);
+                Neo4jResponse<RowModel> response = getRequestHandler().execute(qry, getOrCreateTransaction().url());
+                if (response.columns().length > 1) {
+                    response.close();
+                    throw new RuntimeException("Scalar response queries must only return one column.");
+                }
+                return response;
+            }
+
+            @Override
+            protected List<T> map(RowModel rowModel) {
+                return Collections.singletonList((T) rowModel.getValues()[0]);
+            }
+        };
+    }
+
+    @Override
+    public <T> Query<T> createLoadAllQuery(final Class<T> type, final int depth) {
+
+        final String label = metaData.classInfo(type).label();
+        final LoadBoundary boundary = loadsLazily(depth) ? LoadBoundary.ofLabel(relationshipLoader, label, depth) : null;
+
+        return new StreamingQuery<T, GraphRowModel>() {
+
+            @Override
+            protected Neo4jResponse<GraphRowModel> open() {
+                GraphRowModelQuery qry = queryStatements.findEachByLabel(label, depth);
+                return getRequestHandler().execute(qry, getOrCreateTransaction().url());
+            }
+
+            @Override
+            protected List<T> map(GraphRowModel record) {
+                // each record returns the id of the node it was matched for first, along with the paths from it
+                Long id = ((Number) record.getRow()[0]).longValue();
+                for (T object : getResponseHandler(boundary).loadRecord(type, record.getGraph())) {
+                    if (id.equals(identity(object))) {
+                        return Collections.singletonList(object);
+                    }
+                }
+                return Collections.emptyList();
+            }
+        };
+    }
+
+    private Object identity(Object object) {
+        ClassInfo classInfo = metaData.classInfo(object);
+        return FieldWriter.read(classInfo.getField(classInfo.identityField()), object);
+    }
 }
@@ -1,6 +1,11 @@
 package org.neo4j.ogm.session;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.mapper.IdentityMapStatistics;
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.query.Query;
 import org.neo4j.ogm.session.transaction.Transaction;
 
 import java.util.Collection;
@@ -20,6 +25,50 @@ public interface Session {
 
     <T> Collection<T> loadAll(Class<T> type, int depth);
 
+    /**
+     * Loads a page of the objects of the given type in the given order. The ids of the objects on the page are found
+     * first, and only those objects are then loaded with their related objects to the given depth.
+     *
+     * @param type The type of the objects to load.
+     * @param pagination The page to load, or <code>null</code> to load all of them.
+     * @param sortOrder The order of the objects, or <code>null</code> for no particular order.
+     * @param depth The depth to which the related objects of each of them are loaded.
+     *
+     * @return The objects on the page, in order.
+     */
+    <T> Collection<T> loadAll(Class<T> type, Pagination pagination, SortOrder sortOrder, int depth);
+
+    /**
+     * Loads the object of the given type with the given id, together with the related objects the given fetch plan
+     * reaches from it, rather than those within a single depth of it along relationships of every type.
+     *
+     * @param type The type of the object to load.
+     * @param id The id of the object.
+     * @param fetchPlan The relationships to follow from the object.
+     *
+     * @return The object, or <code>null</code> if there is no object of the type with the id.
+     * @see #fetchPlan(Class)
+     */
+    <T> T load(Class<T> type, Long id, FetchPlan fetchPlan);
+
+    /**
+     * Loads the objects of the given type with the given ids, together with the related objects the given fetch plan
+     * reaches from them.
+     */
+    <T> Collection<T> loadAll(Class<T> type, Collection<Long> ids, FetchPlan fetchPlan);
+
+    /**
+     * Loads all the objects of the given type, together with the related objects the given fetch plan reaches from
+     * them.
+     */
+    <T> Collection<T> loadAll(Class<T> type, FetchPlan fetchPlan);
+
+    /**
+     * @return The fetch plan that the {@link org.neo4j.ogm.annotation.Fetch} annotations on the relationship fields of
+     * the given type declare, which follows nothing if none of them are annotated.
+     */
+    FetchPlan fetchPlan(Class<?> type);
+
     <T> Collection<T> loadAll(Collection<T> objects);
 
     <T> Collection<T> loadAll(Collection<T> objects, int depth);
@@ -29,10 +78,27 @@ public interface Session {
     <T> Collection<T> loadByProperty(Class<T> type, Property<String, Object> property, int depth);
 
 
+    /**
+     * @return The number of objects of the given type in the database, counted there without loading any of them.
+     */
+    long countEntitiesOfType(Class<?> type);
+
     void execute(String jsonStatements);
 
     void purge();
 
+    /**
+     * @return The current hit, miss and eviction counts of the objects this session holds
+     * @see org.neo4j.ogm.session.SessionFactory#setEvictionPolicy(org.neo4j.ogm.mapper.EvictionPolicy)
+     */
+    IdentityMapStatistics identityMapStatistics();
+
+    /**
+     * @return The number and latencies of the requests this session has made to load objects by id
+     * @see org.neo4j.ogm.session.SessionFactory#setLoadChunking(int, java.util.concurrent.ExecutorService)
+     */
+    LoadChunkStatistics loadChunkStatistics();
+
 
     <T> void save(T object);
 
@@ -90,8 +156,36 @@ public interface Session {
      */
     void execute(String cypher, Map<String, Object> parameters);
 
-    //    <T> T queryForObject(QueryResultMapper<T> objectType, String cypher,  Map<String, Object> parameters);
+    /**
+     * Given a non modifying cypher statement this method will return a query whose results are the domain objects or
+     * scalars it returns, mapped one record at a time as they are read rather than collected up front.
+     *
+     * <p>Each record yields the distinct domain objects of the parametrized type it contains, so a domain object that
+     * appears in several records is returned once for each of them.</p>
+     *
+     * @param objectType The type that should be returned from the query.
+     * @param cypher The parametrizable cypher to execute.
+     * @param parameters Any parameters to attach to the cypher.
+     *
+     * @param <T> A domain object or scalar.
+     *
+     * @return A {@link Query} that is yet to be executed.
+     */
+    <T> Query<T> createQuery(Class<T> objectType, String cypher, Map<String, Object> parameters);
 
-    //<T> Query<T> createQuery(T type, String cypher, Map<String, Object> parameters);
+    /**
+     * Returns a query whose results are all the objects of the given type, each loaded to the given depth and mapped
+     * one at a time as it is read, rather than collected up front as {@link #loadAll(Class, int)} does.
+     *
+     * @param type The type of the objects to load.
+     * @param depth The depth to which the related objects of each of them are loaded.
+     *
+     * @param <T> A domain object.
+     *
+     * @return A {@link Query} that is yet to be executed.
+     */
+    <T> Query<T> createLoadAllQuery(Class<T> type, int depth);
+
+    //    <T> T queryForObject(QueryResultMapper<T> objectType, String cypher,  Map<String, Object> parameters);
 
 }
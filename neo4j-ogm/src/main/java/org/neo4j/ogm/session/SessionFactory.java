@@ -2,21 +2,215 @@ package org.neo4j.ogm.session;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.mapper.EvictionPolicy;
+import org.neo4j.ogm.mapper.SaveMode;
 import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.Neo4jRequest;
+import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.VariableDepthQuery;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.util.concurrent.ExecutorService;
 
 public class SessionFactory {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private final CloseableHttpClient httpClient = HttpClients.createDefault();
+    private final HttpConnections connections;
+    private final CloseableHttpClient httpClient;
+    private final int requestCompressionThreshold;
     private final MetaData metaData;
+    private EvictionPolicy evictionPolicy = EvictionPolicy.NONE;
+    private SaveMode saveMode = SaveMode.TRAVERSE_ALL;
+    private EntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+    private boolean lazyLoading;
+    private QueryStatements queryStatements = new VariableDepthQuery();
+    private int loadChunkSize = Integer.MAX_VALUE;
+    private ExecutorService loadExecutor;
 
     public SessionFactory(String... packages) {
+        this(new ConnectionConfiguration(), packages);
+    }
+
+    /**
+     * Creates a factory whose sessions share a pool of HTTP connections set up as given.
+     *
+     * @param configuration The {@link ConnectionConfiguration} of the pool
+     * @param packages The packages of the domain classes
+     */
+    public SessionFactory(ConnectionConfiguration configuration, String... packages) {
         this.metaData = new MetaData(packages);
+        this.connections = new HttpConnections(configuration);
+        this.httpClient = connections.httpClient();
+        this.requestCompressionThreshold = configuration.getRequestCompressionThreshold();
+    }
+
+    /**
+     * Sets the policy by which sessions opened from now on evict the objects they have loaded or saved.
+     * By default, a session keeps every object for its whole lifetime.
+     *
+     * @param evictionPolicy The {@link EvictionPolicy} to use
+     */
+    public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        if (evictionPolicy == null) {
+            throw new NullPointerException("evictionPolicy");
+        }
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    /**
+     * Sets how much of the object graph sessions opened from now on traverse when saving an object.
+     * By default, every object reachable from the saved one is visited.
+     *
+     * @param saveMode The {@link SaveMode} to use
+     */
+    public void setSaveMode(SaveMode saveMode) {
+        if (saveMode == null) {
+            throw new NullPointerException("saveMode");
+        }
+        this.saveMode = saveMode;
+    }
+
+    /**
+     * Sets the strategy through which sessions opened from now on read and write the members of entities.
+     * The strategy is shared by those sessions, so it must be safe for concurrent use.
+     *
+     * @param entityAccessStrategy The {@link EntityAccessStrategy} to use, such as a
+     *                             {@link org.neo4j.ogm.entityaccess.MethodHandleEntityAccessStrategy}
+     */
+    public void setEntityAccessStrategy(EntityAccessStrategy entityAccessStrategy) {
+        if (entityAccessStrategy == null) {
+            throw new NullPointerException("entityAccessStrategy");
+        }
+        this.entityAccessStrategy = entityAccessStrategy;
+    }
+
+    /**
+     * Sets whether sessions opened from now on load the relationship collections of the objects at the edge of a load
+     * lazily, with a further request made the first time each of them is accessed. By default, those collections
+     * hold only the related objects that the load reached.
+     *
+     * A lazy collection loads the relationships of the direction declared by its field's
+     * {@link org.neo4j.ogm.annotation.Relationship} annotation, so collections of incoming relationships are loaded
+     * lazily as well as those of outgoing ones.
+     *
+     * @param lazyLoading <code>true</code> to load relationship collections beyond the load depth lazily
+     */
+    public void setLazyLoading(boolean lazyLoading) {
+        this.lazyLoading = lazyLoading;
+    }
+
+    /**
+     * Sets the strategy that writes the Cypher queries by which sessions opened from now on load objects to a depth.
+     * By default, every path from the loaded objects up to that depth is returned.
+     *
+     * @param queryStatements The {@link QueryStatements} to use, such as a
+     *                        {@link org.neo4j.ogm.session.request.strategy.SubgraphQuery}, which returns the distinct
+     *                        nodes and relationships within that depth instead
+     */
+    public void setQueryStatements(QueryStatements queryStatements) {
+        if (queryStatements == null) {
+            throw new NullPointerException("queryStatements");
+        }
+        this.queryStatements = queryStatements;
+    }
+
+    /**
+     * Sets how sessions opened from now on split the ids of a load by ids into chunks, each loaded with a request of
+     * its own, so that no single request or response grows with the number of ids. By default, all the ids of a load
+     * are sent in one request.
+     *
+     * Outside a transaction, the chunks of a load are requested concurrently on the given executor, as many at a time
+     * as it and the connection pool allow, and their objects are merged into the session as each response arrives.
+     * The requests of a transaction are always made one after another, since the server takes them one at a time.
+     * Either way, a load returns the same objects as it would in a single request.
+     *
+     * The calling thread waits for the chunks of its load, so the executor shouldn't be one that runs the loads of an
+     * {@link AsyncSession} too, or it may fill up with loads waiting for chunks it has no thread left to run.
+     *
+     * @param chunkSize The most ids to load in one request
+     * @param executor The {@link ExecutorService} on which the chunks are requested, or <code>null</code> to request
+     *                 them one after another on the calling thread
+     * @see Session#loadChunkStatistics()
+     */
+    public void setLoadChunking(int chunkSize, ExecutorService executor) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive but was " + chunkSize);
+        }
+        this.loadChunkSize = chunkSize;
+        this.loadExecutor = executor;
+    }
+
+    /**
+     * @return The number of HTTP connections leased to requests and available for reuse, and the number of requests
+     * waiting for a connection, across the sessions of this factory
+     */
+    public ConnectionPoolStatistics connectionPoolStatistics() {
+        return connections.statistics();
+    }
+
+    /**
+     * Closes the HTTP connections of this factory, after which the sessions it has opened can no longer reach the
+     * server.
+     */
+    public void close() {
+        connections.close();
     }
 
     public Session openSession(String url) {
-        return new Neo4jSession(metaData, url, httpClient, objectMapper);
+        return newSession(url);
+    }
+
+    /**
+     * Opens a session that reaches the database through the given request and transaction manager instead of over
+     * HTTP. For instance, a session on an embedded database running in the same JVM is opened with:
+     *
+     * <pre>
+     * sessionFactory.openSession(new EmbeddedRequest(database), new EmbeddedTransactionManager(database));
+     * </pre>
+     *
+     * @param request The {@link Neo4jRequest} through which the session executes its statements
+     * @param transactionManager The {@link TransactionManager} that begins and ends the session's transactions
+     */
+    public Session openSession(Neo4jRequest<String> request, TransactionManager transactionManager) {
+        return newSession(request, transactionManager);
     }
 
+    /**
+     * Opens a session whose operations run on the given executor and return futures of their results, so that the
+     * calling thread is not held up by the requests made to the database.
+     *
+     * @param url The URL of the Neo4j server
+     * @param executor The {@link ExecutorService} on which the requests are executed and their results mapped
+     */
+    public AsyncSession openAsyncSession(String url, ExecutorService executor) {
+        return new Neo4jAsyncSession(newSession(url), executor);
+    }
+
+    /**
+     * Opens a session whose operations run on the given executor, reaching the database through the given request
+     * and transaction manager. If the transaction manager's transactions are bound to a thread, the operations of each
+     * transaction begun through the session run on a thread of their own instead.
+     *
+     * @see #openSession(Neo4jRequest, TransactionManager)
+     * @see #openAsyncSession(String, ExecutorService)
+     */
+    public AsyncSession openAsyncSession(Neo4jRequest<String> request, TransactionManager transactionManager, ExecutorService executor) {
+        return new Neo4jAsyncSession(newSession(request, transactionManager), executor);
+    }
+
+    private Neo4jSession newSession(String url) {
+        DefaultRequest request = new DefaultRequest(httpClient, objectMapper, requestCompressionThreshold);
+        return newSession(request, new TransactionManager(httpClient, url));
+    }
+
+    private Neo4jSession newSession(Neo4jRequest<String> request, TransactionManager transactionManager) {
+        Neo4jSession session = new Neo4jSession(metaData, request, transactionManager, objectMapper, evictionPolicy, saveMode, entityAccessStrategy);
+        session.setLazyLoading(lazyLoading);
+        session.setQueryStatements(queryStatements);
+        session.setLoadChunking(loadChunkSize, loadExecutor);
+        return session;
+    }
 }
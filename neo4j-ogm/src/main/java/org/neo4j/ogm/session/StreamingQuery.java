@@ -0,0 +1,71 @@
+package org.neo4j.ogm.session;
+
+import org.neo4j.ogm.session.query.Query;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link Query} that maps each record of its response when the results of the previous one have all been returned,
+ * so that no more than one record's worth of results is held by the query at a time.
+ *
+ * @param <T> the type of the results
+ * @param <R> the type of the records of the response
+ */
+abstract class StreamingQuery<T, R> implements Query<T> {
+
+    private Neo4jResponse<R> response;
+    private Iterator<T> results = Collections.emptyIterator();
+    private boolean closed;
+
+    /**
+     * @return the response of the query, whose records are read one at a time
+     */
+    protected abstract Neo4jResponse<R> open();
+
+    /**
+     * @return the results mapped from a record of the response
+     */
+    protected abstract List<T> map(R record);
+
+    @Override
+    public Query<T> execute() {
+        if (response != null || closed) {
+            throw new IllegalStateException("The query has already been executed");
+        }
+        response = open();
+        return this;
+    }
+
+    @Override
+    public T next() {
+        if (response == null && !closed) {
+            throw new IllegalStateException("The query has not been executed");
+        }
+        while (!results.hasNext()) {
+            if (closed) {
+                return null;
+            }
+            R record = response.next();
+            if (record == null) {
+                close();
+                return null;
+            }
+            results = map(record).iterator();
+        }
+        return results.next();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            results = Collections.emptyIterator();
+            if (response != null) {
+                response.close();
+            }
+        }
+    }
+}
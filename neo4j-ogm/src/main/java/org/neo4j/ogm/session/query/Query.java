@@ -1,11 +1,36 @@
 package org.neo4j.ogm.session.query;
 
-import java.util.Map;
-
+/**
+ * The results of a query, read from the response one at a time as they are asked for rather than collected up front,
+ * so that a query can return more objects than would fit in memory at once.
+ *
+ * The objects already returned are only kept by the session as far as its
+ * {@link org.neo4j.ogm.mapper.EvictionPolicy} lets it, so the memory a query needs is bounded under a policy that lets
+ * go of the objects the application no longer references.
+ *
+ * A query holds its response, and the connection it is read from, until it is closed or all of its results have been
+ * read.
+ *
+ * @param <T> the type of the results
+ */
 public interface Query<T> extends AutoCloseable {
 
+    /**
+     * Sends the query to the database. It can only be executed once.
+     *
+     * @return this query
+     */
     Query<T> execute();
 
+    /**
+     * @return the next result, or <code>null</code> once all of them have been read, at which point the query is closed
+     */
     T next();
 
+    /**
+     * Releases the response of the query, without reading the results that are left.
+     */
+    @Override
+    void close();
+
 }
@@ -1,39 +1,61 @@
 package org.neo4j.ogm.session.request;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
 import org.apache.http.StatusLine;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.entity.GzipCompressingEntity;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.protocol.HTTP;
+import org.apache.http.util.EntityUtils;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
 import org.neo4j.ogm.session.response.JsonResponse;
 import org.neo4j.ogm.session.response.Neo4jResponse;
 import org.neo4j.ogm.session.result.ResultProcessingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 public class DefaultRequest implements Neo4jRequest<String> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultRequest.class);
 
     private final CloseableHttpClient httpClient;
+    private final ObjectMapper mapper;
+    private final int compressionThreshold;
+
+    public DefaultRequest(CloseableHttpClient httpClient, ObjectMapper mapper) {
+        this(httpClient, mapper, -1);
+    }
 
-    public DefaultRequest(CloseableHttpClient httpClient) {
+    /**
+     * @param compressionThreshold The size in bytes above which request bodies are compressed with gzip, or a negative
+     *                             value to never compress them
+     */
+    public DefaultRequest(CloseableHttpClient httpClient, ObjectMapper mapper, int compressionThreshold) {
         this.httpClient = httpClient;
+        this.mapper = mapper;
+        this.compressionThreshold = compressionThreshold;
     }
 
-    public Neo4jResponse<String> execute(String url, String cypherQuery) {
+    public Neo4jResponse<String> execute(String url, ParameterisedStatements statements) {
 
         try {
 
-            LOGGER.info("POST " + url + ", request: " + cypherQuery);
+            LOGGER.info("POST " + url);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("request: " + mapper.writeValueAsString(statements));
+            }
 
             HttpPost request = new HttpPost(url);
-            HttpEntity entity = new StringEntity(cypherQuery);
+            HttpEntity entity = entity(statements);
 
             request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE,"application/json;charset=UTF-8"));
             request.setHeader(new BasicHeader("Accept", "application/json;charset=UTF-8"));
@@ -45,6 +67,7 @@ public class DefaultRequest implements Neo4jRequest<String> {
             HttpEntity responseEntity = response.getEntity();
 
             if (statusLine.getStatusCode() >= 300) {
+                EntityUtils.consumeQuietly(responseEntity); // releases the connection
                 throw new HttpResponseException(
                         statusLine.getStatusCode(),
                         statusLine.getReasonPhrase());
@@ -60,7 +83,23 @@ public class DefaultRequest implements Neo4jRequest<String> {
         }
         catch (Exception e) {
             System.out.println("caught response exception: " + e.getLocalizedMessage());
-            throw new ResultProcessingException("Failed to execute request: " + cypherQuery, e);
+            throw new ResultProcessingException("Failed to execute request: " + url, e);
+        }
+    }
+
+    /*
+     * The size of a request body is only known once it has been written, so it is written up to the threshold first:
+     * a body that fits is sent as it is, and a larger one is written again, compressed, as it is sent.
+     */
+    private HttpEntity entity(ParameterisedStatements statements) throws IOException {
+        JsonStatementsEntity entity = new JsonStatementsEntity(statements, mapper);
+        if (compressionThreshold < 0) {
+            return entity;
+        }
+        byte[] body = entity.toByteArray(compressionThreshold);
+        if (body != null) {
+            return new ByteArrayEntity(body, ContentType.APPLICATION_JSON);
         }
+        return new GzipCompressingEntity(entity);
     }
 }
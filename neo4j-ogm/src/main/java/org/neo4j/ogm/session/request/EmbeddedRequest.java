@@ -0,0 +1,211 @@
+package org.neo4j.ogm.session.request;
+
+import org.neo4j.cypher.javacompat.ExecutionEngine;
+import org.neo4j.cypher.javacompat.ExecutionResult;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Path;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.ResourceIterator;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.NodeModel;
+import org.neo4j.ogm.model.RelationshipModel;
+import org.neo4j.ogm.session.response.EmbeddedResponse;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.result.ResultProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Array;
+import java.util.*;
+
+/**
+ * Executes statements directly against an embedded {@link GraphDatabaseService}, in the same process, rather than
+ * posting them to a server.
+ *
+ * The results are converted into graph models and rows while the database transaction is open, in the same form as
+ * the server would have returned them, so no JSON is written or read. The statements of each request are executed in
+ * a database transaction of their own, unless the thread already has one open, such as one begun through an
+ * {@link org.neo4j.ogm.session.transaction.EmbeddedTransactionManager}, in which case they take part in it.
+ */
+public class EmbeddedRequest implements Neo4jRequest<String> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EmbeddedRequest.class);
+
+    private final GraphDatabaseService database;
+    private final ExecutionEngine executionEngine;
+
+    public EmbeddedRequest(GraphDatabaseService database) {
+        this.database = database;
+        this.executionEngine = new ExecutionEngine(database);
+    }
+
+    @Override
+    public Neo4jResponse<String> execute(String url, ParameterisedStatements statements) {
+
+        LOGGER.debug("executing {} statements for {}", statements.getStatements().size(), url);
+
+        try (Transaction tx = database.beginTx()) {
+            List<EmbeddedResponse.Result> results = new ArrayList<>();
+            for (ParameterisedStatement statement : statements.getStatements()) {
+                results.add(execute(statement));
+            }
+            tx.success();
+            return new EmbeddedResponse(results);
+        } catch (Exception e) {
+            throw new ResultProcessingException("Failed to execute request: " + url, e);
+        }
+    }
+
+    private EmbeddedResponse.Result execute(ParameterisedStatement statement) {
+
+        ExecutionResult result = executionEngine.execute(statement.getStatement(), statement.getParameters());
+
+        List<String> resultDataContents = Arrays.asList(statement.getResultDataContents());
+        List<Object[]> rows = resultDataContents.contains("row") ? new ArrayList<Object[]>() : null;
+        List<GraphModel> graphs = resultDataContents.contains("graph") ? new ArrayList<GraphModel>() : null;
+        List<String> columns = result.columns();
+
+        try (ResourceIterator<Map<String, Object>> records = result.iterator()) {
+            while (records.hasNext()) {
+                Map<String, Object> record = records.next();
+                if (rows != null) {
+                    Object[] row = new Object[columns.size()];
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] = rowValue(record.get(columns.get(i)));
+                    }
+                    rows.add(row);
+                }
+                if (graphs != null) {
+                    GraphBuilder graph = new GraphBuilder();
+                    for (String column : columns) {
+                        graph.add(record.get(column));
+                    }
+                    graphs.add(graph.build());
+                }
+            }
+        }
+        return new EmbeddedResponse.Result(columns.toArray(new String[columns.size()]), rows, graphs);
+    }
+
+    /*
+     * Nodes and relationships appear in rows as the maps of their properties, and paths as the list of the
+     * properties of each of their elements, as they do in the rows returned by the server.
+     */
+    private static Object rowValue(Object value) {
+        if (value instanceof PropertyContainer) {
+            return properties((PropertyContainer) value);
+        }
+        if (value instanceof Map) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map.put(String.valueOf(entry.getKey()), rowValue(entry.getValue()));
+            }
+            return map;
+        }
+        if (value instanceof Iterable) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (Iterable<?>) value) {
+                list.add(rowValue(element));
+            }
+            return list;
+        }
+        if (value != null && value.getClass().isArray()) {
+            return arrayValue(value);
+        }
+        return value;
+    }
+
+    private static Map<String, Object> properties(PropertyContainer propertyContainer) {
+        Map<String, Object> properties = new HashMap<>();
+        for (String key : propertyContainer.getPropertyKeys()) {
+            Object value = propertyContainer.getProperty(key);
+            properties.put(key, value.getClass().isArray() ? arrayValue(value) : value);
+        }
+        return properties;
+    }
+
+    private static List<Object> arrayValue(Object array) {
+        int length = Array.getLength(array);
+        List<Object> list = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            list.add(rowValue(Array.get(array, i)));
+        }
+        return list;
+    }
+
+    /**
+     * Collects the distinct nodes and relationships found in the values of a record, including those in paths and
+     * collections.
+     */
+    private static class GraphBuilder {
+
+        private final Map<Long, NodeModel> nodes = new LinkedHashMap<>();
+        private final Map<Long, RelationshipModel> relationships = new LinkedHashMap<>();
+
+        void add(Object value) {
+            if (value instanceof Node) {
+                add((Node) value);
+            } else if (value instanceof Relationship) {
+                add((Relationship) value);
+            } else if (value instanceof Path) {
+                for (Node node : ((Path) value).nodes()) {
+                    add(node);
+                }
+                for (Relationship relationship : ((Path) value).relationships()) {
+                    add(relationship);
+                }
+            } else if (value instanceof Map) {
+                for (Object element : ((Map<?, ?>) value).values()) {
+                    add(element);
+                }
+            } else if (value instanceof Iterable) {
+                for (Object element : (Iterable<?>) value) {
+                    add(element);
+                }
+            } else if (value instanceof Object[]) {
+                for (Object element : (Object[]) value) {
+                    add(element);
+                }
+            }
+        }
+
+        private void add(Node node) {
+            if (!nodes.containsKey(node.getId())) {
+                List<String> labels = new ArrayList<>();
+                for (Label label : node.getLabels()) {
+                    labels.add(label.name());
+                }
+                NodeModel nodeModel = new NodeModel();
+                nodeModel.setId(node.getId());
+                nodeModel.setLabels(labels.toArray(new String[labels.size()]));
+                nodeModel.setProperties(properties(node));
+                nodes.put(node.getId(), nodeModel);
+            }
+        }
+
+        private void add(Relationship relationship) {
+            if (!relationships.containsKey(relationship.getId())) {
+                RelationshipModel relationshipModel = new RelationshipModel();
+                relationshipModel.setId(relationship.getId());
+                relationshipModel.setType(relationship.getType().name());
+                relationshipModel.setStartNode(relationship.getStartNode().getId());
+                relationshipModel.setEndNode(relationship.getEndNode().getId());
+                relationshipModel.setProperties(properties(relationship));
+                relationships.put(relationship.getId(), relationshipModel);
+            }
+        }
+
+        GraphModel build() {
+            GraphModel graphModel = new GraphModel();
+            graphModel.setNodes(nodes.values().toArray(new NodeModel[nodes.size()]));
+            graphModel.setRelationships(relationships.values().toArray(new RelationshipModel[relationships.size()]));
+            return graphModel;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.neo4j.ogm.session.request;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * An {@link org.apache.http.HttpEntity} that serialises {@link ParameterisedStatements} straight onto
+ * the connection's output stream using chunked transfer encoding, so the request body never has to be
+ * held in memory as a String or byte array.
+ *
+ * The entity can only be written: {@link #getContent()} is not supported, since reading it would need the whole body in
+ * memory after all.
+ */
+public class JsonStatementsEntity extends AbstractHttpEntity {
+
+    private final ParameterisedStatements statements;
+    private final ObjectMapper mapper;
+
+    public JsonStatementsEntity(ParameterisedStatements statements, ObjectMapper mapper) {
+        this.statements = statements;
+        this.mapper = mapper;
+        setContentType("application/json;charset=UTF-8");
+        setChunked(true);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public InputStream getContent() {
+        throw new UnsupportedOperationException("Statements can only be written to an output stream");
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = mapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+        // the connection owns the output stream, we must not close it
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        mapper.writeValue(generator, statements);
+        generator.close();
+    }
+
+    /**
+     * Writes the statements into a byte array, unless they take more than the given number of bytes.
+     *
+     * @param limit the largest number of bytes to write
+     * @return the statements as JSON, or <code>null</code> if they don't fit in the limit
+     * @throws IOException if the statements can't be written
+     */
+    public byte[] toByteArray(int limit) throws IOException {
+        LimitedOutputStream outputStream = new LimitedOutputStream(limit);
+        try {
+            writeTo(outputStream);
+        } catch (LimitExceededException e) {
+            return null;
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    private static class LimitExceededException extends IOException {
+
+        private static final long serialVersionUID = 1910207170117351201L;
+    }
+
+    /**
+     * Collects the bytes written to it until there are more than a given number of them.
+     */
+    private static class LimitedOutputStream extends OutputStream {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final int limit;
+
+        LimitedOutputStream(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureRoom(1);
+            bytes.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureRoom(len);
+            bytes.write(b, off, len);
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+
+        private void ensureRoom(int len) throws LimitExceededException {
+            if (bytes.size() + len > limit) {
+                throw new LimitExceededException();
+            }
+        }
+    }
+}
@@ -1,17 +1,18 @@
 package org.neo4j.ogm.session.request;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.cypher.query.GraphRowModelQuery;
 import org.neo4j.ogm.cypher.query.RowModelQuery;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
 import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
-import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.session.response.EmptyResponse;
 import org.neo4j.ogm.session.response.GraphModelResponse;
+import org.neo4j.ogm.session.response.GraphRowModelResponse;
 import org.neo4j.ogm.session.response.Neo4jResponse;
 import org.neo4j.ogm.session.response.RowModelResponse;
+import org.neo4j.ogm.session.result.GraphRowModel;
 import org.neo4j.ogm.session.result.RowModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,6 +47,14 @@ public class SessionRequestHandler implements RequestHandler {
         return new RowModelResponse(response, mapper);
     }
 
+    @Override
+    public Neo4jResponse<GraphRowModel> execute(GraphRowModelQuery query, String url) {
+        List<ParameterisedStatement> list = new ArrayList<>();
+        list.add(query);
+        Neo4jResponse<String> response = execute(list, url);
+        return new GraphRowModelResponse(response, mapper);
+    }
+
     @Override
     public Neo4jResponse<String> execute(ParameterisedStatement statement, String url) {
         List<ParameterisedStatement> list = new ArrayList<>();
@@ -55,17 +64,17 @@ public class SessionRequestHandler implements RequestHandler {
 
     @Override
     public Neo4jResponse<String> execute(List<ParameterisedStatement> statementList, String url) {
-        try {
-            String json = mapper.writeValueAsString(new ParameterisedStatements(statementList));
-            // ugh.
-            if (!json.contains("statement\":\"\"")) {    // not an empty statement
-                logger.debug(json);
-                return request.execute(url, json);
+        List<ParameterisedStatement> statements = new ArrayList<>(statementList.size());
+        for (ParameterisedStatement statement : statementList) {
+            if (!statement.getStatement().isEmpty()) {
+                statements.add(statement);
             }
+        }
+        if (statements.isEmpty()) {
+            logger.debug("no statements to execute");
             return new EmptyResponse();
-        } catch (JsonProcessingException jpe) {
-            throw new MappingException(jpe.getLocalizedMessage());
         }
+        return request.execute(url, new ParameterisedStatements(statements));
     }
 
 
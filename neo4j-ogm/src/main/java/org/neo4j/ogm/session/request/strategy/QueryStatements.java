@@ -1,7 +1,12 @@
 package org.neo4j.ogm.session.request.strategy;
 
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.cypher.query.GraphRowModelQuery;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.RowModelQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 
 import java.util.Collection;
 
@@ -46,4 +51,69 @@ public interface QueryStatements {
      */
     GraphModelQuery findByProperty(String label, Property<String, Object> property, int depth);
 
+    /**
+     * construct a query to fetch a single object with the specified id, together with the related objects the
+     * specified fetch plan reaches from it
+     * @param id the id of the object to find
+     * @param fetchPlan the relationships to follow from the object
+     * @return a Cypher expression
+     */
+    GraphModelQuery findOne(Long id, FetchPlan fetchPlan);
+
+    /**
+     * construct a query to fetch all objects with the specified ids, together with the related objects the specified
+     * fetch plan reaches from them
+     * @param ids the ids of the objects to find
+     * @param fetchPlan the relationships to follow from the objects
+     * @return a Cypher expression
+     */
+    GraphModelQuery findAll(Collection<Long> ids, FetchPlan fetchPlan);
+
+    /**
+     * construct a query to fetch all objects with the specified label, together with the related objects the
+     * specified fetch plan reaches from them
+     * @param label the labels attached to the objects
+     * @param fetchPlan the relationships to follow from the objects
+     * @return a Cypher expression
+     */
+    GraphModelQuery findByLabel(String label, FetchPlan fetchPlan);
+
+    /**
+     * construct a query to fetch all objects with the specified label, each in a record of its own together with the
+     * paths of up to the specified depth from it, so that the results can be mapped one record at a time. The first
+     * column of each record is the id of the object it is for
+     * @param label the label value to filter on
+     * @param depth the maximum depth for any related objects that should also be returned
+     * @return a Cypher expression
+     */
+    GraphRowModelQuery findEachByLabel(String label, int depth);
+
+    /**
+     * construct a query to fetch the ids of the objects with the specified label on a page, in the specified order,
+     * whose related objects can then be fetched for that page alone
+     * @param label the label value to filter on
+     * @param pagination the page to fetch, or <code>null</code> for all of them
+     * @param sortOrder the order of the objects, or <code>null</code> to order them by id alone. Objects that are
+     *                  equal in this order are ordered by id, so that the pages are stable
+     * @return a Cypher expression
+     */
+    RowModelQuery findIdsByLabel(String label, Pagination pagination, SortOrder sortOrder);
+
+    /**
+     * construct a query to count the objects with the specified label
+     * @param label the label value to filter on
+     * @return a Cypher expression
+     */
+    RowModelQuery countByLabel(String label);
+
+    /**
+     * construct a query to fetch the objects at the other end of the relationships of an object in the given
+     * direction, together with those relationships, but not the object itself
+     * @param id the id of the object whose relationships are followed
+     * @param direction {@link org.neo4j.ogm.annotation.Relationship#OUTGOING}, {@link
+     * org.neo4j.ogm.annotation.Relationship#INCOMING} or {@link org.neo4j.ogm.annotation.Relationship#BOTH}
+     * @return a Cypher expression
+     */
+    GraphModelQuery findRelated(Long id, String direction);
+
 }
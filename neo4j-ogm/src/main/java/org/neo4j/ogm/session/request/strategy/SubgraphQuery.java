@@ -0,0 +1,83 @@
+package org.neo4j.ogm.session.request.strategy;
+
+import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.Utils;
+
+import java.util.Collection;
+
+/**
+ * Loads the same objects as {@link VariableDepthQuery}, but returns the distinct nodes and relationships within the
+ * requested depth of the roots instead of every path to them.
+ *
+ * The subgraph is expanded one hop at a time from the roots, collecting the nodes and relationships that each hop
+ * reaches for the first time. The size of the response therefore follows the size of the subgraph, whereas the number
+ * of paths grows combinatorially with the depth in densely connected graphs, and every node and relationship is sent
+ * once for each path it lies on. In return, the database regroups the nodes and relationships collected so far on
+ * every hop to keep them distinct, so the paths may be cheaper for sparse graphs and small depths.
+ *
+ * Loads at depth 0, and the queries that are not loads to a depth, are the same as those of
+ * {@link VariableDepthQuery}.
+ */
+public class SubgraphQuery extends VariableDepthQuery {
+
+    @Override
+    public GraphModelQuery findOne(Long id, int depth) {
+        if (depth > 0) {
+            return new GraphModelQuery(expand("MATCH (n) WHERE id(n) = { id }", depth), Utils.map("id", id));
+        }
+        return super.findOne(id, depth);
+    }
+
+    @Override
+    public GraphModelQuery findAll(Collection<Long> ids, int depth) {
+        if (depth > 0) {
+            return new GraphModelQuery(expand("MATCH (n) WHERE id(n) in { ids }", depth), Utils.map("ids", ids));
+        }
+        return super.findAll(ids, depth);
+    }
+
+    @Override
+    public GraphModelQuery findByLabel(String label, int depth) {
+        if (depth > 0) {
+            return new GraphModelQuery(expand(String.format("MATCH (n:%s)", label), depth), Utils.map());
+        }
+        return super.findByLabel(label, depth);
+    }
+
+    @Override
+    public GraphModelQuery findByProperty(String label, Property<String, Object> property, int depth) {
+        if (depth > 0) {
+            String match = String.format("MATCH (n:%s) WHERE n.%s = { %s }", label, property.getKey(), property.getKey());
+            return new GraphModelQuery(expand(match, depth), Utils.map(property.getKey(), property.asParameter()));
+        }
+        return super.findByProperty(label, property, depth);
+    }
+
+    /*
+     * Collects the roots matched as n, then adds the nodes and relationships reached by each hop from the nodes first
+     * reached by the previous one.
+     *
+     * Each hop unwinds the nodes and relationships collected so far, tagged as already seen, along with the
+     * relationships and nodes reached from the frontier, tagged as new. Grouping them by node or relationship keeps one
+     * of each, and the nodes that were only ever tagged as new become the next frontier. This keeps the work of each hop
+     * in proportion to the size of the subgraph collected so far, where filtering the new nodes and relationships by
+     * testing whether each is in the collected lists would take time in proportion to the product of the two.
+     */
+    private static String expand(String match, int depth) {
+        StringBuilder qry = new StringBuilder(match);
+        qry.append(" WITH collect(n) AS nodes, [] AS rels, collect(n) AS frontier");
+        for (int hop = 0; hop < depth; hop++) {
+            qry.append(" UNWIND [x IN nodes | [0, x]] + [x IN rels | [1, x]] + [x IN frontier | [2, x]] AS t");
+            qry.append(" WITH t, CASE WHEN t[0] = 2 THEN t[1] END AS f");
+            qry.append(" OPTIONAL MATCH (f)-[r]-(m)");
+            qry.append(" UNWIND CASE WHEN t[0] = 2 THEN [[1, r, 1], [0, m, 1]] ELSE [[t[0], t[1], 0]] END AS i");
+            qry.append(" WITH i WHERE i[1] IS NOT NULL");
+            qry.append(" WITH i[0] AS kind, i[1] AS item, min(i[2]) AS seen");
+            qry.append(" WITH collect(CASE WHEN kind = 0 THEN item END) AS nodes,");
+            qry.append(" collect(CASE WHEN kind = 1 THEN item END) AS rels,");
+            qry.append(" collect(CASE WHEN kind = 0 AND seen = 1 THEN item END) AS frontier");
+        }
+        return qry.append(" RETURN nodes, rels").toString();
+    }
+}
@@ -1,10 +1,17 @@
 package org.neo4j.ogm.session.request.strategy;
 
+import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.cypher.query.FetchPlan;
 import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.cypher.query.GraphRowModelQuery;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.RowModelQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.session.Utils;
 
 import java.util.Collection;
+import java.util.List;
 
 public class VariableDepthQuery implements QueryStatements {
 
@@ -60,6 +67,94 @@ public class VariableDepthQuery implements QueryStatements {
         }
     }
 
+    @Override
+    public GraphModelQuery findOne(Long id, FetchPlan fetchPlan) {
+        return new GraphModelQuery(follow("MATCH (n) WHERE id(n) = { id }", fetchPlan), Utils.map("id", id));
+    }
+
+    @Override
+    public GraphModelQuery findAll(Collection<Long> ids, FetchPlan fetchPlan) {
+        return new GraphModelQuery(follow("MATCH (n) WHERE id(n) in { ids }", fetchPlan), Utils.map("ids", ids));
+    }
+
+    @Override
+    public GraphModelQuery findByLabel(String label, FetchPlan fetchPlan) {
+        return new GraphModelQuery(follow(String.format("MATCH (n:%s)", label), fetchPlan), Utils.map());
+    }
+
+    @Override
+    public GraphRowModelQuery findEachByLabel(String label, int depth) {
+        int max = max(depth);
+        int min = min(max);
+        if (max > 0) {
+            String qry = String.format("MATCH p=(n:%s)-[*%d..%d]-(m) WITH n, collect(distinct p) AS paths RETURN id(n), paths", label, min, max);
+            return new GraphRowModelQuery(qry, Utils.map());
+        } else {
+            return DepthZeroReadStrategy.findEachByLabel(label);
+        }
+    }
+
+    @Override
+    public RowModelQuery findIdsByLabel(String label, Pagination pagination, SortOrder sortOrder) {
+        // ties are broken by id, so that pages neither overlap nor miss objects whatever they are sorted by
+        String order = sortOrder == null ? "" : sortOrder.toCypher("n");
+        StringBuilder qry = new StringBuilder(String.format("MATCH (n:%s) WITH n", label));
+        qry.append(order.isEmpty() ? " ORDER BY id(n)" : order + ", id(n)");
+        if (pagination != null) {
+            qry.append(" SKIP { skip } LIMIT { limit } RETURN id(n)");
+            return new RowModelQuery(qry.toString(), Utils.map("skip", pagination.getOffset(), "limit", pagination.getPageSize()));
+        }
+        return new RowModelQuery(qry.append(" RETURN id(n)").toString(), Utils.map());
+    }
+
+    @Override
+    public RowModelQuery countByLabel(String label) {
+        return new RowModelQuery(String.format("MATCH (n:%s) RETURN count(n)", label), Utils.map());
+    }
+
+    @Override
+    public GraphModelQuery findRelated(Long id, String direction) {
+        String relationship = "-[r]-";
+        if (Relationship.OUTGOING.equals(direction)) {
+            relationship = "-[r]->";
+        } else if (Relationship.INCOMING.equals(direction)) {
+            relationship = "<-[r]-";
+        }
+        return new GraphModelQuery("MATCH (n)" + relationship + "(m) WHERE id(n) = { id } RETURN r, m", Utils.map("id", id));
+    }
+
+    /*
+     * Collects the paths of each traversal of the plan from every object separately, since a single variable length
+     * pattern can only constrain the types of its relationships, not how many of each type it follows. The patterns
+     * start from zero length, so an object none of whose relationships match is still returned, and so is every object
+     * a shorter path reaches when a longer one doesn't.
+     */
+    private String follow(String match, FetchPlan fetchPlan) {
+        if (fetchPlan.isEmpty()) {
+            return match + " RETURN n";
+        }
+        StringBuilder qry = new StringBuilder(match);
+        StringBuilder paths = new StringBuilder();
+        List<FetchPlan.Traversal> traversals = fetchPlan.getTraversals();
+        for (int i = 0; i < traversals.size(); i++) {
+            qry.append(String.format(" MATCH p%d=(n)%s()", i, pattern(traversals.get(i))));
+            qry.append(String.format(" WITH n%s, collect(distinct p%d) AS paths%d", paths, i, i));
+            paths.append(", paths").append(i);
+        }
+        return qry.append(" RETURN ").append(paths.substring(2)).toString();
+    }
+
+    private String pattern(FetchPlan.Traversal traversal) {
+        String relationship = String.format("[:%s*0..%d]", traversal.getRelationshipType(), traversal.getDepth());
+        if (Relationship.OUTGOING.equals(traversal.getDirection())) {
+            return "-" + relationship + "->";
+        }
+        if (Relationship.INCOMING.equals(traversal.getDirection())) {
+            return "<-" + relationship + "-";
+        }
+        return "-" + relationship + "-";
+    }
+
     private int min(int depth) {
         return Math.min(0, depth);
     }
@@ -82,6 +177,10 @@ public class VariableDepthQuery implements QueryStatements {
             return new GraphModelQuery(String.format("MATCH (n:%s) RETURN collect(n)", label), Utils.map());
         }
 
+        public static GraphRowModelQuery findEachByLabel(String label) {
+            return new GraphRowModelQuery(String.format("MATCH (n:%s) RETURN id(n), n", label), Utils.map());
+        }
+
         public static GraphModelQuery findByProperty(String label, Property<String, Object> property) {
             return new GraphModelQuery(String.format("MATCH (n:%s) WHERE n.%s = { %s } RETURN collect(n)", label, property.getKey(), property.getKey()), Utils.map(property.getKey(), property.asParameter()));
         }
@@ -0,0 +1,119 @@
+package org.neo4j.ogm.session.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.session.result.GraphRowModel;
+import org.neo4j.ogm.session.result.ResultProcessingException;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The response to statements executed against an embedded database, whose records have already been converted
+ * into graph models and rows, in the form they would have taken in the JSON response of the transactional endpoint.
+ *
+ * As with a {@link JsonResponse}, the results of several statements are read in turn, and each record yields the
+ * value named by the scan token, "row" or "graph", or both of them if the scan token is null.
+ */
+public class EmbeddedResponse implements ModelResponse {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Iterator<Result> results;
+
+    private String scanToken;
+    private Result result;
+    private int currentRow = -1;
+
+    public EmbeddedResponse(List<Result> results) {
+        this.results = results.iterator();
+    }
+
+    @Override
+    public void initialiseScan(String token) {
+        this.scanToken = token;
+    }
+
+    @Override
+    public <T> T next(Class<T> type) {
+        while (result == null || currentRow + 1 >= result.size()) {
+            if (!results.hasNext()) {
+                return null;
+            }
+            result = results.next();
+            currentRow = -1;
+        }
+        currentRow++;
+        return type.cast(result.value(scanToken, currentRow));
+    }
+
+    /**
+     * Returns the next record in the response as JSON text containing only the scanned field, as a
+     * {@link JsonResponse} does. Reading records as models with {@link #next(Class)} avoids the conversion.
+     */
+    @Override
+    public String next() {
+        Object value = next(Object.class);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return mapper.writeValueAsString(Collections.singletonMap(scanToken, value));
+        } catch (Exception e) {
+            throw new ResultProcessingException("Could not write record as JSON", e);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public String[] columns() {
+        return result != null ? result.columns : new String[0];
+    }
+
+    @Override
+    public int rowId() {
+        return currentRow;
+    }
+
+    /**
+     * The records returned by one statement, as rows, graphs or both, depending on the result data contents requested.
+     */
+    public static class Result {
+
+        private final String[] columns;
+        private final List<Object[]> rows;
+        private final List<GraphModel> graphs;
+
+        /**
+         * @param columns the names of the columns returned by the statement
+         * @param rows the values of each record, or null if rows weren't requested
+         * @param graphs the nodes and relationships in each record, or null if graphs weren't requested
+         */
+        public Result(String[] columns, List<Object[]> rows, List<GraphModel> graphs) {
+            this.columns = columns;
+            this.rows = rows;
+            this.graphs = graphs;
+        }
+
+        int size() {
+            return rows != null ? rows.size() : graphs != null ? graphs.size() : 0;
+        }
+
+        Object value(String scanToken, int row) {
+            if (scanToken == null) {
+                return new GraphRowModel(graphs != null ? graphs.get(row) : null, rows != null ? rows.get(row) : null);
+            }
+            if ("row".equals(scanToken)) {
+                return rows != null ? rows.get(row) : null;
+            }
+            if ("graph".equals(scanToken)) {
+                return graphs != null ? graphs.get(row) : null;
+            }
+            return null;
+        }
+    }
+}
@@ -27,6 +27,11 @@ public class GraphModelResponse implements Neo4jResponse<GraphModel> {
     @Override
     public GraphModel next() {
 
+        if (response instanceof ModelResponse) {
+            // bind the graph straight from the response
+            return ((ModelResponse) response).next(GraphModel.class);
+        }
+
         String json = response.next();
 
         if (json != null) {
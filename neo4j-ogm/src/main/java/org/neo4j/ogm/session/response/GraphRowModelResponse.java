@@ -0,0 +1,71 @@
+package org.neo4j.ogm.session.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.session.result.GraphRowModel;
+import org.neo4j.ogm.session.result.ResultProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads each record of a response as a whole, with both its graph and its row.
+ */
+public class GraphRowModelResponse implements Neo4jResponse<GraphRowModel> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GraphRowModelResponse.class);
+
+    private final ObjectMapper objectMapper;
+    private final Neo4jResponse<String> response;
+
+    public GraphRowModelResponse(Neo4jResponse<String> response, ObjectMapper mapper) {
+        this.response = response;
+        this.objectMapper = mapper;
+        try {
+            // without a scan token, the whole of each record is read
+            initialiseScan(null);
+        } catch (Exception e) {
+            throw new ResultProcessingException("Could not initialise response", e);
+        }
+    }
+
+    @Override
+    public GraphRowModel next() {
+
+        if (response instanceof ModelResponse) {
+            // bind the record straight from the response
+            return ((ModelResponse) response).next(GraphRowModel.class);
+        }
+
+        String json = response.next();
+
+        if (json != null) {
+            try {
+                return objectMapper.readValue(json, GraphRowModel.class);
+            } catch (Exception e) {
+                LOGGER.error("failed to parse: " + json);
+                throw new RuntimeException(e);
+            }
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        response.close();
+    }
+
+    @Override
+    public void initialiseScan(String token) {
+        response.initialiseScan(token);
+    }
+
+    @Override
+    public String[] columns() {
+        return response.columns();
+    }
+
+    @Override
+    public int rowId() {
+        return response.rowId();
+    }
+}
@@ -1,69 +1,137 @@
 package org.neo4j.ogm.session.response;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.ogm.session.result.ResultProcessingException;
 
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Scanner;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
-public class JsonResponse implements Neo4jResponse<String> {
+/**
+ * Reads the response of the transactional Cypher endpoint incrementally, using a single {@link JsonParser}
+ * over the raw response stream.
+ *
+ * The response has the general form:
+ *
+ * {"commit": "...", "results": [ {"columns": [...], "data": [ {"row": [...], "graph": {...}}, ... ] }, ... ], "errors": [...] }
+ *
+ * Each call to {@link #next()} (or {@link #next(Class)}) reads exactly one element of a data[] array and returns the
+ * value of the field named by the scan token ("row" or "graph"), or the whole record if the scan token is null. When a data[] array is exhausted the parser moves
+ * on to the next entry in results[], so responses to multiple statements are read in order. The errors[] array
+ * is checked as soon as it is reached, and a {@link ResultProcessingException} is thrown if it is not empty.
+ */
+public class JsonResponse implements ModelResponse {
 
-    private static final String COMMA = ",";
-    private static final String START_RECORD_TOKEN = "{\"";
-    private static final String NEXT_RECORD_TOKEN  = COMMA + START_RECORD_TOKEN;
-    private static final String ERRORS_TOKEN = "],\"errors";
-    private static final String COLUMNS_TOKEN = "{\"columns";
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String RESULTS = "results";
+    private static final String COLUMNS = "columns";
+    private static final String DATA = "data";
+    private static final String ERRORS = "errors";
 
     private final InputStream results;
-    private final Scanner scanner;
+    private final JsonParser parser;
+
     private String scanToken = null;
     private String[] columns;
     private int currentRow = -1;
+    private int resultId = -1;
+    private boolean exhausted = false;
 
     public JsonResponse(InputStream results) {
         this.results = results;
-        this.scanner = new Scanner(results);
+        try {
+            this.parser = mapper.getFactory().createParser(results);
+        } catch (IOException e) {
+            throw new ResultProcessingException("Could not create JSON parser for response", e);
+        }
     }
 
     public void initialiseScan(String token) {
         this.scanToken = token;
-        this.scanner.useDelimiter(scanToken);
-        // TODO: this currently assumes only ONE data[] element in the response stream.
-        parseColumns();
+        try {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            if (!advanceToResults()) {
+                exhausted = true;
+                return;
+            }
+            if (!advanceToData()) {
+                exhausted = true;
+                finishResponse();
+            }
+        } catch (IOException e) {
+            throw new ResultProcessingException("Could not initialise response", e);
+        }
     }
 
+    /**
+     * Returns the next record in the response as a JSON object containing only the scanned field,
+     * e.g. {"row":[...]} or {"graph":{...}}
+     *
+     * @return the JSON text of the next record, or null if there are no more records in the response
+     */
     public String next() {
         try {
-            String json = scanner.next();
-
-            while (!json.endsWith(NEXT_RECORD_TOKEN)) {
-                // the scan token may be embedded in the current response record, we need to keep parsing...
-                try {
-                    String rest = scanner.next();
-                    json = json + scanToken + rest;
-                } catch (Exception e) {
-                    break;
+            if (!advanceToRecord()) {
+                return null;
+            }
+            StringWriter writer = new StringWriter();
+            try (JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+                if (scanToken == null) {
+                    generator.copyCurrentStructure(parser);
+                    return writer.toString();
                 }
+                generator.writeStartObject();
+                generator.writeFieldName(scanToken);
+                readRecord(generator);
+                generator.writeEndObject();
             }
+            return writer.toString();
+        } catch (IOException e) {
+            throw new ResultProcessingException("Could not read next record from response", e);
+        }
+    }
 
-            // will match all records except last in response
-            if (json.endsWith(NEXT_RECORD_TOKEN)) {
-                json = json.substring(0, json.length() - NEXT_RECORD_TOKEN.length());
-            } else if (json.contains(ERRORS_TOKEN)) {
-
-                json = json.substring(0, json.indexOf(ERRORS_TOKEN));
-                // todo: should check errors? they will usually not exist if we have data
+    /**
+     * Returns the value of the scanned field of the next record, bound directly from the response stream
+     * to the given type without any intermediate String representation.
+     *
+     * @param type the type to bind the value of the scanned field to
+     * @return the bound value, or null if there are no more records in the response
+     */
+    @Override
+    public <T> T next(Class<T> type) {
+        try {
+            if (!advanceToRecord()) {
+                return null;
             }
-            String record = START_RECORD_TOKEN + scanToken + json;
-            currentRow++;
-            return record;
-
-        } catch (Exception e) {
-            return null;
+            if (scanToken == null) {
+                return mapper.readValue(parser, type);
+            }
+            T value = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                if (scanToken.equals(field)) {
+                    value = mapper.readValue(parser, type);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return value;
+        } catch (IOException e) {
+            throw new ResultProcessingException("Could not read next record from response", e);
         }
     }
 
     public void close() {
         try {
+            parser.close();
             results.close();
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -79,37 +147,144 @@ public class JsonResponse implements Neo4jResponse<String> {
         return currentRow;
     }
 
-    private void parseColumns() {
-        String header = this.scanner.next(); // consume the header and return the columns array to the caller
+    /**
+     * @return the index of the entry in the results[] array that is currently being read
+     */
+    public int resultId() {
+        return resultId;
+    }
+
+    private void readRecord(JsonGenerator generator) throws IOException {
+        boolean found = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (scanToken.equals(field)) {
+                generator.copyCurrentStructure(parser);
+                found = true;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (!found) {
+            generator.writeNull();
+        }
+    }
+
+    /**
+     * positions the parser on the START_OBJECT of the next record, moving on to the next
+     * entry in the results[] array if the current data[] array is exhausted.
+     */
+    private boolean advanceToRecord() throws IOException {
+        while (!exhausted) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                currentRow++;
+                return true;
+            }
+            expect(token, JsonToken.END_ARRAY); // end of data[]
+            finishResult();
+            if (!advanceToData()) {
+                exhausted = true;
+                finishResponse();
+            }
+        }
+        return false;
+    }
 
-        int cp = header.indexOf(COLUMNS_TOKEN);
-        if (cp == -1) {
-            parseErrors(header);
-        } else {
-            String colStart = header.substring(cp);
-            this.columns = colStart.substring(colStart.indexOf("[") + 1, colStart.indexOf("]")).replaceAll("\"", "").split(",");
+    /**
+     * reads the top-level fields of the response up to and including the start of the results[] array.
+     * Any errors[] array encountered on the way is checked.
+     */
+    private boolean advanceToResults() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (RESULTS.equals(field)) {
+                expect(value, JsonToken.START_ARRAY);
+                return true;
+            }
+            if (ERRORS.equals(field)) {
+                checkErrors();
+            } else {
+                parser.skipChildren();
+            }
         }
+        return false;
     }
 
-    private void parseErrors(String header) {
-        int cp = header.indexOf(ERRORS_TOKEN);
-        if (cp == -1) {
-            throw new RuntimeException("Unexpected problem! Cypher response starts: " + header + "...");
+    /**
+     * reads the next entry in the results[] array up to and including the start of its data[] array,
+     * collecting the columns on the way.
+     */
+    private boolean advanceToData() throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {  // end of results[]
+            return false;
+        }
+        expect(token, JsonToken.START_OBJECT);
+        resultId++;
+        columns = new String[0];
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (COLUMNS.equals(field)) {
+                expect(value, JsonToken.START_ARRAY);
+                List<String> names = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    names.add(parser.getText());
+                }
+                columns = names.toArray(new String[names.size()]);
+            } else if (DATA.equals(field)) {
+                expect(value, JsonToken.START_ARRAY);
+                return true;
+            } else {
+                parser.skipChildren();
+            }
         }
+        // a result without a data[] array: treat it as empty and move on
+        return advanceToData();
+    }
 
-        StringBuilder sb = new StringBuilder(header);
-        String response;
-        try {
-            while ((response = scanner.next()) != null) {
-                sb.append(response);
+    /**
+     * skips any fields following the data[] array in the current entry of the results[] array
+     */
+    private void finishResult() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * reads the remaining top-level fields after the results[] array, checking the errors[] array
+     */
+    private void finishResponse() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (ERRORS.equals(field)) {
+                checkErrors();
+            } else {
+                parser.skipChildren();
             }
-        } catch (Exception e) {
-            scanner.close();
         }
+        if (token != null && token != JsonToken.END_OBJECT) {
+            throw new ResultProcessingException("Unexpected token in response: " + token, null);
+        }
+    }
 
-        //String errors = sb.substring(cp + 2);
+    private void checkErrors() throws IOException {
+        String errors = mapper.readTree(parser).toString();
+        if (!"[]".equals(errors)) {
+            throw new ResultProcessingException(errors, null);
+        }
+    }
 
-        //errors = errors.substring(sb.indexOf("[") + 1, sb.lastIndexOf("]"));
-        throw new ResultProcessingException(sb.substring(cp + 2), null);
+    private void expect(JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new ResultProcessingException("Unexpected problem! Expected " + expected + " in response but found " + actual, null);
+        }
     }
 }
@@ -0,0 +1,17 @@
+package org.neo4j.ogm.session.response;
+
+/**
+ * A response whose records can be read directly as objects of the model, such as a
+ * {@link org.neo4j.ogm.model.GraphModel} or the values of a row, rather than as JSON text to be parsed.
+ */
+public interface ModelResponse extends Neo4jResponse<String> {
+
+    /**
+     * Returns the value of the scanned field of the next record, as an object of the given type.
+     *
+     * @param type the type of the value of the scanned field
+     * @return the value, or null if there are no more records in the response
+     */
+    <T> T next(Class<T> type);
+
+}
@@ -6,6 +6,7 @@ import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.Property;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 public interface ResponseHandler {
@@ -14,5 +15,19 @@ public interface ResponseHandler {
     <T> Collection<T> loadAll(Class<T> type, Neo4jResponse<GraphModel> stream);
     <T> Set<T> loadByProperty(Class<T> type, Neo4jResponse<GraphModel> stream, Property<String, Object> filter);
 
+    /**
+     * Maps the graph models onto the objects of the mapping context, without collecting any of them, as is done when
+     * loading the related objects of a {@link org.neo4j.ogm.mapper.LazyCollection}.
+     */
+    void load(Neo4jResponse<GraphModel> stream);
+
+    /**
+     * Maps a single record of a response, as is done when the results of a query are streamed, without keeping hold
+     * of anything mapped from the records before it.
+     *
+     * @return the distinct objects of the given type mapped from the record, in the order they appear in it
+     */
+    <T> List<T> loadRecord(Class<T> type, GraphModel graphModel);
+
     void updateObjects(CypherContext context, Neo4jResponse<String> response, ObjectMapper mapper);
 }
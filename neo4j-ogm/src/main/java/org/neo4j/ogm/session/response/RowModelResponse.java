@@ -21,6 +21,13 @@ public class RowModelResponse implements Neo4jResponse<RowModel> {
 
     @Override
     public RowModel next() {
+
+        if (response instanceof ModelResponse) {
+            // bind the row straight from the response
+            Object[] row = ((ModelResponse) response).next(Object[].class);
+            return row != null ? new RowModel(row) : null;
+        }
+
         String json = response.next();
         if (json != null) {
             try {
@@ -3,8 +3,11 @@ package org.neo4j.ogm.session.response;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.cypher.compiler.CypherContext;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
 import org.neo4j.ogm.entityaccess.FieldWriter;
 import org.neo4j.ogm.mapper.GraphObjectMapper;
+import org.neo4j.ogm.mapper.LoadBoundary;
 import org.neo4j.ogm.mapper.MappedRelationship;
 import org.neo4j.ogm.mapper.MappingContext;
 import org.neo4j.ogm.mapper.TransientRelationship;
@@ -13,33 +16,63 @@ import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.NodeModel;
 import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.model.RelationshipModel;
 import org.neo4j.ogm.session.result.RowModel;
 
 import java.lang.reflect.Field;
 import java.util.*;
 
+/**
+ * Maps the responses to a session's requests onto its {@link MappingContext}.
+ *
+ * A session may be used by several threads at once, so each graph model or row is mapped while holding the lock of the
+ * mapping context. The lock is not held while the next one is read from the response, so that one thread reading a
+ * slow response doesn't hold up the others.
+ */
 public class SessionResponseHandler implements ResponseHandler {
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
+    private final EntityAccessStrategy entityAccessStrategy;
+    private final LoadBoundary boundary;
 
     public SessionResponseHandler(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, new DefaultEntityAccessStrategy());
+    }
+
+    public SessionResponseHandler(MetaData metaData, MappingContext mappingContext, EntityAccessStrategy entityAccessStrategy) {
+        this(metaData, mappingContext, entityAccessStrategy, null);
+    }
+
+    /**
+     * @param boundary the boundary of the load whose response is handled, beyond which related objects are loaded
+     *                 lazily, or <code>null</code> to load none of them lazily
+     */
+    public SessionResponseHandler(MetaData metaData, MappingContext mappingContext, EntityAccessStrategy entityAccessStrategy, LoadBoundary boundary) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
+        this.entityAccessStrategy = entityAccessStrategy;
+        this.boundary = boundary;
+    }
+
+    private GraphObjectMapper graphObjectMapper() {
+        return new GraphObjectMapper(metaData, mappingContext, entityAccessStrategy, boundary);
     }
 
     @Override
     public <T> Set<T> loadByProperty(Class<T> type, Neo4jResponse<GraphModel> response, Property<String, Object> filter) {
 
-        GraphObjectMapper ogm = new GraphObjectMapper(metaData, mappingContext);
+        GraphObjectMapper ogm = graphObjectMapper();
         Set<T> objects = new HashSet<>();
 
         GraphModel graphModel;
         while ((graphModel = response.next()) != null) {
-            ogm.load(type, graphModel);
-            for (NodeModel nodeModel : graphModel.getNodes()) {
-                if (nodeModel.getPropertyList().contains(filter)) {
-                    objects.add((T) mappingContext.get(nodeModel.getId()));
+            synchronized (mappingContext) {
+                ogm.load(type, graphModel);
+                for (NodeModel nodeModel : graphModel.getNodes()) {
+                    if (nodeModel.getPropertyList().contains(filter)) {
+                        objects.add((T) ogm.node(nodeModel.getId()));
+                    }
                 }
             }
         }
@@ -49,75 +82,140 @@ public class SessionResponseHandler implements ResponseHandler {
     }
 
     @Override
-    public void updateObjects(CypherContext context, Neo4jResponse<String> response, ObjectMapper mapper) {
-
-        RowModelResponse rowModelResponse = new RowModelResponse(response, mapper);
-        String[] variables = rowModelResponse.columns();
-        RowModel rowModel;
-
-        Map<String, Long> directRefMap = new HashMap<>();
+    public void load(Neo4jResponse<GraphModel> response) {
+        GraphObjectMapper ogm = graphObjectMapper();
+        GraphModel graphModel;
+        while ((graphModel = response.next()) != null) {
+            synchronized (mappingContext) {
+                ogm.map(graphModel);
+            }
+        }
+        response.close();
+    }
 
-        while ((rowModel = rowModelResponse.next()) != null) {
-            Object[] results = rowModel.getValues();
+    @Override
+    public <T> List<T> loadRecord(Class<T> type, GraphModel graphModel) {
+        GraphObjectMapper ogm = graphObjectMapper();
+        synchronized (mappingContext) {
+            ogm.map(graphModel);
+        }
 
-            for (int i = 0; i < variables.length; i++) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        List<T> objects = new ArrayList<>();
+        if (metaData.classInfo(type).annotationsInfo().get(RelationshipEntity.CLASS) == null) {
+            for (NodeModel nodeModel : graphModel.getNodes()) {
+                add(type, ogm.node(nodeModel.getId()), seen, objects);
+            }
+        } else {
+            for (RelationshipModel relationshipModel : graphModel.getRelationships()) {
+                add(type, ogm.relationshipEntity(relationshipModel.getId()), seen, objects);
+            }
+        }
+        return objects;
+    }
 
-                String variable = variables[i];
+    private static <T> void add(Class<T> type, Object object, Set<Object> seen, List<T> objects) {
+        if (type.isInstance(object) && seen.add(object)) {
+            objects.add(type.cast(object));
+        }
+    }
 
-                // create the mapping between the cypher variable and the newly created domain object's
-                // identity, as returned by the database
-                Long identity = Long.parseLong(results[i].toString());
-                directRefMap.put(variable, identity);
+    @Override
+    public void updateObjects(CypherContext context, Neo4jResponse<String> response, ObjectMapper mapper) {
 
-                // find the newly created domain object in the context log
-                Object persisted = context.getNewObject(variable);
+        RowModelResponse rowModelResponse = new RowModelResponse(response, mapper);
+        RowModel rowModel;
 
-                if (persisted != null) {  // it will be null if the variable represents a simple relationship.
+        while ((rowModel = rowModelResponse.next()) != null) {
 
-                    // set the id field of the newly created domain object
-                    ClassInfo classInfo = metaData.classInfo(persisted.getClass().getName());
-                    Field identityField = classInfo.getField(classInfo.identityField());
-                    FieldWriter.write(identityField, persisted, identity);
+            // the columns may change from one row to the next when the response contains the results of several statements
+            String[] variables = rowModelResponse.columns();
+            Object[] results = rowModel.getValues();
 
-                    // ensure the newly created domain object is added into the mapping context
-                    if (classInfo.annotationsInfo().get(RelationshipEntity.CLASS) == null) {
-                        mappingContext.registerNode(persisted, identity);
-                    } else {
-                        mappingContext.registerRelationship(persisted, identity);
+            synchronized (mappingContext) {
+                if (isReferenceRow(variables)) {
+                    // batched statements return one row per new object: its cypher variable and its identity
+                    updateObject(context, results[0].toString(), results[1]);
+                } else {
+                    for (int i = 0; i < variables.length; i++) {
+                        updateObject(context, variables[i], results[i]);
                     }
                 }
             }
         }
 
         // finally, all new relationships just established in the graph need to be added to the mapping context.
-        for (Object object : context.log()) {
-            if (object instanceof TransientRelationship) {
-                MappedRelationship relationship = (((TransientRelationship) object).convert(directRefMap));
-                mappingContext.mappedRelationships().add(relationship);
+        synchronized (mappingContext) {
+            for (Object object : context.log()) {
+                if (object instanceof TransientRelationship) {
+                    MappedRelationship relationship = (((TransientRelationship) object).convert(context.identities()));
+                    mappingContext.mappedRelationships().add(relationship);
+                }
             }
         }
 
         rowModelResponse.close();
     }
 
+    private boolean isReferenceRow(String[] variables) {
+        return variables.length == 2 && "ref".equals(variables[0]) && "id".equals(variables[1]);
+    }
+
+    private void updateObject(CypherContext context, String variable, Object result) {
+
+        // create the mapping between the cypher variable and the newly created domain object's
+        // identity, as returned by the database
+        Long identity = Long.parseLong(result.toString());
+        context.registerIdentity(variable, identity);
+
+        // find the newly created domain object in the context log
+        Object persisted = context.getNewObject(variable);
+
+        if (persisted != null) {  // it will be null if the variable represents a simple relationship.
+
+            // set the id field of the newly created domain object
+            ClassInfo classInfo = metaData.classInfo(persisted);
+            Field identityField = classInfo.getField(classInfo.identityField());
+            FieldWriter.write(identityField, persisted, identity);
+
+            // ensure the newly created domain object is added into the mapping context
+            if (classInfo.annotationsInfo().get(RelationshipEntity.CLASS) == null) {
+                mappingContext.registerNode(persisted, identity);
+            } else {
+                mappingContext.registerRelationship(persisted, identity);
+            }
+        }
+    }
+
     @Override
     public <T> T loadById(Class<T> type, Neo4jResponse<GraphModel> response, Long id) {
-        GraphObjectMapper ogm = new GraphObjectMapper(metaData, mappingContext);
+        GraphObjectMapper ogm = graphObjectMapper();
         GraphModel graphModel;
         while ((graphModel = response.next()) != null) {
-            ogm.load(type, graphModel);
+            synchronized (mappingContext) {
+                ogm.load(type, graphModel);
+            }
         }
         response.close();
-        return lookup(type, id);
+        synchronized (mappingContext) {
+            return lookup(ogm, type, id);
+        }
     }
 
-    private <T> T lookup(Class<T> type, Long id) {
+    // asks the mapper first, because it keeps what it mapped reachable whatever the mapping context's eviction policy
+    private <T> T lookup(GraphObjectMapper ogm, Class<T> type, Long id) {
         Object ref;
-        ClassInfo typeInfo = metaData.classInfo(type.getName());
+        ClassInfo typeInfo = metaData.classInfo(type);
         if (typeInfo.annotationsInfo().get(RelationshipEntity.CLASS) == null) {
-            ref = mappingContext.get(id);
+            ref = ogm.node(id);
+            if (ref == null) {
+                ref = mappingContext.get(id);
+            }
         } else {
-            ref = mappingContext.getRelationshipEntity(id);
+            ref = ogm.relationshipEntity(id);
+            if (ref == null) {
+                ref = mappingContext.getRelationshipEntity(id);
+            }
         }
 //        if (ref == null) {
 //            throw new RuntimeException("Object of type " + type + " with id " + id + " expected in mapping context, but was not found");
@@ -128,10 +226,12 @@ public class SessionResponseHandler implements ResponseHandler {
     @Override
     public <T> Collection<T> loadAll(Class<T> type, Neo4jResponse<GraphModel> response) {
         Set<T> objects = new HashSet<>();
-        GraphObjectMapper ogm = new GraphObjectMapper(metaData, mappingContext);
+        GraphObjectMapper ogm = graphObjectMapper();
         GraphModel graphModel;
         while ((graphModel = response.next()) != null) {
-            objects.addAll(ogm.load(type, graphModel));
+            synchronized (mappingContext) {
+                objects.addAll(ogm.load(type, graphModel));
+            }
         }
         response.close();
         return objects;
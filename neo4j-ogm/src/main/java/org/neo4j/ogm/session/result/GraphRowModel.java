@@ -0,0 +1,38 @@
+package org.neo4j.ogm.session.result;
+
+import org.neo4j.ogm.model.GraphModel;
+
+/**
+ * A record of a response read both as a graph and as a row.
+ */
+public class GraphRowModel {
+
+    private GraphModel graph;
+    private Object[] row;
+
+    public GraphRowModel() {
+    }
+
+    public GraphRowModel(GraphModel graph, Object[] row) {
+        this.graph = graph;
+        this.row = row;
+    }
+
+    public GraphModel getGraph() {
+        return graph;
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    public void setGraph(GraphModel graph) {
+        this.graph = graph;
+    }
+
+    public Object[] getRow() {
+        return row;
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    public void setRow(Object[] row) {
+        this.row = row;
+    }
+}
@@ -0,0 +1,69 @@
+package org.neo4j.ogm.session.transaction;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Manages the transactions of sessions that use an embedded {@link GraphDatabaseService}, together with an
+ * {@link org.neo4j.ogm.session.request.EmbeddedRequest}.
+ *
+ * Each transaction begun by the user is a transaction of the embedded database, which, like the session's current
+ * transaction, belongs to the thread that began it. Statements executed by that thread take part in it until it is
+ * committed or rolled back. Transactions are identified by endpoints of their own, which name no server.
+ */
+public class EmbeddedTransactionManager extends TransactionManager {
+
+    public static final String SERVER = "embedded:/";
+
+    private final Logger logger = LoggerFactory.getLogger(EmbeddedTransactionManager.class);
+
+    private final GraphDatabaseService database;
+    private final AtomicLong transactionIds = new AtomicLong();
+    private final Map<String, org.neo4j.graphdb.Transaction> transactions = new ConcurrentHashMap<>();
+
+    public EmbeddedTransactionManager(GraphDatabaseService database) {
+        super(null, SERVER);
+        this.database = database;
+    }
+
+    @Override
+    public boolean isThreadBound() {
+        return true;
+    }
+
+    @Override
+    protected String newTransactionEndpointUrl() {
+        String transactionEndpoint = transactionEndpoint() + "/" + transactionIds.incrementAndGet();
+        transactions.put(transactionEndpoint, database.beginTx());
+        return transactionEndpoint;
+    }
+
+    @Override
+    protected void commitTransaction(String transactionEndpoint) {
+        logger.debug("committing embedded transaction {}", transactionEndpoint);
+        try (org.neo4j.graphdb.Transaction tx = transaction(transactionEndpoint)) {
+            tx.success();
+        }
+    }
+
+    @Override
+    protected void rollbackTransaction(String transactionEndpoint) {
+        logger.debug("rolling back embedded transaction {}", transactionEndpoint);
+        try (org.neo4j.graphdb.Transaction tx = transaction(transactionEndpoint)) {
+            tx.failure();
+        }
+    }
+
+    private org.neo4j.graphdb.Transaction transaction(String transactionEndpoint) {
+        org.neo4j.graphdb.Transaction tx = transactions.remove(transactionEndpoint);
+        if (tx == null) {
+            throw new TransactionException("No embedded transaction is open at " + transactionEndpoint);
+        }
+        return tx;
+    }
+}
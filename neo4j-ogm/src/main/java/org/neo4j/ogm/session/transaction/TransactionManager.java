@@ -32,27 +32,95 @@ public class TransactionManager {
     }
 
     public Transaction openTransaction(MappingContext mappingContext) {
+        transaction.set(newTransaction(mappingContext));
+        return transaction.get();
+    }
+
+    /**
+     * Begins a transaction without making it the current transaction of the calling thread, so that it can be handed
+     * explicitly to operations running on any thread, as an {@link org.neo4j.ogm.session.AsyncSession} does.
+     *
+     * @param mappingContext the context to synchronise with the changes made in the transaction once it is committed
+     * @return the new transaction
+     */
+    public Transaction newTransaction(MappingContext mappingContext) {
         String transactionEndpoint = newTransactionEndpointUrl();
         logger.info("Creating new transaction with endpoint " + transactionEndpoint);
-        transaction.set(new LongTransaction(mappingContext, transactionEndpoint, this));
-        return transaction.get();
+        return new LongTransaction(mappingContext, transactionEndpoint, this);
+    }
+
+    /**
+     * @return true if a transaction begun by this manager can only be used by the thread that began it, so that the
+     * statements of the transaction must all be executed by that thread
+     */
+    public boolean isThreadBound() {
+        return false;
     }
 
     public void rollback(Transaction tx) {
-        String url = tx.url();
-        logger.info("DELETE " + url);
-        HttpDelete request = new HttpDelete(url);
-        executeRequest(request);
-        transaction.remove();
+        rollbackTransaction(tx.url());
+        release(tx);
     }
 
     public void commit(Transaction tx) {
-        String url = tx.url() + "/commit";
+        commitTransaction(tx.url());
+        release(tx);
+    }
+
+    // a transaction may be ended by a thread whose current transaction is another one
+    private void release(Transaction tx) {
+        if (transaction.get() == tx) {
+            transaction.remove();
+        }
+    }
+
+    /**
+     * @return the endpoint to which statements that are not part of a transaction begun by the user are sent, so that
+     * they are committed as soon as they are executed
+     */
+    public String autoCommitUrl() {
+        return url == null ? null : url + "/commit";
+    }
+
+    /**
+     * @return the endpoint at which new transactions are created
+     */
+    protected String transactionEndpoint() {
+        return url;
+    }
+
+    /**
+     * Begins a new transaction in the database.
+     *
+     * @return the endpoint of the new transaction
+     */
+    protected String newTransactionEndpointUrl() {
         logger.info("POST " + url);
         HttpPost request = new HttpPost(url);
         request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE,"application/json;charset=UTF-8"));
+        HttpResponse response = executeRequest(request);
+        Header location = response.getHeaders("Location")[0];
+        return location.getValue();
+    }
+
+    /**
+     * Commits the transaction with the given endpoint in the database.
+     */
+    protected void commitTransaction(String transactionEndpoint) {
+        String url = transactionEndpoint + "/commit";
+        logger.info("POST " + url);
+        HttpPost request = new HttpPost(url);
+        request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE,"application/json;charset=UTF-8"));
+        executeRequest(request);
+    }
+
+    /**
+     * Rolls back the transaction with the given endpoint in the database.
+     */
+    protected void rollbackTransaction(String transactionEndpoint) {
+        logger.info("DELETE " + transactionEndpoint);
+        HttpDelete request = new HttpDelete(transactionEndpoint);
         executeRequest(request);
-        transaction.remove();
     }
 
     public Transaction getCurrentTransaction() {
@@ -69,6 +137,7 @@ public class TransactionManager {
 
             logger.info("Status code: " + statusLine.getStatusCode());
             if (statusLine.getStatusCode() >= 300) {
+                EntityUtils.consumeQuietly(response.getEntity()); // releases the connection
                 throw new HttpResponseException(
                         statusLine.getStatusCode(),
                         statusLine.getReasonPhrase());
@@ -96,15 +165,6 @@ public class TransactionManager {
         }
     }
 
-    private String newTransactionEndpointUrl() {
-        logger.info("POST " + url);
-        HttpPost request = new HttpPost(url);
-        request.setHeader(new BasicHeader(HTTP.CONTENT_TYPE,"application/json;charset=UTF-8"));
-        HttpResponse response = executeRequest(request);
-        Header location = response.getHeaders("Location")[0];
-        return location.getValue();
-    }
-
     private String transactionRequestEndpoint(String server) {
         if (server == null) {
             return server;
@@ -1,5 +1,6 @@
 package org.neo4j.ogm;
 
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
 import org.neo4j.ogm.session.request.Neo4jRequest;
 import org.neo4j.ogm.session.response.Neo4jResponse;
 
@@ -7,7 +8,7 @@ public abstract class RequestProxy implements Neo4jRequest<String> {
 
     protected abstract String[] getResponse();
 
-    public Neo4jResponse<String> execute(String url, String request) {
+    public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
         return new Response(getResponse());
     }
 
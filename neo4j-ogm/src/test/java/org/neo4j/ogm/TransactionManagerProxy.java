@@ -0,0 +1,31 @@
+package org.neo4j.ogm;
+
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+/**
+ * A {@link TransactionManager} that numbers the transactions it begins, without asking a server for their endpoints, and
+ * commits and rolls them back without a server either.
+ */
+public class TransactionManagerProxy extends TransactionManager {
+
+    private int transactions;
+
+    public TransactionManagerProxy() {
+        super(null, "http://localhost:7474");
+    }
+
+    @Override
+    protected synchronized String newTransactionEndpointUrl() {
+        return transactionEndpoint() + "/" + ++transactions;
+    }
+
+    @Override
+    protected void commitTransaction(String transactionEndpoint) {
+        // nothing to do
+    }
+
+    @Override
+    protected void rollbackTransaction(String transactionEndpoint) {
+        // nothing to do
+    }
+}
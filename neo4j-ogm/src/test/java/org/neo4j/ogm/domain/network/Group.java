@@ -0,0 +1,41 @@
+package org.neo4j.ogm.domain.network;
+
+import org.neo4j.ogm.annotation.Relationship;
+
+import java.util.List;
+
+/**
+ * Group of a network, which only knows its members through their relationships to it.
+ */
+public class Group {
+
+    private Long id;
+    private String name;
+
+    @Relationship(type = "MEMBER_OF", direction = "INCOMING")
+    private List<Member> members;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<Member> members) {
+        this.members = members;
+    }
+}
@@ -0,0 +1,41 @@
+package org.neo4j.ogm.domain.network;
+
+import org.neo4j.ogm.annotation.Fetch;
+
+import java.util.List;
+
+/**
+ * Member of a network whose friends, and their friends, are fetched with it.
+ */
+public class Member {
+
+    private Long id;
+    private String name;
+
+    @Fetch(depth = 2)
+    private List<Member> friends;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Member> getFriends() {
+        return friends;
+    }
+
+    public void setFriends(List<Member> friends) {
+        this.friends = friends;
+    }
+}
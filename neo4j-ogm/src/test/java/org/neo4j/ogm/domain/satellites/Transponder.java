@@ -0,0 +1,21 @@
+package org.neo4j.ogm.domain.satellites;
+
+import org.neo4j.ogm.annotation.Property;
+
+/**
+ * This object is written via its annotated getter, under a different property name than its field's
+ */
+public class Transponder extends DomainObject {
+
+    private String callSign;
+
+    @Property(name="callsign")
+    public String getCallSign() {
+        return callSign;
+    }
+
+    @Property(name="callsign")
+    public void setCallSign(String callSign) {
+        this.callSign = callSign;
+    }
+}
@@ -0,0 +1,119 @@
+package org.neo4j.ogm.integration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.AsyncSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.EmbeddedRequest;
+import org.neo4j.ogm.session.transaction.EmbeddedTransactionManager;
+import org.neo4j.ogm.session.transaction.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs a session against an embedded database in the same JVM, without a server.
+ */
+public class EmbeddedSessionIntegrationTest {
+
+    private GraphDatabaseService database;
+    private Session session;
+
+    @Before
+    public void setUp() {
+        database = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        session = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated")
+                .openSession(new EmbeddedRequest(database), new EmbeddedTransactionManager(database));
+        session.execute(IntegrationTest.load("org/neo4j/ogm/cql/cineasts.cql"));
+    }
+
+    @After
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    public void shouldLoadEntitiesAndRelationshipEntities() {
+        Collection<Movie> movies = session.loadAll(Movie.class);
+        assertEquals(3, movies.size());
+
+        Collection<User> critics = session.loadByProperty(User.class, new Property<String, Object>("name", "Michal"));
+        assertEquals(1, critics.size());
+
+        User critic = critics.iterator().next();
+        assertEquals(2, critic.getRatings().size());
+        for (Rating rating : critic.getRatings()) {
+            assertSame(critic, rating.getUser());
+            assertNotNull(rating.getMovie());
+        }
+    }
+
+    @Test
+    public void shouldSaveAndReloadEntity() {
+        Movie movie = new Movie();
+        movie.setTitle("Pulp Fiction");
+        movie.setYear(1994);
+        session.save(movie);
+        assertNotNull(movie.getId());
+
+        Session other = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated")
+                .openSession(new EmbeddedRequest(database), new EmbeddedTransactionManager(database));
+        Movie loaded = other.load(Movie.class, movie.getId());
+        assertEquals("Pulp Fiction", loaded.getTitle());
+        assertEquals(1994, loaded.getYear());
+    }
+
+    @Test
+    public void shouldCommitTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            Movie movie = new Movie();
+            movie.setTitle("Fargo");
+            session.save(movie);
+            tx.commit();
+        }
+        assertEquals(1, session.loadByProperty(Movie.class, new Property<String, Object>("title", "Fargo")).size());
+    }
+
+    @Test
+    public void shouldRollbackTransaction() {
+        try (Transaction tx = session.beginTransaction()) {
+            Movie movie = new Movie();
+            movie.setTitle("Fargo");
+            session.save(movie);
+            tx.rollback();
+        }
+        assertEquals(3, session.loadAll(Movie.class).size());
+    }
+
+    @Test
+    public void shouldRollbackAsyncTransaction() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AsyncSession async = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated")
+                    .openAsyncSession(new EmbeddedRequest(database), new EmbeddedTransactionManager(database), executor);
+
+            Transaction tx = async.beginTransactionAsync().get();
+            Movie movie = new Movie();
+            movie.setTitle("Fargo");
+            async.saveAsync(movie, -1, tx).get();
+            assertEquals(4, async.loadAllAsync(Movie.class, 1, tx).get().size());
+            async.rollbackAsync(tx).get();
+
+            assertEquals(Transaction.Status.ROLLEDBACK, tx.status());
+            assertEquals(3, async.loadAllAsync(Movie.class, 1, null).get().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.neo4j.ogm.integration;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.session.SessionFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pages through objects on a server, where several of them are equal in the order they are sorted by.
+ */
+public class PaginationIntegrationTest extends IntegrationTest {
+
+    private static final int BIKES = 10;
+    private static final int PAGE_SIZE = 4;
+
+    private final Set<Long> ids = new HashSet<>();
+
+    @Before
+    public void init() {
+        session = new SessionFactory("org.neo4j.ogm.domain.bike").openSession("http://localhost:" + neoPort);
+        session.purge();
+
+        List<Bike> bikes = new ArrayList<>();
+        for (int i = 0; i < BIKES; i++) {
+            Bike bike = new Bike();
+            // only three brands, so that most bikes share their brand with others
+            bike.setBrand("Brand " + i % 3);
+            bikes.add(bike);
+        }
+        session.save(bikes);
+        for (Bike bike : bikes) {
+            ids.add(bike.getId());
+        }
+    }
+
+    @Test
+    public void shouldReturnEachObjectOnOneUnsortedPage() {
+        List<Bike> bikes = pages(new SortOrder());
+
+        assertEquals(BIKES, bikes.size());
+        assertEquals(ids, ids(bikes));
+    }
+
+    @Test
+    public void shouldReturnEachObjectOnOneSortedPage() {
+        List<Bike> bikes = pages(new SortOrder().add("brand"));
+
+        assertEquals(BIKES, bikes.size());
+        assertEquals(ids, ids(bikes));
+        for (int i = 1; i < bikes.size(); i++) {
+            assertTrue(bikes.get(i - 1).getBrand().compareTo(bikes.get(i).getBrand()) <= 0);
+        }
+    }
+
+    @Test
+    public void shouldReturnTheSamePageEveryTime() {
+        SortOrder sortOrder = new SortOrder().add(SortOrder.Direction.DESC, "brand");
+
+        List<Long> page = new ArrayList<>();
+        for (Bike bike : session.loadAll(Bike.class, new Pagination(1, PAGE_SIZE), sortOrder, 0)) {
+            page.add(bike.getId());
+        }
+        for (int i = 0; i < 5; i++) {
+            List<Long> again = new ArrayList<>();
+            for (Bike bike : session.loadAll(Bike.class, new Pagination(1, PAGE_SIZE), sortOrder, 0)) {
+                again.add(bike.getId());
+            }
+            assertEquals(page, again);
+        }
+    }
+
+    // every page in turn, until one comes back empty
+    private List<Bike> pages(SortOrder sortOrder) {
+        List<Bike> bikes = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            List<Bike> onPage = new ArrayList<>(session.loadAll(Bike.class, new Pagination(page, PAGE_SIZE), sortOrder, 0));
+            if (onPage.isEmpty()) {
+                return bikes;
+            }
+            assertTrue(onPage.size() <= PAGE_SIZE);
+            bikes.addAll(onPage);
+        }
+    }
+
+    private static Set<Long> ids(List<Bike> bikes) {
+        Set<Long> ids = new HashSet<>();
+        for (Bike bike : bikes) {
+            ids.add(bike.getId());
+        }
+        return ids;
+    }
+}
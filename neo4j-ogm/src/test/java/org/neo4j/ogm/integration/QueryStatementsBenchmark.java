@@ -0,0 +1,115 @@
+package org.neo4j.ogm.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.GraphModelQuery;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.NodeModel;
+import org.neo4j.ogm.model.RelationshipModel;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.JsonStatementsEntity;
+import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.session.request.strategy.SubgraphQuery;
+import org.neo4j.ogm.session.request.strategy.VariableDepthQuery;
+import org.neo4j.ogm.session.response.GraphModelResponse;
+import org.neo4j.ogm.session.response.JsonResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Compares the size of the responses to loads of a single node at depths 1 to 3 in a dense synthetic graph, when
+ * the queries return every path from it, as {@link VariableDepthQuery} does, and when they return the distinct nodes
+ * and relationships within the depth, as {@link SubgraphQuery} does.
+ *
+ * Each node is related to a fixed number of random others, so the number of paths grows much faster with the depth
+ * than the number of nodes and relationships they lie on. The responses are read uncompressed.
+ */
+public class QueryStatementsBenchmark extends IntegrationTest {
+
+    private static final int NODES = 500;
+    private static final int FRIENDS_PER_NODE = 8;
+    private static final int MAX_DEPTH = 3;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Ignore // benchmark, run manually
+    @Test
+    public void measureBytesTransferred() throws Exception {
+
+        String url = "http://localhost:" + neoPort;
+        Session session = new SessionFactory("org.neo4j.ogm.domain.social").openSession(url);
+        session.execute(
+                "UNWIND range(1, { nodes }) AS i CREATE (:Individual { name: 'Individual ' + i, age: i % 100 })",
+                Utils.map("nodes", NODES));
+        session.execute(
+                "MATCH (a:Individual), (b:Individual) WHERE a <> b AND rand() < { p } CREATE (a)-[:FRIENDS]->(b)",
+                Utils.map("p", (double) FRIENDS_PER_NODE / NODES));
+
+        Long root = root(url);
+        QueryStatements[] strategies = { new VariableDepthQuery(), new SubgraphQuery() };
+
+        try (CloseableHttpClient httpClient = HttpClients.custom().disableContentCompression().build()) {
+            for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+                for (QueryStatements strategy : strategies) {
+                    long start = System.nanoTime();
+                    byte[] body = post(httpClient, url, strategy.findOne(root, depth));
+                    long millis = (System.nanoTime() - start) / 1000000;
+
+                    Set<Long> nodes = new HashSet<>();
+                    Set<Long> relationships = new HashSet<>();
+                    count(body, nodes, relationships);
+
+                    System.out.printf("depth %d %-20s %,12d bytes %,8d nodes %,8d relationships %,8d ms%n",
+                            depth, strategy.getClass().getSimpleName(), body.length, nodes.size(), relationships.size(), millis);
+                }
+            }
+        }
+    }
+
+    private static Long root(String url) {
+        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
+            byte[] body = post(httpClient, url, new GraphModelQuery("MATCH (n:Individual) RETURN n LIMIT 1", Utils.map()));
+            Set<Long> nodes = new HashSet<>();
+            count(body, nodes, new HashSet<Long>());
+            return nodes.iterator().next();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static byte[] post(CloseableHttpClient httpClient, String url, ParameterisedStatement statement) throws Exception {
+        HttpPost request = new HttpPost(url + "/db/data/transaction/commit");
+        request.setHeader("Accept", "application/json;charset=UTF-8");
+        request.setEntity(new JsonStatementsEntity(new ParameterisedStatements(Collections.singletonList(statement)), mapper));
+        try (CloseableHttpResponse response = httpClient.execute(request)) {
+            return EntityUtils.toByteArray(response.getEntity());
+        }
+    }
+
+    private static void count(byte[] body, Set<Long> nodes, Set<Long> relationships) {
+        try (GraphModelResponse response = new GraphModelResponse(new JsonResponse(new ByteArrayInputStream(body)), mapper)) {
+            GraphModel graphModel;
+            while ((graphModel = response.next()) != null) {
+                for (NodeModel node : graphModel.getNodes()) {
+                    nodes.add(node.getId());
+                }
+                for (RelationshipModel relationship : graphModel.getRelationships()) {
+                    relationships.add(relationship.getId());
+                }
+            }
+        }
+    }
+}
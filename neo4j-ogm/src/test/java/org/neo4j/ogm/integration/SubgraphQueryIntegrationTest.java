@@ -0,0 +1,104 @@
+package org.neo4j.ogm.integration;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.cineasts.annotated.Rating;
+import org.neo4j.ogm.domain.cineasts.annotated.User;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.EmbeddedRequest;
+import org.neo4j.ogm.session.request.strategy.SubgraphQuery;
+import org.neo4j.ogm.session.transaction.EmbeddedTransactionManager;
+import org.neo4j.test.TestGraphDatabaseFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the queries of a {@link SubgraphQuery} against an embedded database, and checks that they load the same objects
+ * as the paths returned by default.
+ */
+public class SubgraphQueryIntegrationTest {
+
+    private GraphDatabaseService database;
+
+    @Before
+    public void setUp() {
+        database = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        openSession(false).execute(IntegrationTest.load("org/neo4j/ogm/cql/cineasts.cql"));
+        // vince's ratings close cycles through the movies michal has rated too
+        openSession(false).execute("MATCH (v:User {name:'Vince'}), (m:Movie) WHERE m.title <> 'Top Gear' CREATE (v)-[:RATED {stars:2}]->(m)");
+    }
+
+    @After
+    public void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    public void shouldLoadTheSameObjectsAsPathsAtEveryDepth() {
+        for (int depth = 1; depth <= 4; depth++) {
+            assertEquals("depth " + depth, ratings(openSession(false).loadAll(User.class, depth)), ratings(openSession(true).loadAll(User.class, depth)));
+        }
+    }
+
+    @Test
+    public void shouldLoadEachObjectOnceAcrossCycles() {
+        Collection<User> users = openSession(true).loadByProperty(User.class, new Property<String, Object>("name", "Michal"), 4);
+        assertEquals(1, users.size());
+
+        User michal = users.iterator().next();
+        assertEquals(2, michal.getRatings().size());
+        for (Rating rating : michal.getRatings()) {
+            assertSame(michal, rating.getUser());
+            for (Rating other : rating.getMovie().getRatings()) {
+                assertSame(rating.getMovie(), other.getMovie());
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadNothingForMissingRoots() {
+        assertNull(openSession(true).load(Movie.class, Long.MAX_VALUE, 2));
+        assertTrue(openSession(true).loadByProperty(User.class, new Property<String, Object>("name", "Nobody"), 2).isEmpty());
+    }
+
+    private Session openSession(boolean subgraphs) {
+        SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.cineasts.annotated");
+        if (subgraphs) {
+            sessionFactory.setQueryStatements(new SubgraphQuery());
+        }
+        return sessionFactory.openSession(new EmbeddedRequest(database), new EmbeddedTransactionManager(database));
+    }
+
+    // the ratings of each user, and those of each movie, as far as they have been loaded
+    private static Map<String, Set<String>> ratings(Collection<User> users) {
+        Map<String, Set<String>> ratings = new HashMap<>();
+        for (User user : users) {
+            Set<String> userRatings = new HashSet<>();
+            if (user.getRatings() != null) {
+                for (Rating rating : user.getRatings()) {
+                    userRatings.add(rating.getMovie().getTitle() + ":" + rating.getStars());
+                    Set<String> movieRatings = new HashSet<>();
+                    if (rating.getMovie().getRatings() != null) {
+                        for (Rating movieRating : rating.getMovie().getRatings()) {
+                            movieRatings.add(movieRating.getUser().getName() + ":" + movieRating.getStars());
+                        }
+                    }
+                    ratings.put(rating.getMovie().getTitle(), movieRatings);
+                }
+            }
+            ratings.put(user.getName(), userRatings);
+        }
+        return ratings;
+    }
+}
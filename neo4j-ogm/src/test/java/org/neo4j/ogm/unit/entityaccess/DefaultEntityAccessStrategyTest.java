@@ -22,7 +22,7 @@ import static org.junit.Assert.*;
 
 public class DefaultEntityAccessStrategyTest {
 
-    private DefaultEntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
+    protected DefaultEntityAccessStrategy entityAccessStrategy = new DefaultEntityAccessStrategy();
     private DomainInfo domainInfo = new DomainInfo("org.neo4j.ogm.unit.entityaccess",
             "org.neo4j.ogm.domain.forum", "org.neo4j.ogm.domain.satellites");
 
@@ -322,7 +322,7 @@ public class DefaultEntityAccessStrategyTest {
         for (RelationalReader objectAccess : relationalAccessors) {
             String relType = objectAccess.relationshipType();
             assertTrue("Relationship type " + relType + " wasn't expected", expectedRelationalReaders.containsKey(relType));
-            assertEquals(expectedRelationalReaders.get(relType), objectAccess.getClass());
+            assertTrue("Unexpected accessor for " + relType + ": " + objectAccess.getClass(), expectedRelationalReaders.get(relType).isInstance(objectAccess));
             assertNotNull(objectAccess.read(domainObject));
         }
     }
@@ -346,6 +346,35 @@ public class DefaultEntityAccessStrategyTest {
         assertNull(this.entityAccessStrategy.getEndNodeReader(classInfoOfNonRelationshipEntity));
     }
 
+    @Test
+    public void shouldResolveEachAccessorOnlyOnce() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        assertSame(this.entityAccessStrategy.getPropertyWriter(classInfo, "testProp"),
+                this.entityAccessStrategy.getPropertyWriter(classInfo, "testProp"));
+        assertSame(this.entityAccessStrategy.getRelationalReaders(classInfo),
+                this.entityAccessStrategy.getRelationalReaders(classInfo));
+        assertNull(this.entityAccessStrategy.getPropertyWriter(classInfo, "noSuchProperty"));
+        assertNull(this.entityAccessStrategy.getPropertyWriter(classInfo, "noSuchProperty"));
+    }
+
+    @Test
+    public void shouldResolveRelationalWritersForEachParameterTypeSeparately() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        EntityAccess memberWriter = this.entityAccessStrategy.getRelationalWriter(classInfo, "CONTAINS", new Member());
+        EntityAccess topicWriter = this.entityAccessStrategy.getRelationalWriter(classInfo, "CONTAINS", new Topic());
+
+        assertSame(memberWriter, this.entityAccessStrategy.getRelationalWriter(classInfo, "CONTAINS", new Member()));
+        assertNotSame(memberWriter, topicWriter);
+
+        DummyDomainObject domainObject = new DummyDomainObject();
+        Topic topic = new Topic();
+        topicWriter.write(domainObject, topic);
+        assertSame(topic, domainObject.favouriteTopic);
+        assertNull(domainObject.member);
+    }
+
     /**
      * Domain object exhibiting various annotation configurations on its properties for test purposes.
      */
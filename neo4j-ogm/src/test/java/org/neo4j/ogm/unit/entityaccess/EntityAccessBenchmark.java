@@ -0,0 +1,149 @@
+package org.neo4j.ogm.unit.entityaccess;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.MethodHandleEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.PropertyReader;
+import org.neo4j.ogm.entityaccess.PropertyWriter;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+
+/**
+ * Compares the reflective {@link DefaultEntityAccessStrategy} with the {@link MethodHandleEntityAccessStrategy} on the
+ * two workloads that access entities most: hydrating loaded objects, the way the GraphObjectMapper writes each property
+ * of each node, and reading every property of the objects being saved, the way their nodes are built and compared.
+ * Each workload is measured both resolving the accessors for every object, as the mappers do, and with accessors
+ * resolved once, which shows the cost of the access itself.
+ *
+ * Timings depend on the JVM and the machine, so this is run by hand rather than as part of the build.
+ */
+public class EntityAccessBenchmark {
+
+    private static final int OBJECTS = 100000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.social");
+    private static final ClassInfo classInfo = metaData.classInfo(Individual.class.getName());
+
+    private static long sink;
+
+    @Ignore // benchmark, run manually
+    @Test
+    public void compareStrategies() {
+
+        Individual[] individuals = new Individual[OBJECTS];
+        for (int i = 0; i < OBJECTS; i++) {
+            individuals[i] = new Individual();
+        }
+
+        for (EntityAccessStrategy strategy : new EntityAccessStrategy[] { new DefaultEntityAccessStrategy(), new MethodHandleEntityAccessStrategy() }) {
+            String name = strategy.getClass().getSimpleName();
+            report(name, "hydrate", measure(new Hydrate(strategy, individuals)));
+            report(name, "dirty check", measure(new DirtyCheck(strategy, individuals)));
+            report(name, "hydrate (resolved once)", measure(new ResolvedHydrate(strategy, individuals)));
+            report(name, "dirty check (resolved once)", measure(new ResolvedDirtyCheck(strategy, individuals)));
+        }
+        System.out.println(sink == 42 ? "" : " "); // keeps the results of the reads alive
+    }
+
+    private static double measure(Runnable workload) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            workload.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            workload.run();
+        }
+        return (double) (System.nanoTime() - start) / MEASURED_ROUNDS / OBJECTS;
+    }
+
+    private static void report(String strategy, String workload, double nanosPerObject) {
+        System.out.printf("%-35s %-28s %10.1f ns per object%n", strategy, workload, nanosPerObject);
+    }
+
+    private static class Hydrate implements Runnable {
+
+        private final EntityAccessStrategy strategy;
+        private final Individual[] individuals;
+
+        Hydrate(EntityAccessStrategy strategy, Individual[] individuals) {
+            this.strategy = strategy;
+            this.individuals = individuals;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < individuals.length; i++) {
+                strategy.getPropertyWriter(classInfo, "name").write(individuals[i], "Individual");
+                strategy.getPropertyWriter(classInfo, "age").write(individuals[i], i);
+            }
+        }
+    }
+
+    private static class DirtyCheck implements Runnable {
+
+        private final EntityAccessStrategy strategy;
+        private final Individual[] individuals;
+
+        DirtyCheck(EntityAccessStrategy strategy, Individual[] individuals) {
+            this.strategy = strategy;
+            this.individuals = individuals;
+        }
+
+        @Override
+        public void run() {
+            for (Individual individual : individuals) {
+                for (PropertyReader reader : strategy.getPropertyReaders(classInfo)) {
+                    Object value = reader.read(individual);
+                    sink += value == null ? 0 : value.hashCode();
+                }
+            }
+        }
+    }
+
+    private static class ResolvedHydrate implements Runnable {
+
+        private final PropertyWriter nameWriter;
+        private final PropertyWriter ageWriter;
+        private final Individual[] individuals;
+
+        ResolvedHydrate(EntityAccessStrategy strategy, Individual[] individuals) {
+            this.nameWriter = strategy.getPropertyWriter(classInfo, "name");
+            this.ageWriter = strategy.getPropertyWriter(classInfo, "age");
+            this.individuals = individuals;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < individuals.length; i++) {
+                nameWriter.write(individuals[i], "Individual");
+                ageWriter.write(individuals[i], i);
+            }
+        }
+    }
+
+    private static class ResolvedDirtyCheck implements Runnable {
+
+        private final PropertyReader[] readers;
+        private final Individual[] individuals;
+
+        ResolvedDirtyCheck(EntityAccessStrategy strategy, Individual[] individuals) {
+            this.readers = strategy.getPropertyReaders(classInfo).toArray(new PropertyReader[0]);
+            this.individuals = individuals;
+        }
+
+        @Override
+        public void run() {
+            for (Individual individual : individuals) {
+                for (PropertyReader reader : readers) {
+                    Object value = reader.read(individual);
+                    sink += value == null ? 0 : value.hashCode();
+                }
+            }
+        }
+    }
+}
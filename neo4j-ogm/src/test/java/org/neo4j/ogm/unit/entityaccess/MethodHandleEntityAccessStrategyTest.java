@@ -0,0 +1,51 @@
+package org.neo4j.ogm.unit.entityaccess;
+
+import org.junit.Test;
+import org.neo4j.ogm.entityaccess.EntityAccess;
+import org.neo4j.ogm.entityaccess.EntityAccessException;
+import org.neo4j.ogm.entityaccess.MethodHandleEntityAccessStrategy;
+import org.neo4j.ogm.metadata.info.ClassInfo;
+import org.neo4j.ogm.metadata.info.DomainInfo;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the tests of {@link DefaultEntityAccessStrategyTest} against the {@link MethodHandleEntityAccessStrategy}, which
+ * must choose the same members and access them with the same results.
+ */
+public class MethodHandleEntityAccessStrategyTest extends DefaultEntityAccessStrategyTest {
+
+    private final DomainInfo domainInfo = new DomainInfo("org.neo4j.ogm.unit.entityaccess");
+
+    public MethodHandleEntityAccessStrategyTest() {
+        this.entityAccessStrategy = new MethodHandleEntityAccessStrategy();
+    }
+
+    @Test
+    public void shouldCreateEachAccessorOnce() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        assertSame(this.entityAccessStrategy.getPropertyWriter(classInfo, "nonAnnotatedTestProperty"),
+                this.entityAccessStrategy.getPropertyWriter(classInfo, "nonAnnotatedTestProperty"));
+        assertSame(this.entityAccessStrategy.getIdentityPropertyReader(classInfo),
+                this.entityAccessStrategy.getIdentityPropertyReader(classInfo));
+    }
+
+    @Test
+    public void shouldWidenPrimitiveValuesWrittenToFields() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        DummyDomainObject domainObject = new DummyDomainObject();
+        this.entityAccessStrategy.getPropertyWriter(classInfo, "propertyWithoutAccessorMethods").write(domainObject, (short) 12);
+
+        assertEquals(12, domainObject.propertyWithoutAccessorMethods);
+    }
+
+    @Test(expected = EntityAccessException.class)
+    public void shouldRejectValuesOfTheWrongTypePassedToSetters() {
+        ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
+
+        EntityAccess writer = this.entityAccessStrategy.getPropertyWriter(classInfo, "nonAnnotatedTestProperty");
+        writer.write(new DummyDomainObject(), "not a number");
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.canonical.ArbitraryRelationshipEntity;
+import org.neo4j.ogm.domain.canonical.ClassWithPrivateConstructor;
 import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.entityaccess.ObjectFactory;
 import org.neo4j.ogm.metadata.MappingException;
@@ -50,12 +51,13 @@ public class ObjectFactoryTest {
         this.objectCreator.newObject(edge);
     }
 
-    @Test(expected = MappingException.class)
-    public void shouldFailIfZeroArgConstructorIsNotVisible() {
+    @Test
+    public void shouldConstructObjectUsingZeroArgConstructorThatIsNotVisible() {
         NodeModel vertex = new NodeModel();
         vertex.setId(163L);
         vertex.setLabels(new String[] {"ClassWithPrivateConstructor"});
-        this.objectCreator.newObject(vertex);
+        ClassWithPrivateConstructor instance = this.objectCreator.newObject(vertex);
+        assertNotNull(instance);
     }
 
     @Test(expected = MappingException.class)
@@ -0,0 +1,278 @@
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.mapper.EvictionPolicy;
+import org.neo4j.ogm.mapper.IdentityMapStatistics;
+import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.NodeModel;
+import org.neo4j.ogm.model.RelationshipModel;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.response.SessionResponseHandler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class EvictionPolicyTest {
+
+    private static MetaData metaData;
+
+    @BeforeClass
+    public static void setUp() {
+        metaData = new MetaData("org.neo4j.ogm.domain.education");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyLeastRecentlyUsedPolicy() {
+        EvictionPolicy.leastRecentlyUsed(0);
+    }
+
+    @Test
+    public void shouldKeepEverythingByDefault() {
+        MappingContext mappingContext = new MappingContext(metaData);
+
+        for (long id = 0; id < 1000; id++) {
+            mappingContext.registerNode(student(id), id);
+        }
+
+        assertEquals(1000, mappingContext.getAll(Student.class).size());
+        assertEquals(0, mappingContext.statistics().getEvictions());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedNodes() {
+        MappingContext mappingContext = new MappingContext(metaData, EvictionPolicy.leastRecentlyUsed(2));
+
+        Student gary = student(1L);
+        Student sheila = student(2L);
+        mappingContext.registerNode(gary, 1L);
+        mappingContext.registerNode(sheila, 2L);
+        mappingContext.remember(gary);
+
+        mappingContext.get(1L); // gary is now more recently used than sheila
+        mappingContext.registerNode(student(3L), 3L);
+
+        assertSame(gary, mappingContext.get(1L));
+        assertNull(mappingContext.get(2L));
+        assertFalse(mappingContext.getAll(Student.class).contains(sheila));
+        assertFalse(mappingContext.isDirty(gary));
+
+        mappingContext.registerNode(student(4L), 4L);
+        mappingContext.registerNode(student(5L), 5L);
+
+        // gary has gone too, so he can't be known to be clean any more
+        assertNull(mappingContext.get(1L));
+        assertTrue(mappingContext.isDirty(gary));
+
+        IdentityMapStatistics statistics = mappingContext.statistics();
+        assertEquals(3, statistics.getEvictions());
+        assertEquals(2, statistics.getHits());
+        assertEquals(2, statistics.getMisses());
+        assertEquals(2, statistics.getNodes());
+        assertEquals(2, mappingContext.getAll(Student.class).size());
+    }
+
+    @Test
+    public void shouldKeepUsageOrderOfLeastRecentlyUsedNodesAcrossRemovals() {
+        MappingContext mappingContext = new MappingContext(metaData, EvictionPolicy.leastRecentlyUsed(3));
+
+        Student gary = student(1L);
+        Student sheila = student(2L);
+        Student jim = student(3L);
+        mappingContext.registerNode(gary, 1L);
+        mappingContext.registerNode(sheila, 2L);
+        mappingContext.registerNode(jim, 3L);
+
+        mappingContext.get(1L);
+        mappingContext.deregister(sheila, 2L);
+        mappingContext.registerNode(student(4L), 4L);
+        assertEquals(0, mappingContext.statistics().getEvictions());
+
+        // jim is now the least recently used
+        mappingContext.registerNode(student(5L), 5L);
+        assertNull(mappingContext.get(3L));
+        assertSame(gary, mappingContext.get(1L));
+
+        mappingContext.clear();
+        mappingContext.registerNode(student(6L), 6L);
+        assertEquals(1, mappingContext.statistics().getNodes());
+    }
+
+    @Test
+    public void shouldForgetRelationshipsOnlyWhenBothNodesAreEvicted() {
+        MappingContext mappingContext = new MappingContext(metaData, EvictionPolicy.leastRecentlyUsed(2));
+
+        mappingContext.registerNode(student(1L), 1L);
+        mappingContext.registerNode(student(2L), 2L);
+        MappedRelationship relationship = new MappedRelationship(1L, "FRIEND", 2L);
+        mappingContext.remember(relationship);
+
+        mappingContext.registerNode(student(3L), 3L);
+        assertTrue(mappingContext.mappedRelationships().contains(relationship));
+
+        mappingContext.registerNode(student(4L), 4L);
+        assertFalse(mappingContext.mappedRelationships().contains(relationship));
+    }
+
+    @Test
+    public void shouldEvictUnreachableNodesUnderWeakReferencePolicy() throws InterruptedException {
+        MappingContext mappingContext = new MappingContext(metaData, EvictionPolicy.weakReferences());
+
+        Student reachable = student(0L);
+        mappingContext.registerNode(reachable, 0L);
+        mappingContext.remember(reachable);
+        mappingContext.remember(new MappedRelationship(0L, "FRIEND", 1L));
+
+        loadStudents(mappingContext, 1L, 1000L);
+        mappingContext.remember(new MappedRelationship(1L, "FRIEND", 2L));
+
+        for (int attempt = 0; attempt < 50 && mappingContext.statistics().getEvictions() < 1000; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(1000, mappingContext.statistics().getEvictions());
+        assertEquals(1, mappingContext.statistics().getNodes());
+        assertEquals(1, mappingContext.getAll(Student.class).size());
+
+        // the application still holds this student, so everything needed to save it correctly is kept
+        assertSame(reachable, mappingContext.get(0L));
+        assertFalse(mappingContext.isDirty(reachable));
+        assertTrue(mappingContext.mappedRelationships().contains(new MappedRelationship(0L, "FRIEND", 1L)));
+        assertFalse(mappingContext.mappedRelationships().contains(new MappedRelationship(1L, "FRIEND", 2L)));
+    }
+
+    @Test
+    public void shouldEvictUnreachableRelatedNodesUnderWeakReferencePolicy() throws InterruptedException {
+        MappingContext mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.social"), EvictionPolicy.weakReferences());
+
+        loadFriends(mappingContext, 1000);
+
+        for (int attempt = 0; attempt < 50 && mappingContext.statistics().getEvictions() < 1000; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // the snapshot of each individual refers to its friends, but mustn't keep them reachable
+        assertEquals(1000, mappingContext.statistics().getEvictions());
+        assertEquals(0, mappingContext.statistics().getNodes());
+    }
+
+    @Test
+    public void shouldDetectChangedRelationshipsOfNodesRememberedUnderWeakReferencePolicy() {
+        MappingContext mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.social"), EvictionPolicy.weakReferences());
+
+        Individual jeff = individual(1L);
+        Individual mary = individual(2L);
+        jeff.setFriends(new ArrayList<>(Collections.singletonList(mary)));
+        mappingContext.registerNode(jeff, 1L);
+        mappingContext.registerNode(mary, 2L);
+        mappingContext.remember(jeff);
+
+        assertFalse(mappingContext.relationshipsChanged(jeff));
+
+        jeff.getFriends().set(0, individual(3L));
+        assertTrue(mappingContext.relationshipsChanged(jeff));
+    }
+
+    @Test
+    public void shouldKeepObjectsLoadedUnderWeakReferencePolicyUntilTheResponseIsMapped() {
+        MappingContext mappingContext = new MappingContext(metaData, EvictionPolicy.weakReferences());
+
+        // the student is mapped from the first row, and the garbage is collected before each of the others is read
+        Student student = new SessionResponseHandler(metaData, mappingContext).loadById(Student.class, new CollectingResponse(20), 1L);
+
+        assertNotNull(student);
+        assertEquals("Student 1", student.getName());
+        assertSame(student, mappingContext.get(1L));
+    }
+
+    // the students are unreachable once this returns
+    private static void loadStudents(MappingContext mappingContext, long from, long to) {
+        for (long id = from; id <= to; id++) {
+            Student student = student(id);
+            mappingContext.registerNode(student, id);
+            mappingContext.remember(student);
+        }
+    }
+
+    // each individual is friends with the next, and the last with the first, and all are unreachable once this returns
+    private static void loadFriends(MappingContext mappingContext, int count) {
+        List<Individual> individuals = new ArrayList<>();
+        for (long id = 0; id < count; id++) {
+            individuals.add(individual(id));
+        }
+        for (int i = 0; i < count; i++) {
+            individuals.get(i).setFriends(Collections.singletonList(individuals.get((i + 1) % count)));
+        }
+        for (Individual individual : individuals) {
+            mappingContext.registerNode(individual, individual.getId());
+            mappingContext.remember(individual);
+        }
+    }
+
+    private static class CollectingResponse implements Neo4jResponse<GraphModel> {
+
+        private final int rows;
+        private int row;
+
+        CollectingResponse(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public GraphModel next() {
+            if (row == rows) {
+                return null;
+            }
+            System.gc();
+            NodeModel node = new NodeModel();
+            node.setId((long) ++row);
+            node.setLabels(new String[] { "Student" });
+            node.setProperties(Collections.<String, Object>singletonMap("name", "Student " + row));
+            GraphModel graphModel = new GraphModel();
+            graphModel.setNodes(new NodeModel[] { node });
+            graphModel.setRelationships(new RelationshipModel[0]);
+            return graphModel;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void initialiseScan(String token) {
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[] { "n" };
+        }
+
+        @Override
+        public int rowId() {
+            return row;
+        }
+    }
+
+    private static Individual individual(Long id) {
+        Individual individual = new Individual();
+        individual.setId(id);
+        individual.setName("Individual " + id);
+        return individual;
+    }
+
+    private static Student student(Long id) {
+        Student student = new Student("Student " + id);
+        student.setId(id);
+        return student;
+    }
+}
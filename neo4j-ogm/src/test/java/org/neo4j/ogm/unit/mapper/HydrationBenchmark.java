@@ -0,0 +1,72 @@
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.entityaccess.DefaultEntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.EntityAccessStrategy;
+import org.neo4j.ogm.entityaccess.MethodHandleEntityAccessStrategy;
+import org.neo4j.ogm.mapper.GraphObjectMapper;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.NodeModel;
+import org.neo4j.ogm.model.RelationshipModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures the cost per node of mapping a synthetic graph model of individuals into a new mapping context, the way a
+ * session hydrates the objects it loads, with each of the entity access strategies.
+ *
+ * Timings depend on the JVM and the machine, so this is run by hand rather than as part of the build.
+ */
+public class HydrationBenchmark {
+
+    private static final int NODES = 10000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int MEASURED_ROUNDS = 10;
+
+    private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.social");
+
+    @Ignore // benchmark, run manually
+    @Test
+    public void measureHydration() {
+
+        GraphModel graphModel = graphModel();
+
+        for (EntityAccessStrategy strategy : new EntityAccessStrategy[] { new DefaultEntityAccessStrategy(), new MethodHandleEntityAccessStrategy() }) {
+            for (int i = 0; i < WARMUP_ROUNDS; i++) {
+                hydrate(graphModel, strategy);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ROUNDS; i++) {
+                hydrate(graphModel, strategy);
+            }
+            double nanosPerNode = (double) (System.nanoTime() - start) / MEASURED_ROUNDS / NODES;
+            System.out.printf("%-35s %10.1f ns per node%n", strategy.getClass().getSimpleName(), nanosPerNode);
+        }
+    }
+
+    private static void hydrate(GraphModel graphModel, EntityAccessStrategy strategy) {
+        new GraphObjectMapper(metaData, new MappingContext(metaData), strategy).load(Individual.class, graphModel);
+    }
+
+    private static GraphModel graphModel() {
+        NodeModel[] nodes = new NodeModel[NODES];
+        for (int i = 0; i < NODES; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "Individual " + i);
+            properties.put("age", i % 100);
+            nodes[i] = new NodeModel();
+            nodes[i].setId((long) i);
+            nodes[i].setLabels(new String[] { "Individual" });
+            nodes[i].setProperties(properties);
+        }
+        GraphModel graphModel = new GraphModel();
+        graphModel.setNodes(nodes);
+        graphModel.setRelationships(new RelationshipModel[0]);
+        return graphModel;
+    }
+}
@@ -0,0 +1,77 @@
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.neo4j.ogm.mapper.LongObjectMap;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compares the heap retained by the identity map the MappingContext used to keep, a ConcurrentHashMap with boxed
+ * keys and a HashSet per type, against the primitive LongObjectMap and identity sets it keeps now, for a synthetic
+ * graph of a million nodes.
+ *
+ * Heap measurements depend on the JVM and garbage collector, so this is run by hand rather than as part of the build.
+ */
+public class IdentityMapMemoryBenchmark {
+
+    private static final int NODES = 1000000;
+
+    @Ignore // benchmark, run manually
+    @Test
+    public void compareRetainedHeap() {
+
+        Object[] nodes = new Object[NODES];
+        for (int i = 0; i < NODES; i++) {
+            nodes[i] = new Node();
+        }
+
+        long baseline = usedHeap();
+
+        ConcurrentMap<Long, Object> boxedMap = new ConcurrentHashMap<>();
+        Set<Object> hashSet = Collections.synchronizedSet(new HashSet<>());
+        for (int i = 0; i < NODES; i++) {
+            boxedMap.putIfAbsent((long) i, nodes[i]);
+            hashSet.add(nodes[i]);
+        }
+        long boxed = usedHeap() - baseline;
+        report("ConcurrentHashMap<Long, Object> + HashSet", boxed, boxedMap.size());
+
+        boxedMap = null;
+        hashSet = null;
+        baseline = usedHeap();
+
+        LongObjectMap<Object> primitiveMap = new LongObjectMap<>();
+        Set<Object> identitySet = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+        for (int i = 0; i < NODES; i++) {
+            primitiveMap.putIfAbsent(i, nodes[i]);
+            identitySet.add(nodes[i]);
+        }
+        long primitive = usedHeap() - baseline;
+        report("LongObjectMap<Object> + identity set", primitive, primitiveMap.size());
+
+        System.out.printf("saving: %.1f%%%n", 100.0 * (boxed - primitive) / boxed);
+    }
+
+    private static void report(String name, long bytes, int size) {
+        System.out.printf("%-45s %,12d bytes (%.1f bytes per node)%n", name, bytes, (double) bytes / size);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static class Node {
+        Long id;
+        String name;
+    }
+}
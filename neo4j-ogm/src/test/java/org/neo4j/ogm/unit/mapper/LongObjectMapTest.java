@@ -0,0 +1,103 @@
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.mapper.LongObjectMap;
+
+import static org.junit.Assert.*;
+
+public class LongObjectMapTest {
+
+    private LongObjectMap<String> map;
+
+    @Before
+    public void setUp() {
+        map = new LongObjectMap<>();
+    }
+
+    @Test
+    public void shouldReturnNullForMissingKey() {
+        assertNull(map.get(42L));
+        assertFalse(map.containsKey(42L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void shouldKeepFirstValueOnPutIfAbsent() {
+        assertNull(map.putIfAbsent(1L, "first"));
+        assertEquals("first", map.putIfAbsent(1L, "second"));
+        assertEquals("first", map.get(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldReplaceValueOnPut() {
+        map.put(1L, "first");
+        assertEquals("first", map.put(1L, "second"));
+        assertEquals("second", map.get(1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldHoldNegativeAndZeroKeys() {
+        map.put(0L, "zero");
+        map.put(-1L, "minus one");
+        map.put(Long.MIN_VALUE, "min");
+        map.put(Long.MAX_VALUE, "max");
+
+        assertEquals("zero", map.get(0L));
+        assertEquals("minus one", map.get(-1L));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldGrowBeyondInitialCapacity() {
+        for (long i = 0; i < 10000; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        assertEquals(10000, map.size());
+        for (long i = 0; i < 10000; i++) {
+            assertEquals(String.valueOf(i), map.get(i));
+        }
+    }
+
+    @Test
+    public void shouldFindKeysProbedPastRemovedEntries() {
+        for (long i = 0; i < 100; i++) {
+            map.put(i, String.valueOf(i));
+        }
+        for (long i = 0; i < 100; i += 2) {
+            assertEquals(String.valueOf(i), map.remove(i));
+        }
+
+        assertEquals(50, map.size());
+        for (long i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 0 ? null : String.valueOf(i), map.get(i));
+        }
+        assertNull(map.remove(0L));
+    }
+
+    @Test
+    public void shouldNotGrowWhenRepeatedlyAddingAndRemoving() {
+        for (long i = 0; i < 100000; i++) {
+            map.put(i, "value");
+            map.remove(i);
+        }
+        assertTrue(map.isEmpty());
+        assertEquals("LongObjectMap{size=0, capacity=16}", map.toString());
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        map.put(1L, "one");
+        map.clear();
+        assertNull(map.get(1L));
+        assertEquals(0, map.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldNotAcceptNullValues() {
+        map.put(1L, null);
+    }
+}
@@ -3,16 +3,23 @@ package org.neo4j.ogm.unit.mapper;
 import org.junit.Test;
 import org.neo4j.ogm.domain.education.School;
 import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.domain.satellites.Transponder;
+import org.neo4j.ogm.domain.social.Individual;
 import org.neo4j.ogm.mapper.ObjectMemo;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 
-import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertTrue;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Vector;
+
+import static org.junit.Assert.*;
 
 public class ObjectMemoTest {
 
     private static final MetaData metaData = new MetaData("org.neo4j.ogm.domain.education");
+    private static final MetaData socialMetaData = new MetaData("org.neo4j.ogm.domain.social");
     private static final ObjectMemo objectMemo = new ObjectMemo();
 
     @Test
@@ -57,6 +64,90 @@ public class ObjectMemoTest {
         assertTrue(objectMemo.remembered(teacher, classInfo));
     }
 
+    @Test
+    public void testOnlyChangedPropertiesReported() {
+
+        ClassInfo classInfo = socialMetaData.classInfo(Individual.class.getName());
+        Individual individual = individual();
+
+        assertNull(objectMemo.changedProperties(individual, classInfo));
+
+        objectMemo.remember(individual, classInfo);
+        assertEquals(Collections.emptySet(), objectMemo.changedProperties(individual, classInfo));
+
+        individual.setAge(42);
+        individual.setName(null);
+
+        assertEquals(new HashSet<>(Arrays.asList("age", "name")), objectMemo.changedProperties(individual, classInfo));
+    }
+
+    @Test
+    public void testChangedPropertiesReportedUnderTheNamesTheyAreWrittenWith() {
+
+        MetaData satellitesMetaData = new MetaData("org.neo4j.ogm.domain.satellites");
+        ClassInfo classInfo = satellitesMetaData.classInfo(Transponder.class.getName());
+        Transponder transponder = new Transponder();
+        transponder.setCallSign("SKYNET-4C");
+
+        objectMemo.remember(transponder, classInfo);
+        transponder.setCallSign("SKYNET-5A");
+
+        // the callSign field is written through its getter, which names the property "callsign"
+        assertEquals(Collections.singleton("callsign"), objectMemo.changedProperties(transponder, classInfo));
+    }
+
+    @Test
+    public void testArrayChangedInPlaceDetected() {
+
+        ClassInfo classInfo = socialMetaData.classInfo(Individual.class.getName());
+        Individual individual = individual();
+
+        objectMemo.remember(individual, classInfo);
 
+        individual.setPrimitiveIntArray(new int[] { 1, 2, 3 }); // equal content in a different array
+        assertTrue(objectMemo.remembered(individual, classInfo));
 
+        individual.getPrimitiveIntArray()[0] = 4;
+        assertEquals(Collections.singleton("primitiveIntArray"), objectMemo.changedProperties(individual, classInfo));
+    }
+
+    @Test
+    public void testCollectionChangedInPlaceDetected() {
+
+        ClassInfo classInfo = socialMetaData.classInfo(Individual.class.getName());
+        Individual individual = individual();
+
+        objectMemo.remember(individual, classInfo);
+
+        individual.getFavouriteRadioStations().add(97.4);
+        assertEquals(Collections.singleton("favouriteRadioStations"), objectMemo.changedProperties(individual, classInfo));
+    }
+
+    @Test
+    public void testOnlyChangedObjectsListed() {
+
+        ClassInfo classInfo = metaData.classInfo(Teacher.class.getName());
+        ObjectMemo memo = new ObjectMemo();
+        Teacher renamed = new Teacher("Miss White");
+        Teacher moved = new Teacher("Mr Thomas");
+        Teacher unchanged = new Teacher("Mrs Jones");
+
+        for (Teacher teacher : Arrays.asList(renamed, moved, unchanged)) {
+            memo.remember(teacher, classInfo);
+        }
+
+        renamed.setName("Mrs White");
+        moved.setSchool(new School("Roedean"));
+
+        assertEquals(new HashSet<Object>(Arrays.asList(renamed, moved)), new HashSet<>(memo.changed()));
+    }
+
+    private static Individual individual() {
+        Individual individual = new Individual();
+        individual.setName("Jeff");
+        individual.setAge(31);
+        individual.setPrimitiveIntArray(new int[] { 1, 2, 3 });
+        individual.setFavouriteRadioStations(new Vector<>(Arrays.asList(88.1, 93.5)));
+        return individual;
+    }
 }
@@ -90,7 +90,8 @@ public class ObjectToCypherMapperTest {
 
         mappingContext.remember(sheila);
 
-        String sheilaNode = var(sid);
+        // existing nodes are identified by the order in which they are referred to, not by their id
+        String sheilaNode = "$0";
 
         // now update the object's properties locally
         sheila.setName("Sheila Smythe-Jones");
@@ -98,7 +99,7 @@ public class ObjectToCypherMapperTest {
         ParameterisedStatements cypher = new ParameterisedStatements(this.mapper.map(sheila).getStatements());
 
         expect( "MATCH (" + sheilaNode + ") " +
-                "WHERE id(" + sheilaNode + ")=" + sid + " " +
+                "WHERE id(" + sheilaNode + ")={" + sheilaNode + "_id} " +
                 "SET " + sheilaNode + ":`Student`:`DomainObject`, " + sheilaNode + "+={" + sheilaNode + "_props}", cypher);
 
         executeStatementsAndAssertSameGraph(cypher, "CREATE (s:DomainObject:Student {name:'Sheila Smythe-Jones'})");
@@ -640,8 +641,4 @@ public class ObjectToCypherMapperTest {
         assertEquals(expected, cypher.getStatements().get(0).getStatement());
     }
 
-    private String var(Long nodeId) {
-        return "$" + nodeId;
-    }
-
 }
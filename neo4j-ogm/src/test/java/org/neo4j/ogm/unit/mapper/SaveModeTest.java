@@ -0,0 +1,162 @@
+package org.neo4j.ogm.unit.mapper;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.compiler.CypherContext;
+import org.neo4j.ogm.domain.education.Course;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.mapper.ObjectCypherMapper;
+import org.neo4j.ogm.mapper.SaveMode;
+import org.neo4j.ogm.metadata.MetaData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class SaveModeTest {
+
+    private static MetaData metaData;
+
+    private MappingContext mappingContext;
+    private Teacher teacher;
+    private Course course;
+    private Student jim;
+    private Student mary;
+
+    @BeforeClass
+    public static void setUpMetaData() {
+        metaData = new MetaData("org.neo4j.ogm.domain.education");
+    }
+
+    @Before
+    public void setUpLoadedGraph() {
+        mappingContext = new MappingContext(metaData);
+
+        jim = new Student("Jim");
+        jim.setId(3L);
+        mary = new Student("Mary");
+        mary.setId(4L);
+
+        course = new Course("Maths");
+        course.setId(2L);
+        course.setStudents(new ArrayList<>(Arrays.asList(jim, mary)));
+
+        teacher = new Teacher("Mr Thomas");
+        teacher.setId(1L);
+        teacher.setCourses(new ArrayList<>(Arrays.asList(course)));
+
+        for (Object object : Arrays.asList(teacher, course, jim, mary)) {
+            mappingContext.remember(object);
+        }
+        mappingContext.remember(new MappedRelationship(1L, "COURSES", 2L));
+        mappingContext.remember(new MappedRelationship(2L, "STUDENTS", 3L));
+        mappingContext.remember(new MappedRelationship(2L, "STUDENTS", 4L));
+    }
+
+    @Test
+    public void shouldVisitEveryReachableObjectByDefault() {
+        teacher.setName("Mr Jones");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext).map(teacher);
+
+        assertEquals(4, context.visitedObjectCount());
+        assertEquals(1, context.emittedObjectCount());
+    }
+
+    @Test
+    public void shouldNotLookBeyondObjectsWhoseRelationshipsAreUnchanged() {
+        teacher.setName("Mr Jones");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher);
+
+        assertEquals(2, context.visitedObjectCount());
+        assertEquals(1, context.emittedObjectCount());
+        assertTrue(context.registeredRelationships().containsAll(mappingContext.mappedRelationships()));
+    }
+
+    @Test
+    public void shouldSaveChangedObjectsReachableOnlyThroughCleanOnes() {
+        mary.setName("Marie");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher);
+
+        // the course leads to Mary, so all its students are visited
+        assertEquals(4, context.visitedObjectCount());
+        assertEquals(1, context.emittedObjectCount());
+        assertTrue(context.log().contains(mary));
+        assertTrue(context.registeredRelationships().containsAll(mappingContext.mappedRelationships()));
+    }
+
+    @Test
+    public void shouldNotSaveChangedObjectsUnreachableFromThoseBeingSaved() {
+        Student bob = new Student("Bob");
+        bob.setId(5L);
+        mappingContext.remember(bob);
+        bob.setName("Robert");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher);
+
+        // Bob is walked over to find out that nothing leads to him
+        assertEquals(3, context.visitedObjectCount());
+        assertEquals(0, context.emittedObjectCount());
+        assertFalse(context.log().contains(bob));
+    }
+
+    @Test
+    public void shouldOnlyLookForChangedObjectsWithinTheDepthBeingSaved() {
+        mary.setName("Marie");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher, 1);
+
+        // Mary is walked over, but not visited
+        assertEquals(3, context.visitedObjectCount());
+        assertEquals(0, context.emittedObjectCount());
+        assertFalse(context.log().contains(mary));
+    }
+
+    @Test
+    public void shouldSkipCleanBranchesWithoutWalkingThem() {
+        Student sam = new Student("Sam");
+        sam.setId(6L);
+        Course art = new Course("Art");
+        art.setId(5L);
+        art.setStudents(new ArrayList<>(Arrays.asList(sam)));
+        teacher.getCourses().add(art);
+        for (Object object : Arrays.asList(teacher, art, sam)) {
+            mappingContext.remember(object);
+        }
+        mappingContext.remember(new MappedRelationship(1L, "COURSES", 5L));
+        mappingContext.remember(new MappedRelationship(5L, "STUDENTS", 6L));
+
+        mary.setName("Marie");
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher);
+
+        // art doesn't lead to Mary, so Sam is neither walked over nor visited
+        assertEquals(5, context.visitedObjectCount());
+        assertEquals(1, context.emittedObjectCount());
+        assertTrue(context.log().contains(mary));
+        assertFalse(context.visited(sam));
+        assertTrue(context.registeredRelationships().containsAll(mappingContext.mappedRelationships()));
+    }
+
+    @Test
+    public void shouldFollowChangedRelationships() {
+        Student bob = new Student("Bob");
+        course.getStudents().remove(jim);
+        course.getStudents().add(bob);
+
+        CypherContext context = new ObjectCypherMapper(metaData, mappingContext, SaveMode.SKIP_CLEAN).map(teacher);
+
+        assertEquals(4, context.visitedObjectCount());
+        assertEquals(1, context.emittedObjectCount());
+        assertTrue(context.log().contains(course)); // so that its new relationships are remembered on commit
+        assertFalse(context.isRegisteredRelationship(new MappedRelationship(2L, "STUDENTS", 3L)));
+        assertTrue(context.isRegisteredRelationship(new MappedRelationship(2L, "STUDENTS", 4L)));
+    }
+}
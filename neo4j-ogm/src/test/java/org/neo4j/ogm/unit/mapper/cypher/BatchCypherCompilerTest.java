@@ -0,0 +1,340 @@
+package org.neo4j.ogm.unit.mapper.cypher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.compiler.CypherContext;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.domain.education.School;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.domain.social.Individual;
+import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.mapper.ObjectCypherMapper;
+import org.neo4j.ogm.mapper.ObjectToCypherMapper;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.response.JsonResponse;
+import org.neo4j.ogm.session.response.SessionResponseHandler;
+
+import java.io.ByteArrayInputStream;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class BatchCypherCompilerTest {
+
+    private ObjectToCypherMapper mapper;
+    private static MetaData mappingMetadata;
+    private static MappingContext mappingContext;
+
+    @BeforeClass
+    public static void setUpTestDatabase() {
+        mappingMetadata = new MetaData("org.neo4j.ogm.domain.education");
+        mappingContext = new MappingContext(mappingMetadata);
+    }
+
+    @Before
+    public void setUpMapper() {
+        this.mapper = new ObjectCypherMapper(mappingMetadata, mappingContext);
+    }
+
+    @After
+    public void cleanGraph() {
+        mappingContext.clear();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowExceptionOnAttemptToMapNullCollection() {
+        this.mapper.mapAll(null, -1);
+    }
+
+    @Test
+    public void shouldCreateNewNodesWithTheSameLabelsInOneStatement() {
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            students.add(new Student("Student " + i));
+        }
+
+        CypherContext context = this.mapper.mapAll(students, -1);
+
+        assertEquals(1, context.getStatements().size());
+
+        ParameterisedStatement statement = context.getStatements().get(0);
+        assertEquals("UNWIND {rows} AS row CREATE (n:`Student`:`DomainObject`) SET n=row.props RETURN row.ref AS ref, id(n) AS id",
+                statement.getStatement());
+        assertEquals(1000, rows(statement).size());
+        assertEquals("Student 999", ((Map) rows(statement).get(999).get("props")).get("name"));
+    }
+
+    @Test
+    public void shouldProduceTheSameStatementsRegardlessOfTheNumberOfObjects() {
+
+        Set<String> few = statementTexts(this.mapper.mapAll(schools(2), -1));
+        mappingContext.clear();
+        Set<String> many = statementTexts(this.mapper.mapAll(schools(200), -1));
+
+        assertEquals(few, many);
+        assertEquals(1, many.size());
+    }
+
+    @Test
+    public void shouldCreateRelationshipsOfNewNodesInTheStatementThatCreatesThem() {
+
+        School waller = new School("Waller");
+        Teacher mary = new Teacher("Mary");
+        mary.setSchool(waller);
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(waller), -1);
+
+        assertEquals(1, context.getStatements().size());
+        ParameterisedStatement statement = context.getStatements().get(0);
+        assertEquals(Arrays.asList("nodes0", "nodes1", "rels0", "rels1"), new ArrayList<>(new TreeSet<>(statement.getParameters().keySet())));
+        assertTrue(statement.getStatement().startsWith("UNWIND {nodes0} AS row CREATE (n:`School`:`DomainObject`) SET n=row.props "));
+        assertTrue(statement.getStatement().contains("CREATE (s)-[r:`SCHOOL`]->(e) SET r=row.props "));
+        assertTrue(statement.getStatement().endsWith("UNWIND refs AS created RETURN created[0] AS ref, created[1] AS id"));
+
+        // the new nodes are referred to by their position among the new nodes: the school, then the teacher
+        assertEquals(1, rows(statement, "rels0").get(0).get("startIndex"));
+        assertEquals(0, rows(statement, "rels0").get(0).get("endIndex"));
+        assertEquals(0, rows(statement, "rels1").get(0).get("startIndex"));
+        assertEquals(1, rows(statement, "rels1").get(0).get("endIndex"));
+    }
+
+    @Test
+    public void shouldUpdateExistingNodesAndDeleteRelationshipsInBatches() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+        Teacher jim = new Teacher("Jim");
+        jim.setId(2L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+        mappingContext.remember(jim);
+        mappingContext.remember(new MappedRelationship(1L, "SCHOOL", 0L));
+        mappingContext.remember(new MappedRelationship(2L, "SCHOOL", 0L));
+
+        mary.setName("Mary Smith");
+        jim.setName("Jim Jones");
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary, jim), -1);
+
+        assertEquals(Arrays.asList(
+                "UNWIND {rows} AS row MATCH (s)-[r:`SCHOOL`]->(e) WHERE id(s)=row.start AND id(e)=row.end DELETE r",
+                "UNWIND {rows} AS row MATCH (n) WHERE id(n)=row.id SET n:`Teacher`, n+=row.props"),
+                texts(context.getStatements()));
+
+        assertEquals(2, rows(context.getStatements().get(0)).size());
+        assertEquals(2, rows(context.getStatements().get(1)).size());
+    }
+
+    @Test
+    public void shouldDeleteRelationshipsWithKnownIdsById() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+        Teacher jim = new Teacher("Jim");
+        jim.setId(2L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+        mappingContext.remember(jim);
+        mappingContext.remember(new MappedRelationship(1L, "SCHOOL", 0L, 5L));
+        mappingContext.remember(new MappedRelationship(2L, "SCHOOL", 0L));
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary, jim), -1);
+
+        assertEquals(Arrays.asList(
+                "UNWIND {rows} AS row MATCH ()-[r]->() WHERE id(r)=row.id DELETE r",
+                "UNWIND {rows} AS row MATCH (s)-[r:`SCHOOL`]->(e) WHERE id(s)=row.start AND id(e)=row.end DELETE r"),
+                texts(context.getStatements()));
+
+        // only the relationship whose id is known is deleted by id, parallel relationships are left alone
+        assertEquals(1, rows(context.getStatements().get(0)).size());
+        assertEquals(5L, rows(context.getStatements().get(0)).get(0).get("id"));
+        assertEquals(2L, rows(context.getStatements().get(1)).get(0).get("start"));
+    }
+
+    @Test
+    public void shouldCreateRelationshipsWithoutPropertiesLikeAnyOther() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+
+        mary.setSchool(waller);
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary), -1);
+
+        assertEquals(Arrays.asList(
+                "UNWIND {rows} AS row MATCH (s) WHERE id(s)=row.start MATCH (e) WHERE id(e)=row.end CREATE (s)-[r:`SCHOOL`]->(e) SET r=row.props RETURN row.ref AS ref, id(r) AS id",
+                "UNWIND {rows} AS row MATCH (s) WHERE id(s)=row.start MATCH (e) WHERE id(e)=row.end CREATE (s)-[r:`TEACHERS`]->(e) SET r=row.props RETURN row.ref AS ref, id(r) AS id"),
+                texts(context.getStatements()));
+        assertEquals(Collections.emptyMap(), rows(context.getStatements().get(0)).get(0).get("props"));
+    }
+
+    @Test
+    public void shouldCreateRelationshipsBetweenExistingNodesImmediately() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+
+        mary.setSchool(waller);
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary), -1);
+
+        assertEquals(2, context.getStatements().size());
+        assertEquals(1L, rows(context.getStatements().get(0)).get(0).get("start"));
+        assertEquals(0L, rows(context.getStatements().get(0)).get(0).get("end"));
+    }
+
+    @Test
+    public void shouldOnlyCreateRelationshipsOfNewNodesWithTheNewNodes() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+
+        mary.setSchool(waller);
+
+        Teacher jim = new Teacher("Jim");
+        jim.setSchool(waller);
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary, jim), -1);
+
+        // jim is new, so his relationships are created along with him
+        List<ParameterisedStatement> statements = context.getStatements();
+        assertEquals(3, statements.size());
+        assertTrue(statements.get(0).getStatement().startsWith("UNWIND {nodes0} AS row CREATE (n:`Teacher`) SET n=row.props "));
+        Map<String, Object> jimsSchool = rows(statements.get(0), "rels0").get(0);
+        assertEquals(0, jimsSchool.get("startIndex"));
+        assertEquals(0L, jimsSchool.get("end"));
+
+        // mary and waller exist, so theirs are created by themselves
+        assertEquals(1, rows(statements.get(1)).size());
+        assertEquals(1L, rows(statements.get(1)).get(0).get("start"));
+        assertEquals(0L, rows(statements.get(1)).get(0).get("end"));
+    }
+
+    @Test
+    public void shouldDeleteRelationshipsBeforeCreatingAny() {
+
+        School waller = new School("Waller");
+        waller.setId(0L);
+        Teacher mary = new Teacher("Mary");
+        mary.setId(1L);
+        Teacher jim = new Teacher("Jim");
+        jim.setId(2L);
+
+        mappingContext.remember(waller);
+        mappingContext.remember(mary);
+        mappingContext.remember(jim);
+        mappingContext.remember(new MappedRelationship(1L, "SCHOOL", 0L));
+
+        jim.setSchool(waller);
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(mary, jim), -1);
+
+        List<String> texts = texts(context.getStatements());
+        assertEquals("UNWIND {rows} AS row MATCH (s)-[r:`SCHOOL`]->(e) WHERE id(s)=row.start AND id(e)=row.end DELETE r", texts.get(0));
+        assertEquals("UNWIND {rows} AS row MATCH (s) WHERE id(s)=row.start MATCH (e) WHERE id(e)=row.end CREATE (s)-[r:`SCHOOL`]->(e) SET r=row.props RETURN row.ref AS ref, id(r) AS id", texts.get(1));
+    }
+
+    @Test
+    public void shouldMapReturnedReferencesBackToNewObjects() {
+
+        Student gary = new Student("Gary");
+        Student sheila = new Student("Sheila");
+
+        CypherContext context = this.mapper.mapAll(Arrays.asList(gary, sheila), -1);
+        List<Map<String, Object>> rows = rows(context.getStatements().get(0));
+
+        String json = "{\"results\":[{\"columns\":[\"ref\",\"id\"],\"data\":[" +
+                "{\"row\":[\"" + rows.get(0).get("ref") + "\",42]}," +
+                "{\"row\":[\"" + rows.get(1).get("ref") + "\",43]}]}],\"errors\":[]}";
+
+        new SessionResponseHandler(mappingMetadata, mappingContext)
+                .updateObjects(context, new JsonResponse(new ByteArrayInputStream(json.getBytes())), new ObjectMapper());
+
+        assertEquals(Long.valueOf(42), gary.getId());
+        assertEquals(Long.valueOf(43), sheila.getId());
+        assertSame(gary, mappingContext.get(42L));
+        assertSame(sheila, mappingContext.get(43L));
+    }
+
+    @Test
+    public void shouldOnlyWriteChangedPropertiesOfExistingNodes() {
+
+        MetaData socialMetaData = new MetaData("org.neo4j.ogm.domain.social");
+        MappingContext socialMappingContext = new MappingContext(socialMetaData);
+
+        Individual individual = new Individual();
+        individual.setId(1L);
+        individual.setName("Jeff");
+        individual.setAge(31);
+        socialMappingContext.remember(individual);
+
+        individual.setAge(32);
+        individual.setName(null);
+
+        CypherContext context = new ObjectCypherMapper(socialMetaData, socialMappingContext).mapAll(Arrays.asList(individual), 0);
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("age", 32);
+        props.put("name", null); // removes the property from the node
+        assertEquals(props, rows(context.getStatements().get(0)).get(0).get("props"));
+    }
+
+    private static List<School> schools(int count) {
+        List<School> schools = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            School school = new School("School " + i);
+            Teacher teacher = new Teacher("Teacher " + i);
+            teacher.setSchool(school);
+            schools.add(school);
+        }
+        return schools;
+    }
+
+    private static Set<String> statementTexts(CypherContext context) {
+        return new HashSet<>(texts(context.getStatements()));
+    }
+
+    private static List<String> texts(List<ParameterisedStatement> statements) {
+        List<String> texts = new ArrayList<>();
+        for (ParameterisedStatement statement : statements) {
+            texts.add(statement.getStatement());
+        }
+        return texts;
+    }
+
+    private static List<Map<String, Object>> rows(ParameterisedStatement statement) {
+        return rows(statement, "rows");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(ParameterisedStatement statement, String parameter) {
+        return (List<Map<String, Object>>) statement.getParameters().get(parameter);
+    }
+}
@@ -72,13 +72,14 @@ public class CypherCompilerTest {
         sheila.setId(sid);
         mappingContext.remember(sheila);
 
-        String sheilaNode = var(sid);
+        // existing nodes are identified by the order in which they are referred to, not by their id
+        String sheilaNode = "$0";
 
         // now update the object's properties locally
         sheila.setName("Sheila Smythe-Jones");
 
         expectOnSave(sheila, "MATCH (" + sheilaNode + ") " +
-                "WHERE id(" + sheilaNode + ")=" + sid + " " +
+                "WHERE id(" + sheilaNode + ")={" + sheilaNode + "_id} " +
                 "SET " + sheilaNode + ":`Student`:`DomainObject`, " + sheilaNode + "+={" + sheilaNode + "_props}");
     }
 
@@ -183,35 +184,36 @@ public class CypherCompilerTest {
 
         expectOnSave(jim,
                 "CREATE (_0:`Teacher`{_0_props}) " +
-                "WITH _0 MATCH ($0) WHERE id($0)=0 MERGE (_0)-[_1:`SCHOOL`]->($0) " +
+                "WITH _0 MATCH ($0) WHERE id($0)={$0_id} MERGE (_0)-[_1:`SCHOOL`]->($0) " +
                 "WITH $0,_0,_1 MERGE ($0)-[_2:`TEACHERS`]->(_0) " +
                 "RETURN id(_0) AS _0, id(_1) AS _1, id(_2) AS _2",
                 // or
                 "CREATE (_0:`Teacher`{_0_props}) " +
-                "WITH _0 MATCH ($0) WHERE id($0)=0 MERGE (_0)-[_1:`SCHOOL`]->($0) " +
+                "WITH _0 MATCH ($0) WHERE id($0)={$0_id} MERGE (_0)-[_1:`SCHOOL`]->($0) " +
                 "WITH $0,_0,_1 MERGE ($0)-[_4:`TEACHERS`]->(_0) " +
                 "RETURN id(_0) AS _0, id(_1) AS _1, id(_4) AS _4");
 
         expectOnSave(waller,
                 "CREATE (_1:`Teacher`{_1_props}) " +
-                "WITH _1 MATCH ($0) WHERE id($0)=0 MERGE ($0)-[_0:`TEACHERS`]->(_1) " +
+                "WITH _1 MATCH ($0) WHERE id($0)={$0_id} MERGE ($0)-[_0:`TEACHERS`]->(_1) " +
                 "WITH $0,_0,_1 MERGE (_1)-[_2:`SCHOOL`]->($0) " +
                 "RETURN id(_0) AS _0, id(_1) AS _1, id(_2) AS _2",
                 // or
                 "CREATE (_3:`Teacher`{_3_props}) " +
-                "WITH _3 MATCH ($0) WHERE id($0)=0 MERGE ($0)-[_2:`TEACHERS`]->(_3) " +
+                "WITH _3 MATCH ($0) WHERE id($0)={$0_id} MERGE ($0)-[_2:`TEACHERS`]->(_3) " +
                 "WITH $0,_2,_3 MERGE (_3)-[_4:`SCHOOL`]->($0) " +
                 "RETURN id(_2) AS _2, id(_3) AS _3, id(_4) AS _4");
 
+        // mary is referred to first, so the school is the second existing node
         expectOnSave(mary,
                 "CREATE (_2:`Teacher`{_2_props}) " +
-                "WITH _2 MATCH ($0) WHERE id($0)=0 MERGE ($0)-[_1:`TEACHERS`]->(_2) " +
-                "WITH $0,_1,_2 MERGE (_2)-[_3:`SCHOOL`]->($0) " +
+                "WITH _2 MATCH ($1) WHERE id($1)={$1_id} MERGE ($1)-[_1:`TEACHERS`]->(_2) " +
+                "WITH $1,_1,_2 MERGE (_2)-[_3:`SCHOOL`]->($1) " +
                 "RETURN id(_1) AS _1, id(_2) AS _2, id(_3) AS _3",
                 // or
                 "CREATE (_3:`Teacher`{_3_props}) " +
-                "WITH _3 MATCH ($0) WHERE id($0)=0 MERGE ($0)-[_2:`TEACHERS`]->(_3) " +
-                "WITH $0,_2,_3 MERGE (_3)-[_4:`SCHOOL`]->($0) " +
+                "WITH _3 MATCH ($1) WHERE id($1)={$1_id} MERGE ($1)-[_2:`TEACHERS`]->(_3) " +
+                "WITH $1,_2,_3 MERGE (_3)-[_4:`SCHOOL`]->($1) " +
                 "RETURN id(_2) AS _2, id(_3) AS _3, id(_4) AS _4");
 
     }
@@ -296,10 +298,10 @@ public class CypherCompilerTest {
 
         // expect(for now) two separate delete clauses
         String cypher=
-                "MATCH ($0)-[_2:STUDENTS]->($1) WHERE id($0)=0 AND id($1)=1 " +
-                "DELETE _2 " +
-                "WITH $0,$1 MATCH ($0)-[_1:STUDENTS]->($3) WHERE id($3)=3 " +
-                "DELETE _1";
+                "MATCH ($0)-[_1:STUDENTS]->($2) WHERE id($0)={$0_id} AND id($2)={$2_id} " +
+                "DELETE _1 " +
+                "WITH $0,$2 MATCH ($0)-[_2:STUDENTS]->($3) WHERE id($3)={$3_id} " +
+                "DELETE _2";
 
         expectOnSave(music, cypher);
     }
@@ -341,19 +343,19 @@ public class CypherCompilerTest {
 
         // we expect a new relationship to be created, and an old one deleted
         expectOnSave(msThompson,
-                "MATCH ($2) WHERE id($2)=2 MATCH ($3) WHERE id($3)=3 MERGE ($2)-[_2:`STUDENTS`]->($3) " +
-                "WITH $2,$3,_2 MATCH ($1)-[_3:STUDENTS]->($3) WHERE id($1)=1 DELETE _3 " +
+                "MATCH ($2) WHERE id($2)={$2_id} MATCH ($3) WHERE id($3)={$3_id} MERGE ($2)-[_2:`STUDENTS`]->($3) " +
+                "WITH $2,$3,_2 MATCH ($1)-[_3:STUDENTS]->($3) WHERE id($1)={$1_id} DELETE _3 " +
                 "RETURN id(_2) AS _2");
 
         // expect a delete, but don't expect the new relationship to be created, because the fact of it
         // is inaccessible from the businessStudies object
         expectOnSave(businessStudies,
-                "MATCH ($1)-[_0:STUDENTS]->($3) WHERE id($1)=1 AND id($3)=3 DELETE _0");
+                "MATCH ($0)-[_0:STUDENTS]->($1) WHERE id($0)={$0_id} AND id($1)={$1_id} DELETE _0");
 
         // expect the new relationship, but don't expect the old one to be deleted, because the fact
         // of it is inaccessible from the designTech object
         expectOnSave(designTech,
-                "MATCH ($2) WHERE id($2)=2 MATCH ($3) WHERE id($3)=3 MERGE ($2)-[_0:`STUDENTS`]->($3) RETURN id(_0) AS _0");
+                "MATCH ($0) WHERE id($0)={$0_id} MATCH ($1) WHERE id($1)={$1_id} MERGE ($0)-[_0:`STUDENTS`]->($1) RETURN id(_0) AS _0");
 
         // we can't explore the object model from shivani at all, so no changes.
         expectOnSave(shivani, "");
@@ -403,19 +405,19 @@ public class CypherCompilerTest {
         // this is because MrWhite is not "visited" during the traversal of
         // hillsRoad - his reference is now inaccessible. this looks like a FIXME
         expectOnSave(hillsRoad,
-                "MATCH ($0)-[_2:TEACHERS]->($1) WHERE id($0)=0 AND id($1)=1 DELETE _2");
+                "MATCH ($0)-[_2:TEACHERS]->($2) WHERE id($0)={$0_id} AND id($2)={$2_id} DELETE _2");
 
         // we expect mrWhite's relationship to hillsRoad to be removed
         // but the change to hillsRoad's relationship with MrWhite is not detected
         // this is because hillsRoad object is no longer directly accessible from MrWhite
         // looks like a FIXME (infer symmetric deletions)
         expectOnSave(mrWhite,
-                "MATCH ($1)-[_0:SCHOOL]->($0) WHERE id($1)=1 AND id($0)=0 DELETE _0");
+                "MATCH ($0)-[_0:SCHOOL]->($1) WHERE id($0)={$0_id} AND id($1)={$1_id} DELETE _0");
 
         // because missJones has a reference to hillsRoad, we expect an outcome
         // the same as if we had saved hillsRoiad directly.
         expectOnSave(missJones,
-                "MATCH ($0)-[_2:TEACHERS]->($1) WHERE id($0)=0 AND id($1)=1 DELETE _2");
+                "MATCH ($1)-[_2:TEACHERS]->($2) WHERE id($1)={$1_id} AND id($2)={$2_id} DELETE _2");
     }
 
 
@@ -484,7 +486,7 @@ public class CypherCompilerTest {
         link.setTimestamp(327790L);
 
         // expect the property on the relationship entity to be updated on the graph relationship
-        expectOnSave(forum, "MATCH ()-[_0]->() WHERE id(_0)=2 SET _0+={_0_props}");
+        expectOnSave(forum, "MATCH ()-[_0]->() WHERE id(_0)={_0_id} SET _0+={_0_props}");
 
     }
 
@@ -523,10 +525,10 @@ public class CypherCompilerTest {
         link.setTopic(null);
 
         // expect the delete to be recognised when the forum is saved
-        expectOnSave(forum, "MATCH ($0)-[_0:HAS_TOPIC]->($1) WHERE id($0)=0 AND id($1)=1 DELETE _0");
+        expectOnSave(forum, "MATCH ($0)-[_0:HAS_TOPIC]->($1) WHERE id($0)={$0_id} AND id($1)={$1_id} DELETE _0");
 
         // expect the delete to be recognised if the RE is saved
-        expectOnSave(link, "MATCH ($0)-[_0:HAS_TOPIC]->($1) WHERE id($0)=0 AND id($1)=1 DELETE _0");
+        expectOnSave(link, "MATCH ($0)-[_0:HAS_TOPIC]->($1) WHERE id($0)={$0_id} AND id($1)={$1_id} DELETE _0");
 
         // expect nothing to happen if the topic is saved, because the domain model does not
         // permit navigation from the topic to the RE (topic has no reference to it)
@@ -545,8 +547,4 @@ public class CypherCompilerTest {
         }
         fail("unexpected: '" + statements.getStatements().get(0).getStatement() + "'");
     }
-
-    private String var(Long nodeId) {
-        return "$" + nodeId;
-    }
 }
@@ -0,0 +1,141 @@
+package org.neo4j.ogm.unit.mapper.cypher;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.domain.education.School;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.mapper.MappedRelationship;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.mapper.ObjectCypherMapper;
+import org.neo4j.ogm.mapper.ObjectToCypherMapper;
+import org.neo4j.ogm.metadata.MetaData;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs workloads of structurally identical saves through the mapper and counts the distinct statement
+ * texts produced. The server caches query plans by statement text, so every repeated text is a plan cache hit.
+ */
+public class StatementTextReuseTest {
+
+    private static final int WORKLOAD = 100;
+
+    private ObjectToCypherMapper mapper;
+    private StatementTextCounter counter;
+    private static MetaData mappingMetadata;
+    private static MappingContext mappingContext;
+
+    @BeforeClass
+    public static void setUpTestDatabase() {
+        mappingMetadata = new MetaData("org.neo4j.ogm.domain.education");
+        mappingContext = new MappingContext(mappingMetadata);
+    }
+
+    @Before
+    public void setUp() {
+        this.mapper = new ObjectCypherMapper(mappingMetadata, mappingContext);
+        this.counter = new StatementTextCounter();
+    }
+
+    @After
+    public void cleanGraph() {
+        mappingContext.clear();
+    }
+
+    @Test
+    public void updatesOfDifferentNodesShouldShareStatementText() {
+
+        for (long id = 0; id < WORKLOAD; id++) {
+            Student student = new Student("Student " + id);
+            student.setId(id);
+            mappingContext.remember(student);
+
+            student.setName("Renamed student " + id);
+            counter.record(mapper.map(student).getStatements());
+        }
+
+        assertEquals(WORKLOAD, counter.statements());
+        assertEquals(1, counter.distinctStatements());
+        assertEquals(0.99, counter.hitRate(), 0.001);
+    }
+
+    @Test
+    public void relationshipsBetweenDifferentExistingNodesShouldShareStatementText() {
+
+        for (long id = 0; id < WORKLOAD * 2; id += 2) {
+            School school = new School("School " + id);
+            school.setId(id);
+            Teacher teacher = new Teacher("Teacher " + id);
+            teacher.setId(id + 1);
+            mappingContext.remember(school);
+            mappingContext.remember(teacher);
+
+            teacher.setSchool(school);
+            counter.record(mapper.map(teacher).getStatements());
+        }
+
+        assertEquals(1, counter.distinctStatements());
+    }
+
+    @Test
+    public void deletionsOfDifferentRelationshipsShouldShareStatementText() {
+
+        for (long id = 0; id < WORKLOAD * 2; id += 2) {
+            School school = new School("School " + id);
+            school.setId(id);
+            Teacher teacher = new Teacher("Teacher " + id);
+            teacher.setId(id + 1);
+            mappingContext.remember(school);
+            mappingContext.remember(teacher);
+            mappingContext.remember(new MappedRelationship(id + 1, "SCHOOL", id));
+
+            // the teacher no longer works at the school
+            counter.record(mapper.map(teacher).getStatements());
+            mappingContext.clear();
+        }
+
+        assertEquals(WORKLOAD, counter.statements());
+        assertEquals(1, counter.distinctStatements());
+    }
+
+    /**
+     * Counts the statements executed by a workload and the distinct statement texts among them.
+     */
+    static class StatementTextCounter {
+
+        private final Set<String> texts = new HashSet<>();
+        private int statements;
+
+        void record(List<ParameterisedStatement> parameterisedStatements) {
+            for (ParameterisedStatement statement : parameterisedStatements) {
+                if (!statement.getStatement().isEmpty()) {
+                    texts.add(statement.getStatement());
+                    statements++;
+                }
+            }
+        }
+
+        int statements() {
+            return statements;
+        }
+
+        int distinctStatements() {
+            return texts.size();
+        }
+
+        /**
+         * @return the proportion of statements whose text had already been seen, i.e. whose plan could be reused
+         */
+        double hitRate() {
+            return statements == 0 ? 0 : (double) (statements - texts.size()) / statements;
+        }
+    }
+}
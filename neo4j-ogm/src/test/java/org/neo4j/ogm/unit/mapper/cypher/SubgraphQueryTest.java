@@ -0,0 +1,59 @@
+package org.neo4j.ogm.unit.mapper.cypher;
+
+import org.junit.Test;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.session.request.strategy.SubgraphQuery;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class SubgraphQueryTest {
+
+    private static final String HOP = " UNWIND [x IN nodes | [0, x]] + [x IN rels | [1, x]] + [x IN frontier | [2, x]] AS t" +
+            " WITH t, CASE WHEN t[0] = 2 THEN t[1] END AS f" +
+            " OPTIONAL MATCH (f)-[r]-(m)" +
+            " UNWIND CASE WHEN t[0] = 2 THEN [[1, r, 1], [0, m, 1]] ELSE [[t[0], t[1], 0]] END AS i" +
+            " WITH i WHERE i[1] IS NOT NULL" +
+            " WITH i[0] AS kind, i[1] AS item, min(i[2]) AS seen" +
+            " WITH collect(CASE WHEN kind = 0 THEN item END) AS nodes," +
+            " collect(CASE WHEN kind = 1 THEN item END) AS rels," +
+            " collect(CASE WHEN kind = 0 AND seen = 1 THEN item END) AS frontier";
+
+    private static final String ROOTS = " WITH collect(n) AS nodes, [] AS rels, collect(n) AS frontier";
+
+    private static final String RETURN = " RETURN nodes, rels";
+
+    private final SubgraphQuery query = new SubgraphQuery();
+
+    @Test
+    public void testFindOne() throws Exception {
+        assertEquals("MATCH (n) WHERE id(n) = { id }" + ROOTS + HOP + HOP + RETURN, query.findOne(0L, 2).getStatement());
+    }
+
+    @Test
+    public void testFindAllCollection() throws Exception {
+        assertEquals("MATCH (n) WHERE id(n) in { ids }" + ROOTS + HOP + RETURN, query.findAll(Arrays.asList(1L, 2L, 3L), 1).getStatement());
+    }
+
+    @Test
+    public void testFindByLabel() throws Exception {
+        assertEquals("MATCH (n:Orbit)" + ROOTS + HOP + HOP + HOP + RETURN, query.findByLabel("Orbit", 3).getStatement());
+    }
+
+    @Test
+    public void testFindByProperty() throws Exception {
+        assertEquals("MATCH (n:Asteroid) WHERE n.diameter = { diameter }" + ROOTS + HOP + RETURN,
+                query.findByProperty("Asteroid", new Property<String, Object>("diameter", 60.2), 1).getStatement());
+    }
+
+    @Test
+    public void testFindOneZeroDepth() throws Exception {
+        assertEquals("MATCH (n) WHERE id(n) = { id } RETURN n", query.findOne(0L, 0).getStatement());
+    }
+
+    @Test
+    public void testFindByLabelZeroDepth() throws Exception {
+        assertEquals("MATCH (n:Orbit) RETURN collect(n)", query.findByLabel("Orbit", 0).getStatement());
+    }
+}
@@ -2,6 +2,11 @@ package org.neo4j.ogm.unit.mapper.cypher;
 
 import org.neo4j.ogm.model.Property;
 import org.junit.Test;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.RowModelQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.session.request.strategy.VariableDepthQuery;
 
 import java.util.Arrays;
@@ -57,5 +62,69 @@ public class VariableDepthQueryTest {
         assertEquals("MATCH (n:Asteroid) WHERE n.diameter = { diameter } RETURN collect(n)", query.findByProperty("Asteroid", new Property<String, Object>("diameter", 60.2), 0).getStatement());
     }
 
+    @Test
+    public void testFindIdsByLabel() throws Exception {
+        assertEquals("MATCH (n:Orbit) WITH n ORDER BY id(n) RETURN id(n)", query.findIdsByLabel("Orbit", null, null).getStatement());
+    }
+
+    @Test
+    public void testFindIdsByLabelSortedAndPaged() throws Exception {
+        RowModelQuery qry = query.findIdsByLabel("Asteroid", new Pagination(2, 10), new SortOrder().add(SortOrder.Direction.DESC, "diameter").add("name"));
+        assertEquals("MATCH (n:Asteroid) WITH n ORDER BY n.diameter DESC, n.name ASC, id(n) SKIP { skip } LIMIT { limit } RETURN id(n)", qry.getStatement());
+        assertEquals(20L, qry.getParameters().get("skip"));
+        assertEquals(10, qry.getParameters().get("limit"));
+    }
+
+    @Test
+    public void testFindIdsByLabelPagedInIdOrder() throws Exception {
+        assertEquals("MATCH (n:Asteroid) WITH n ORDER BY id(n) SKIP { skip } LIMIT { limit } RETURN id(n)",
+                query.findIdsByLabel("Asteroid", new Pagination(0, 10), new SortOrder()).getStatement());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSortOrderRejectsInvalidPropertyName() throws Exception {
+        new SortOrder().add("name DESC, n.diameter");
+    }
+
+    @Test
+    public void testCountByLabel() throws Exception {
+        assertEquals("MATCH (n:Orbit) RETURN count(n)", query.countByLabel("Orbit").getStatement());
+    }
+
+    @Test
+    public void testFindOneWithFetchPlan() throws Exception {
+        FetchPlan fetchPlan = new FetchPlan().follow("ORBITS", Relationship.OUTGOING, 2).follow("DISCOVERED", Relationship.INCOMING, 1);
+        assertEquals("MATCH (n) WHERE id(n) = { id }" +
+                " MATCH p0=(n)-[:ORBITS*0..2]->() WITH n, collect(distinct p0) AS paths0" +
+                " MATCH p1=(n)<-[:DISCOVERED*0..1]-() WITH n, paths0, collect(distinct p1) AS paths1" +
+                " RETURN paths0, paths1", query.findOne(0L, fetchPlan).getStatement());
+    }
+
+    @Test
+    public void testFindAllCollectionWithFetchPlan() throws Exception {
+        assertEquals("MATCH (n) WHERE id(n) in { ids } MATCH p0=(n)-[:ORBITS*0..3]-() WITH n, collect(distinct p0) AS paths0 RETURN paths0",
+                query.findAll(Arrays.asList(1L, 2L, 3L), new FetchPlan().follow("ORBITS", 3)).getStatement());
+    }
+
+    @Test
+    public void testFindByLabelWithFetchPlan() throws Exception {
+        assertEquals("MATCH (n:Orbit) MATCH p0=(n)-[:ORBITS*0..1]-() WITH n, collect(distinct p0) AS paths0 RETURN paths0",
+                query.findByLabel("Orbit", new FetchPlan().follow("ORBITS", 1)).getStatement());
+    }
+
+    @Test
+    public void testFindOneWithEmptyFetchPlan() throws Exception {
+        assertEquals("MATCH (n) WHERE id(n) = { id } RETURN n", query.findOne(0L, new FetchPlan()).getStatement());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFetchPlanRejectsInvalidRelationshipType() throws Exception {
+        new FetchPlan().follow("ORBITS*]-(m) DETACH DELETE m //", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFetchPlanRejectsInvalidDirection() throws Exception {
+        new FetchPlan().follow("ORBITS", "SIDEWAYS", 1);
+    }
 
 }
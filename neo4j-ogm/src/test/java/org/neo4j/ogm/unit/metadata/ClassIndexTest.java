@@ -0,0 +1,91 @@
+package org.neo4j.ogm.unit.metadata;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.forum.Member;
+import org.neo4j.ogm.domain.forum.Topic;
+import org.neo4j.ogm.metadata.ClassIndex;
+import org.neo4j.ogm.metadata.MetaData;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ClassIndexTest {
+
+    private File folder;
+    private ClassLoader classLoader;
+
+    @Before
+    public void writeIndex() throws IOException {
+        folder = Files.createTempDirectory("neo4j-ogm-index").toFile();
+        ClassIndex.write(folder, "org.neo4j.ogm.domain.forum");
+        classLoader = new URLClassLoader(new URL[] { folder.toURI().toURL() }, getClass().getClassLoader());
+    }
+
+    @After
+    public void deleteIndex() {
+        File indexFolder = new File(folder, ClassIndex.LOCATION);
+        for (File index : indexFolder.listFiles()) {
+            index.delete();
+        }
+        for (File file = indexFolder; !file.equals(folder.getParentFile()); file = file.getParentFile()) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void shouldListTheClassesOfIndexedPackages() throws IOException {
+        List<String> lines = Files.readAllLines(new File(folder, ClassIndex.LOCATION + "org.neo4j.ogm.domain.forum").toPath(), Charset.forName("UTF-8"));
+        assertTrue(lines.contains(Member.class.getName()));
+        assertTrue(lines.contains("org.neo4j.ogm.domain.forum.activity.Activity"));
+
+        List<String> resources = ClassIndex.classResources(classLoader, "org.neo4j.ogm.domain.forum");
+        assertTrue(resources.contains("org/neo4j/ogm/domain/forum/Topic.class"));
+    }
+
+    @Test
+    public void shouldNotUseTheIndexUnlessEveryPackageIsIndexed() {
+        assertNull(ClassIndex.classResources(classLoader, "org.neo4j.ogm.domain.forum", "org.neo4j.ogm.domain.education"));
+    }
+
+    @Test
+    public void shouldLoadTheSameMetaDataFromTheIndexAsFromTheClasspath() {
+        MetaData scanned = new MetaData("org.neo4j.ogm.domain.forum");
+        MetaData indexed = indexedMetaData("org.neo4j.ogm.domain.forum");
+
+        for (String name : new String[] { "User", "Bronze", "Topic", "HAS_TOPIC", Member.class.getName() }) {
+            assertEquals(scanned.classInfo(name).name(), indexed.classInfo(name).name());
+            assertEquals(scanned.classInfo(name).labels(), indexed.classInfo(name).labels());
+        }
+        assertEquals(scanned.classInfo(Topic.class).propertyFields().size(), indexed.classInfo(Topic.class).propertyFields().size());
+    }
+
+    @Test
+    public void shouldOnlyLoadTheIndexedClasses() throws IOException {
+        Files.write(new File(folder, ClassIndex.LOCATION + "org.neo4j.ogm.domain.forum").toPath(), Topic.class.getName().getBytes("UTF-8"));
+
+        MetaData indexed = indexedMetaData("org.neo4j.ogm.domain.forum");
+
+        assertNotNull(indexed.classInfo(Topic.class));
+        assertNull(indexed.classInfo(Member.class));
+    }
+
+    private MetaData indexedMetaData(String... packages) {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return new MetaData(packages);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+}
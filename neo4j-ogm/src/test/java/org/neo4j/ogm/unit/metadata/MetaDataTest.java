@@ -4,6 +4,7 @@ import org.junit.Test;
 import org.neo4j.ogm.domain.education.Student;
 import org.neo4j.ogm.domain.forum.Member;
 import org.neo4j.ogm.domain.forum.activity.Activity;
+import org.neo4j.ogm.metadata.MappingException;
 import org.neo4j.ogm.metadata.MetaData;
 import org.neo4j.ogm.metadata.info.ClassInfo;
 import org.neo4j.ogm.metadata.info.FieldInfo;
@@ -559,5 +560,93 @@ public class MetaDataTest {
         assertEquals(Arrays.asList("Student", "DomainObject"), nonAnnotatedClassInfo.labels());
     }
 
+    @Test
+    public void testClassInfoForClass() {
+        assertSame(metaData.classInfo(Member.class.getName()), metaData.classInfo(Member.class));
+        assertSame(metaData.classInfo(Member.class), metaData.classInfo(new Member()));
+        assertNull(metaData.classInfo(String.class));
+    }
+
+    @Test
+    public void testClassInfoForRelationshipType() {
+        assertEquals("org.neo4j.ogm.domain.forum.ForumTopicLink", metaData.classInfo("HAS_TOPIC").name());
+    }
+
+    /**
+     * A class can be found by any part of its fully-qualified name that is unique in the domain
+     */
+    @Test
+    public void testClassInfoForPartiallyQualifiedName() {
+        MetaData cineasts = new MetaData("org.neo4j.ogm.domain.cineasts");
+        assertEquals("org.neo4j.ogm.domain.cineasts.plain.Actor", cineasts.classInfo("plain.Actor").name());
+        assertEquals("org.neo4j.ogm.domain.cineasts.plain.Actor", cineasts.classInfo("org.neo4j.ogm.domain.cineasts.plain.Actor").name());
+        assertNull(cineasts.classInfo("lain.Actor"));
+    }
+
+    /**
+     * Labels and relationship types take precedence over class names
+     */
+    @Test
+    public void testClassInfoPrefersTypesToSimpleNames() {
+        MetaData cineasts = new MetaData("org.neo4j.ogm.domain.cineasts");
+        assertEquals("org.neo4j.ogm.domain.cineasts.annotated.Rating", cineasts.classInfo("RATED").name());
+        assertEquals("org.neo4j.ogm.domain.cineasts.annotated.Role", cineasts.classInfo("Role").name());
+    }
+
+    @Test(expected = MappingException.class)
+    public void testAmbiguousSimpleName() {
+        new MetaData("org.neo4j.ogm.domain.cineasts").classInfo("Actor");
+    }
+
+    /**
+     * The views of a class's members are worked out once and can't be changed by their callers
+     */
+    @Test
+    public void testClassInfoViewsAreReused() {
+        ClassInfo classInfo = metaData.classInfo("Bronze");
+
+        assertSame(classInfo.propertyFields(), classInfo.propertyFields());
+        assertSame(classInfo.relationshipFields(), classInfo.relationshipFields());
+        assertSame(classInfo.propertyGetters(), classInfo.propertyGetters());
+        assertSame(classInfo.labels(), classInfo.labels());
+        try {
+            classInfo.propertyFields().clear();
+            fail("Property fields should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(1, classInfo.propertyFields().size());
+        }
+    }
 
+    @Test
+    public void testPropertyFieldLookupIgnoresCase() {
+        ClassInfo classInfo = metaData.classInfo("Bronze");
+        assertEquals("fees", classInfo.propertyField("ANNUALFEES").getName());
+        assertNull(classInfo.propertyField("fees"));
+    }
+
+    /**
+     * Fields declared by a superclass are found and remembered
+     */
+    @Test
+    public void testGetFieldResolvesInheritedFieldsOnce() {
+        ClassInfo classInfo = metaData.classInfo("Bronze");
+        FieldInfo fieldInfo = classInfo.propertyField("annualFees");
+
+        assertEquals("org.neo4j.ogm.domain.forum.Membership", classInfo.getField(fieldInfo).getDeclaringClass().getName());
+        assertSame(classInfo.getField(fieldInfo), classInfo.getField(fieldInfo));
+    }
+
+    /**
+     * The base class resolved for some taxa is remembered, whatever then happens to the array holding them
+     */
+    @Test
+    public void testResolvedTaxaAreRemembered() {
+        String[] taxa = { "Silver", "Membership" };
+        ClassInfo classInfo = metaData.resolve(taxa);
+        taxa[0] = "Gold";
+
+        assertEquals("org.neo4j.ogm.domain.forum.SilverMembership", classInfo.name());
+        assertSame(classInfo, metaData.resolve("Silver", "Membership"));
+        assertEquals("org.neo4j.ogm.domain.forum.GoldMembership", metaData.resolve(taxa).name());
+    }
 }
@@ -0,0 +1,240 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.TransactionManagerProxy;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.mapper.MappingContext;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.session.AsyncSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.Transaction;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+import org.neo4j.ogm.unit.mapper.model.bike.BikeRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class AsyncSessionTest {
+
+    private final Set<String> urls = Collections.synchronizedSet(new HashSet<String>());
+    private final TransactionManager txManager = new TransactionManagerProxy();
+
+    private ExecutorService executor;
+    private AsyncSession session;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        session = new SessionFactory("org.neo4j.ogm.domain.bike").openAsyncSession(new BikeRequest() {
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                urls.add(url);
+                return super.execute(url, request);
+            }
+        }, txManager, executor);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldShareLoadedObjectsBetweenConcurrentOperations() throws Exception {
+        List<Future<Collection<Bike>>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(session.loadAllAsync(Bike.class, 1, null));
+        }
+
+        Bike bike = session.loadAsync(Bike.class, 15L, 1, null).get();
+        for (Future<Collection<Bike>> future : futures) {
+            Collection<Bike> bikes = future.get();
+            assertEquals(1, bikes.size());
+            assertSame(bike, bikes.iterator().next());
+        }
+        assertEquals(2, bike.getWheels().size());
+        assertSame(bike, session.session().load(Bike.class, 15L));
+    }
+
+    @Test
+    public void shouldAutoCommitOperationsWithoutTransaction() throws Exception {
+        session.loadAsync(Bike.class, 15L, 1, null).get();
+
+        assertEquals(1, urls.size());
+        assertTrue(urls.contains("http://localhost:7474/db/data/transaction/commit"));
+    }
+
+    @Test
+    public void shouldExecuteOperationsInTheTransactionTheyAreGiven() throws Exception {
+        Transaction tx = session.beginTransactionAsync().get();
+        assertEquals("http://localhost:7474/db/data/transaction/1", tx.url());
+
+        session.loadAllAsync(Bike.class, 1, tx).get();
+        session.commitAsync(tx).get();
+
+        assertEquals(1, urls.size());
+        assertTrue(urls.contains(tx.url()));
+        assertEquals(Transaction.Status.COMMITTED, tx.status());
+    }
+
+    @Test
+    public void shouldNotHoldUpOtherOperationsWhileReadingAResponse() throws Exception {
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicInteger requests = new AtomicInteger();
+
+        AsyncSession stallingSession = new SessionFactory("org.neo4j.ogm.domain.bike").openAsyncSession(new BikeRequest() {
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                final Neo4jResponse<String> response = super.execute(url, request);
+                if (requests.incrementAndGet() > 1) {
+                    return response;
+                }
+                // the first response stalls after its first record until the second operation has completed
+                return new Neo4jResponse<String>() {
+                    private boolean read;
+
+                    @Override
+                    public String next() {
+                        if (read) {
+                            reading.countDown();
+                            try {
+                                released.await(5, TimeUnit.SECONDS);
+                            } catch (InterruptedException e) {
+                                throw new RuntimeException(e);
+                            }
+                        }
+                        read = true;
+                        return response.next();
+                    }
+
+                    @Override
+                    public void close() {
+                        response.close();
+                    }
+
+                    @Override
+                    public void initialiseScan(String token) {
+                        response.initialiseScan(token);
+                    }
+
+                    @Override
+                    public String[] columns() {
+                        return response.columns();
+                    }
+
+                    @Override
+                    public int rowId() {
+                        return response.rowId();
+                    }
+                };
+            }
+        }, txManager, executor);
+
+        Future<Collection<Bike>> stalled = stallingSession.loadAllAsync(Bike.class, 1, null);
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+
+        Bike bike = stallingSession.loadAsync(Bike.class, 15L, 1, null).get(2, TimeUnit.SECONDS);
+        released.countDown();
+
+        assertSame(bike, stalled.get().iterator().next());
+    }
+
+    @Test
+    public void shouldRunEveryOperationOfAThreadBoundTransactionOnOneThread() throws Exception {
+        final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        TransactionManager threadBoundTxManager = new ThreadBoundTransactionManager(threads);
+        AsyncSession threadBoundSession = new SessionFactory("org.neo4j.ogm.domain.bike").openAsyncSession(new BikeRequest() {
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                threads.add(Thread.currentThread());
+                return super.execute(url, request);
+            }
+        }, threadBoundTxManager, executor);
+
+        Transaction tx = threadBoundSession.beginTransactionAsync().get();
+        List<Future<Bike>> loads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            loads.add(threadBoundSession.loadAsync(Bike.class, 15L, 1, tx));
+        }
+        for (Future<Bike> load : loads) {
+            assertNotNull(load.get());
+        }
+        threadBoundSession.commitAsync(tx).get();
+
+        assertEquals(1, threads.size());
+        assertEquals(Transaction.Status.COMMITTED, tx.status());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectThreadBoundTransactionsNotBegunAsynchronously() {
+        TransactionManager threadBoundTxManager = new ThreadBoundTransactionManager(new HashSet<Thread>());
+        AsyncSession threadBoundSession = new SessionFactory("org.neo4j.ogm.domain.bike").openAsyncSession(new BikeRequest(), threadBoundTxManager, executor);
+
+        threadBoundSession.loadAsync(Bike.class, 15L, 1, threadBoundSession.session().beginTransaction());
+    }
+
+    @Test
+    public void shouldNotBindTransactionsToTheThreadThatBeganThem() {
+        MappingContext mappingContext = new MappingContext(new MetaData("org.neo4j.ogm.domain.bike"));
+
+        Transaction current = txManager.openTransaction(mappingContext);
+        Transaction other = txManager.newTransaction(mappingContext);
+        assertSame(current, txManager.getCurrentTransaction());
+
+        other.commit();
+        assertSame(current, txManager.getCurrentTransaction());
+
+        current.commit();
+        assertNull(txManager.getCurrentTransaction());
+    }
+
+    /**
+     * Pretends that its transactions are bound to a thread, recording the threads that begin and end them.
+     */
+    private static class ThreadBoundTransactionManager extends TransactionManagerProxy {
+
+        private final Set<Thread> threads;
+
+        ThreadBoundTransactionManager(Set<Thread> threads) {
+            this.threads = threads;
+        }
+
+        @Override
+        public boolean isThreadBound() {
+            return true;
+        }
+
+        @Override
+        protected String newTransactionEndpointUrl() {
+            threads.add(Thread.currentThread());
+            return super.newTransactionEndpointUrl();
+        }
+
+        @Override
+        protected void commitTransaction(String transactionEndpoint) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        protected void rollbackTransaction(String transactionEndpoint) {
+            threads.add(Thread.currentThread());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.TransactionManagerProxy;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.Neo4jRequest;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.Transaction;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ChunkedLoadTest {
+
+    private static final List<Long> IDS = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+    private final List<List<Long>> chunks = Collections.synchronizedList(new ArrayList<List<Long>>());
+    private final Set<String> urls = Collections.synchronizedSet(new HashSet<String>());
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final TransactionManager txManager = new TransactionManagerProxy();
+
+    private SessionFactory sessionFactory;
+    private ExecutorService executor;
+    private CountDownLatch allInFlight = new CountDownLatch(0);
+
+    @Before
+    public void setUp() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.bike");
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldLoadAllIdsInOneRequestByDefault() {
+        Collection<Bike> bikes = openSession().loadAll(Bike.class, IDS, 1);
+
+        assertEquals(5, bikes.size());
+        assertEquals(Collections.singletonList(IDS), chunks);
+    }
+
+    @Test
+    public void shouldLoadIdsInChunks() {
+        sessionFactory.setLoadChunking(2, null);
+        Session session = openSession();
+
+        Collection<Bike> bikes = session.loadAll(Bike.class, IDS, 1);
+
+        assertEquals(5, bikes.size());
+        assertEquals(Arrays.asList(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Collections.singletonList(5L)), chunks);
+        assertEquals(1, maxInFlight.get());
+        assertEquals(3, session.loadChunkStatistics().getChunks());
+        assertTrue(session.loadChunkStatistics().getMaxLatencyMillis() >= session.loadChunkStatistics().getMeanLatencyMillis());
+    }
+
+    @Test
+    public void shouldLoadChunksConcurrentlyOutsideTransaction() {
+        sessionFactory.setLoadChunking(2, executor);
+        // no request completes until all three chunks have been requested
+        allInFlight = new CountDownLatch(3);
+
+        Collection<Bike> bikes = openSession().loadAll(Bike.class, IDS, 1);
+
+        assertEquals(3, maxInFlight.get());
+        assertEquals(5, bikes.size());
+        Set<Long> ids = new HashSet<>();
+        Set<Object> wheels = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        for (Bike bike : bikes) {
+            ids.add(bike.getId());
+            wheels.addAll(bike.getWheels());
+        }
+        assertEquals(new HashSet<>(IDS), ids);
+        // the wheel returned with every chunk is mapped to one object, shared by all the bikes
+        assertEquals(1, wheels.size());
+    }
+
+    @Test
+    public void shouldLoadChunksOneAtATimeInTransaction() {
+        sessionFactory.setLoadChunking(2, executor);
+        Session session = openSession();
+
+        try (Transaction tx = session.beginTransaction()) {
+            assertEquals(5, session.loadAll(Bike.class, IDS, 1).size());
+            assertEquals(Collections.singleton(tx.url()), urls);
+        }
+        assertEquals(3, chunks.size());
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldFailLoadWhenAnyChunkFails() {
+        sessionFactory.setLoadChunking(2, executor);
+
+        openSession().loadAll(Bike.class, Arrays.asList(1L, 2L, 3L, -1L), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyChunks() {
+        sessionFactory.setLoadChunking(0, null);
+    }
+
+    private Session openSession() {
+        return sessionFactory.openSession(new Neo4jRequest<String>() {
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                ParameterisedStatement statement = request.getStatements().get(0);
+                @SuppressWarnings("unchecked")
+                List<Long> ids = new ArrayList<>((Collection<Long>) statement.getParameters().get("ids"));
+                chunks.add(ids);
+                urls.add(url);
+                int requests = inFlight.incrementAndGet();
+                try {
+                    synchronized (maxInFlight) {
+                        maxInFlight.set(Math.max(maxInFlight.get(), requests));
+                    }
+                    allInFlight.countDown();
+                    allInFlight.await(5, TimeUnit.SECONDS);
+                    if (ids.contains(-1L)) {
+                        throw new IllegalStateException("No such bike");
+                    }
+                    return new BikesResponse(ids);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+        }, txManager);
+    }
+
+    /**
+     * The bikes with the requested ids, all of them with the same wheel.
+     */
+    private static class BikesResponse implements Neo4jResponse<String> {
+
+        private String json;
+
+        BikesResponse(List<Long> ids) {
+            StringBuilder nodes = new StringBuilder("{\"id\" : \"100\",\"labels\" : [ \"Wheel\" ],\"properties\" : {\"spokes\" : 3 } }");
+            StringBuilder relationships = new StringBuilder();
+            for (Long id : ids) {
+                nodes.append(", {\"id\" : \"").append(id).append("\",\"labels\" : [ \"Bike\"], \"properties\" : { \"brand\" : \"Brand ").append(id).append("\" } }");
+                if (relationships.length() > 0) {
+                    relationships.append(", ");
+                }
+                relationships.append("{\"id\":\"").append(1000 + id).append("\",\"type\":\"HAS_WHEEL\",\"startNode\":\"").append(id).append("\",\"endNode\":\"100\",\"properties\":{}}");
+            }
+            json = "{\"graph\": { \"nodes\" :[ " + nodes + " ], \"relationships\": [ " + relationships + " ] } }";
+        }
+
+        @Override
+        public String next() {
+            String next = json;
+            json = null;
+            return next;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void initialiseScan(String token) {
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[0];
+        }
+
+        @Override
+        public int rowId() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package org.neo4j.ogm.unit.session;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.HttpResponseException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.session.ConnectionConfiguration;
+import org.neo4j.ogm.session.ConnectionPoolStatistics;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.result.ResultProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+import static org.junit.Assert.*;
+
+public class ConnectionPoolTest {
+
+    private HttpServer server;
+    private volatile int status = 200;
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                try (InputStream request = exchange.getRequestBody()) {
+                    while (request.read() != -1);
+                }
+                byte[] body = (status == 200 ? "{\"results\":[],\"errors\":[]}" : "{\"errors\":[]}").getBytes("UTF-8");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream response = exchange.getResponseBody()) {
+                    response.write(body);
+                }
+            }
+        });
+        server.start();
+
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setMaxConnections(1);
+        configuration.setConnectionRequestTimeout(2000);
+        sessionFactory = new SessionFactory(configuration, "org.neo4j.ogm.domain.bike");
+    }
+
+    @After
+    public void tearDown() {
+        sessionFactory.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldReportTheConfiguredPoolSize() {
+        ConnectionPoolStatistics statistics = sessionFactory.connectionPoolStatistics();
+        assertEquals(1, statistics.getMax());
+        assertEquals(0, statistics.getLeased());
+        assertEquals(0, statistics.getAvailable());
+        assertEquals(0, statistics.getPending());
+    }
+
+    @Test
+    public void shouldReuseConnectionOnceResponseIsRead() {
+        Session session = sessionFactory.openSession(url());
+        for (int i = 0; i < 3; i++) {
+            session.execute("MATCH (n) RETURN n");
+        }
+        ConnectionPoolStatistics statistics = sessionFactory.connectionPoolStatistics();
+        assertEquals(0, statistics.getLeased());
+        assertEquals(1, statistics.getAvailable());
+    }
+
+    @Test
+    public void shouldReleaseConnectionWhenServerRejectsRequest() {
+        status = 500;
+        Session session = sessionFactory.openSession(url());
+        for (int i = 0; i < 3; i++) {
+            try {
+                session.execute("MATCH (n) RETURN n");
+                fail("The request should have been rejected");
+            } catch (ResultProcessingException e) {
+                assertEquals(500, ((HttpResponseException) e.getCause()).getStatusCode());
+            }
+        }
+        assertEquals(0, sessionFactory.connectionPoolStatistics().getLeased());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectEmptyPool() {
+        new ConnectionConfiguration().setMaxConnectionsPerRoute(0);
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+}
@@ -0,0 +1,75 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.RequestProxy;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.network.Member;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class FetchPlanTest {
+
+    private static final String MEMBER_AND_FRIEND =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"1\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Jim\" } }, " +
+                    "{\"id\" : \"2\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Gary\" } } " +
+                    "], " +
+                "\"relationships\": [" +
+                    "{\"id\":\"101\",\"type\":\"FRIENDS\",\"startNode\":\"1\",\"endNode\":\"2\",\"properties\":{}} " +
+                    "] " +
+            "} }";
+
+    private final List<String> statements = new ArrayList<>();
+    private Session session;
+
+    @Before
+    public void setUp() {
+        session = new SessionFactory("org.neo4j.ogm.domain.network").openSession(new RequestProxy() {
+
+            @Override
+            protected String[] getResponse() {
+                return new String[] { MEMBER_AND_FRIEND };
+            }
+
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                statements.add(request.getStatements().get(0).getStatement());
+                return super.execute(url, request);
+            }
+        }, new TransactionManager(null, "http://localhost:7474"));
+    }
+
+    @Test
+    public void shouldDeclareFetchPlanWithAnnotations() {
+        FetchPlan fetchPlan = session.fetchPlan(Member.class);
+
+        assertEquals(1, fetchPlan.getTraversals().size());
+        FetchPlan.Traversal traversal = fetchPlan.getTraversals().get(0);
+        assertEquals("FRIENDS", traversal.getRelationshipType());
+        assertEquals(Relationship.OUTGOING, traversal.getDirection());
+        assertEquals(2, traversal.getDepth());
+    }
+
+    @Test
+    public void shouldLoadOnlyTheRelationshipsThePlanFollows() {
+        Member member = session.load(Member.class, 1L, session.fetchPlan(Member.class));
+
+        assertEquals(1, statements.size());
+        assertEquals("MATCH (n) WHERE id(n) = { id } MATCH p0=(n)-[:FRIENDS*0..2]->() WITH n, collect(distinct p0) AS paths0 RETURN paths0",
+                statements.get(0));
+        assertEquals("Jim", member.getName());
+        assertEquals(1, member.getFriends().size());
+        assertEquals("Gary", member.getFriends().get(0).getName());
+    }
+}
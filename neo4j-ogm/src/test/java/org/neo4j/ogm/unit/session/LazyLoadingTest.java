@@ -0,0 +1,238 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.RequestProxy;
+import org.neo4j.ogm.TransactionManagerProxy;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.domain.bike.Wheel;
+import org.neo4j.ogm.domain.network.Group;
+import org.neo4j.ogm.domain.network.Member;
+import org.neo4j.ogm.mapper.LazyCollection;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class LazyLoadingTest {
+
+    private static final String BIKE =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"15\",\"labels\" : [ \"Bike\"], \"properties\" : { \"colours\" :[\"red\", \"black\"] } } " +
+                    "], " +
+                "\"relationships\": [] " +
+            "} }";
+
+    private static final String BIKE_AND_WHEELS =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"15\",\"labels\" : [ \"Bike\"], \"properties\" : { \"colours\" :[\"red\", \"black\"] } }, " +
+                    "{\"id\" : \"16\",\"labels\" : [ \"Wheel\", \"FrontWheel\" ],\"properties\" : {\"spokes\" : 3 } }, " +
+                    "{\"id\" : \"17\",\"labels\" : [ \"Wheel\", \"BackWheel\" ],\"properties\" : {\"spokes\" : 5 } } " +
+                    "], " +
+                "\"relationships\": [" +
+                    "{\"id\":\"141\",\"type\":\"HAS_WHEEL\",\"startNode\":\"15\",\"endNode\":\"16\",\"properties\":{ \"purchased\" : 20130917 }}, " +
+                    "{\"id\":\"142\",\"type\":\"HAS_WHEEL\",\"startNode\":\"15\",\"endNode\":\"17\",\"properties\":{ \"purchased\" : 20130917 }} " +
+                    "] " +
+            "} }";
+
+    // the related objects are returned without the object whose relationships are followed
+    private static final String WHEELS =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"16\",\"labels\" : [ \"Wheel\", \"FrontWheel\" ],\"properties\" : {\"spokes\" : 3 } }, " +
+                    "{\"id\" : \"17\",\"labels\" : [ \"Wheel\", \"BackWheel\" ],\"properties\" : {\"spokes\" : 5 } } " +
+                    "], " +
+                "\"relationships\": [" +
+                    "{\"id\":\"141\",\"type\":\"HAS_WHEEL\",\"startNode\":\"15\",\"endNode\":\"16\",\"properties\":{ \"purchased\" : 20130917 }}, " +
+                    "{\"id\":\"142\",\"type\":\"HAS_WHEEL\",\"startNode\":\"15\",\"endNode\":\"17\",\"properties\":{ \"purchased\" : 20130917 }} " +
+                    "] " +
+            "} }";
+
+    private static final String GROUP =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"20\",\"labels\" : [ \"Group\"], \"properties\" : { \"name\" : \"Cyclists\" } } " +
+                    "], " +
+                "\"relationships\": [] " +
+            "} }";
+
+    private static final String GROUP_AND_MEMBERS =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"20\",\"labels\" : [ \"Group\"], \"properties\" : { \"name\" : \"Cyclists\" } }, " +
+                    "{\"id\" : \"21\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Vince\" } }, " +
+                    "{\"id\" : \"22\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Luanne\" } } " +
+                    "], " +
+                "\"relationships\": [" +
+                    "{\"id\":\"151\",\"type\":\"MEMBER_OF\",\"startNode\":\"21\",\"endNode\":\"20\",\"properties\":{}}, " +
+                    "{\"id\":\"152\",\"type\":\"MEMBER_OF\",\"startNode\":\"22\",\"endNode\":\"20\",\"properties\":{}} " +
+                    "] " +
+            "} }";
+
+    // the members are at the start of the relationships that are followed into the group
+    private static final String MEMBERS =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"21\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Vince\" } }, " +
+                    "{\"id\" : \"22\",\"labels\" : [ \"Member\"], \"properties\" : { \"name\" : \"Luanne\" } } " +
+                    "], " +
+                "\"relationships\": [" +
+                    "{\"id\":\"151\",\"type\":\"MEMBER_OF\",\"startNode\":\"21\",\"endNode\":\"20\",\"properties\":{}}, " +
+                    "{\"id\":\"152\",\"type\":\"MEMBER_OF\",\"startNode\":\"22\",\"endNode\":\"20\",\"properties\":{}} " +
+                    "] " +
+            "} }";
+
+    private final List<String> statements = new ArrayList<>();
+    private final TransactionManager txManager = new TransactionManagerProxy();
+
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void setUp() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.bike");
+    }
+
+    @Test
+    public void shouldNotLoadCollectionsLazilyByDefault() {
+        Bike bike = openSession(BIKE).load(Bike.class, 15L, 0);
+
+        assertNull(bike.getWheels());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldLoadCollectionBeyondLoadDepthWhenFirstAccessed() {
+        sessionFactory.setLazyLoading(true);
+        Bike bike = openSession(BIKE).load(Bike.class, 15L, 0);
+
+        assertTrue(bike.getWheels() instanceof LazyCollection);
+        assertFalse(((LazyCollection) bike.getWheels()).isLoaded());
+        assertEquals(1, statements.size());
+
+        assertEquals(2, bike.getWheels().size());
+        assertTrue(((LazyCollection) bike.getWheels()).isLoaded());
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(1).contains("RETURN r, m"));
+
+        int spokes = 0;
+        for (Wheel wheel : bike.getWheels()) {
+            spokes += wheel.getSpokes();
+        }
+        assertEquals(8, spokes);
+        assertEquals(2, statements.size());
+    }
+
+    @Test
+    public void shouldLoadCollectionsWithinLoadDepthEagerly() {
+        sessionFactory.setLazyLoading(true);
+        Bike bike = openSession(BIKE_AND_WHEELS).load(Bike.class, 15L, 1);
+
+        assertFalse(bike.getWheels() instanceof LazyCollection);
+        assertEquals(2, bike.getWheels().size());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldNotLoadUnloadedCollectionWhenSaving() {
+        sessionFactory.setLazyLoading(true);
+        Session session = openSession(BIKE);
+        Bike bike = session.load(Bike.class, 15L, 0);
+
+        bike.setBrand("Huffy");
+        session.save(bike);
+
+        assertFalse(((LazyCollection) bike.getWheels()).isLoaded());
+        for (String statement : statements) {
+            assertFalse(statement, statement.contains("RETURN r, m"));
+        }
+    }
+
+    @Test
+    public void shouldLoadCollectionOfIncomingRelationshipsBeyondLoadDepthWhenFirstAccessed() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.network");
+        sessionFactory.setLazyLoading(true);
+        Group group = openSession(GROUP, MEMBERS).load(Group.class, 20L, 0);
+
+        assertTrue(group.getMembers() instanceof LazyCollection);
+        assertFalse(((LazyCollection) group.getMembers()).isLoaded());
+        assertEquals(1, statements.size());
+
+        assertEquals(2, group.getMembers().size());
+        assertTrue(((LazyCollection) group.getMembers()).isLoaded());
+        assertEquals(2, statements.size());
+        assertTrue(statements.get(1), statements.get(1).contains("MATCH (n)<-[r]-(m)"));
+
+        List<String> names = new ArrayList<>();
+        for (Member member : group.getMembers()) {
+            names.add(member.getName());
+        }
+        assertTrue(names.containsAll(Arrays.asList("Vince", "Luanne")));
+
+        // the members' own collections are beyond the load, and they are followed outwards from the members
+        assertTrue(group.getMembers().get(0).getFriends() instanceof LazyCollection);
+        assertFalse(((LazyCollection) group.getMembers().get(0).getFriends()).isLoaded());
+    }
+
+    @Test
+    public void shouldLoadCollectionsOfIncomingRelationshipsWithinLoadDepthEagerly() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.network");
+        sessionFactory.setLazyLoading(true);
+        Group group = openSession(GROUP_AND_MEMBERS, MEMBERS).load(Group.class, 20L, 1);
+
+        assertFalse(group.getMembers() instanceof LazyCollection);
+        assertEquals(2, group.getMembers().size());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldMapIncomingRelationshipsOntoTheirCollection() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.network");
+        Group group = openSession(GROUP_AND_MEMBERS, MEMBERS).load(Group.class, 20L, 1);
+
+        assertEquals(2, group.getMembers().size());
+        // the members don't hold the groups they are members of, and the relationships don't make them friends
+        for (Member member : group.getMembers()) {
+            assertNull(member.getFriends());
+        }
+    }
+
+    private Session openSession(String load) {
+        return openSession(load, WHEELS);
+    }
+
+    private Session openSession(final String load, final String related) {
+        return sessionFactory.openSession(new RequestProxy() {
+
+            private String[] response;
+
+            @Override
+            protected String[] getResponse() {
+                return response;
+            }
+
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                ParameterisedStatement statement = request.getStatements().get(0);
+                statements.add(statement.getStatement());
+                if (!Arrays.asList(statement.getResultDataContents()).contains("graph")) {
+                    response = new String[0];
+                } else if (statement.getStatement().contains("RETURN r, m")) {
+                    response = new String[] { related };
+                } else {
+                    response = new String[] { load };
+                }
+                return super.execute(url, request);
+            }
+        }, txManager);
+    }
+}
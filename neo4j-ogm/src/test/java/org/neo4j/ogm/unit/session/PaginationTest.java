@@ -0,0 +1,95 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.RequestProxy;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PaginationTest {
+
+    // the bikes are returned in an order of their own, unlike their ids
+    private static final String BIKES =
+            "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"15\",\"labels\" : [ \"Bike\"], \"properties\" : { \"brand\" : \"Raleigh\" } }, " +
+                    "{\"id\" : \"16\",\"labels\" : [ \"Bike\"], \"properties\" : { \"brand\" : \"Huffy\" } }, " +
+                    "{\"id\" : \"17\",\"labels\" : [ \"Bike\"], \"properties\" : { \"brand\" : \"Brompton\" } } " +
+                    "], " +
+                "\"relationships\": [] " +
+            "} }";
+
+    private final List<ParameterisedStatement> statements = new ArrayList<>();
+    private Session session;
+    private String[] rows;
+
+    @Before
+    public void setUp() {
+        session = new SessionFactory("org.neo4j.ogm.domain.bike").openSession(new RequestProxy() {
+
+            private String[] response;
+
+            @Override
+            protected String[] getResponse() {
+                return response;
+            }
+
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                ParameterisedStatement statement = request.getStatements().get(0);
+                statements.add(statement);
+                response = Arrays.asList(statement.getResultDataContents()).contains("graph") ? new String[] { BIKES } : rows;
+                return super.execute(url, request);
+            }
+        }, new TransactionManager(null, "http://localhost:7474"));
+    }
+
+    @Test
+    public void shouldReturnPageInTheOrderItsIdsWereFound() {
+        rows = new String[] { "{\"row\": [17]}", "{\"row\": [15]}" };
+
+        Collection<Bike> bikes = session.loadAll(Bike.class, new Pagination(1, 2), new SortOrder().add("brand"), 1);
+
+        List<String> brands = new ArrayList<>();
+        for (Bike bike : bikes) {
+            brands.add(bike.getBrand());
+        }
+        assertEquals(Arrays.asList("Brompton", "Raleigh"), brands);
+
+        assertEquals(2, statements.size());
+        assertEquals("MATCH (n:Bike) WITH n ORDER BY n.brand ASC, id(n) SKIP { skip } LIMIT { limit } RETURN id(n)", statements.get(0).getStatement());
+        assertEquals(2L, statements.get(0).getParameters().get("skip"));
+        assertEquals(Arrays.asList(17L, 15L), statements.get(1).getParameters().get("ids"));
+    }
+
+    @Test
+    public void shouldNotLoadAnythingForEmptyPage() {
+        rows = new String[0];
+
+        assertTrue(session.loadAll(Bike.class, new Pagination(5, 10), null, 1).isEmpty());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    public void shouldCountWithoutLoading() {
+        rows = new String[] { "{\"row\": [3]}" };
+
+        assertEquals(3, session.countEntitiesOfType(Bike.class));
+        assertEquals(1, statements.size());
+        assertEquals("MATCH (n:Bike) RETURN count(n)", statements.get(0).getStatement());
+    }
+}
@@ -0,0 +1,223 @@
+package org.neo4j.ogm.unit.session;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.bike.Bike;
+import org.neo4j.ogm.mapper.EvictionPolicy;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.query.Query;
+import org.neo4j.ogm.session.request.Neo4jRequest;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+import org.neo4j.ogm.session.transaction.TransactionManager;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class StreamingQueryTest {
+
+    private static final int RECORDS = 200000;
+
+    // one in so many of the objects returned is watched, to count how many of them are still reachable
+    private static final int SAMPLE_INTERVAL = 1000;
+
+    private final List<String> statements = new ArrayList<>();
+    private SessionFactory sessionFactory;
+    private GeneratedResponse response;
+
+    @Before
+    public void setUp() {
+        sessionFactory = new SessionFactory("org.neo4j.ogm.domain.bike");
+    }
+
+    @Test
+    public void shouldNotKeepObjectsOfRecordsAlreadyReturned() {
+        sessionFactory.setEvictionPolicy(EvictionPolicy.weakReferences());
+        Session session = openSession(new GeneratedResponse(RECORDS) {
+            @Override
+            String record(int i) {
+                return bikeRecord(i, "");
+            }
+        });
+
+        int count = 0;
+        List<WeakReference<Bike>> sampled = new ArrayList<>();
+
+        try (Query<Bike> query = session.createLoadAllQuery(Bike.class, 0).execute()) {
+            Bike bike;
+            while ((bike = query.next()) != null) {
+                assertEquals(Long.valueOf(count), bike.getId());
+                if (count++ % SAMPLE_INTERVAL == 0) {
+                    sampled.add(new WeakReference<>(bike));
+                }
+            }
+        }
+
+        assertEquals(RECORDS, count);
+        assertTrue(response.closed);
+        collectGarbage();
+        int reachable = 0;
+        for (WeakReference<Bike> reference : sampled) {
+            if (reference.get() != null) {
+                reachable++;
+            }
+        }
+        assertEquals(0, reachable);
+    }
+
+    @Test
+    public void shouldMapEachRecordAsItIsRead() {
+        Session session = openSession(new GeneratedResponse(3) {
+            @Override
+            String record(int i) {
+                return bike(i, "");
+            }
+        });
+
+        Query<Bike> query = session.createQuery(Bike.class, "MATCH (n:Bike) RETURN n", Collections.<String, Object>emptyMap()).execute();
+
+        assertEquals(Long.valueOf(0), query.next().getId());
+        assertEquals(1, response.read);
+        assertEquals(Long.valueOf(1), query.next().getId());
+        assertEquals(2, response.read);
+
+        query.close();
+        assertTrue(response.closed);
+        assertNull(query.next());
+    }
+
+    @Test
+    public void shouldStreamScalars() {
+        Session session = openSession(new GeneratedResponse(5) {
+            @Override
+            String record(int i) {
+                return "{\"row\": [" + i * i + "]}";
+            }
+        });
+
+        List<Integer> squares = new ArrayList<>();
+        try (Query<Integer> query = session.createQuery(Integer.class, "MATCH (n) RETURN count(n)", Collections.<String, Object>emptyMap()).execute()) {
+            Integer square;
+            while ((square = query.next()) != null) {
+                squares.add(square);
+            }
+        }
+
+        assertEquals(Arrays.asList(0, 1, 4, 9, 16), squares);
+    }
+
+    @Test
+    public void shouldReturnOnlyTheObjectEachRecordIsForWhenLoadingToDepth() {
+        // the bikes are returned in no particular order, and each is related to the bike after it, which appears in
+        // its record too
+        final int[] ids = { 2, 0, 3, 1 };
+        Session session = openSession(new GeneratedResponse(ids.length) {
+            @Override
+            String record(int i) {
+                return bikeRecord(ids[i], ", {\"id\" : \"" + (ids[i] + 1) + "\",\"labels\" : [ \"Bike\"], \"properties\" : {} }");
+            }
+        });
+
+        List<Long> loaded = new ArrayList<>();
+        try (Query<Bike> query = session.createLoadAllQuery(Bike.class, 1).execute()) {
+            Bike bike;
+            while ((bike = query.next()) != null) {
+                loaded.add(bike.getId());
+            }
+        }
+
+        assertEquals(Arrays.asList(2L, 0L, 3L, 1L), loaded);
+        assertTrue(statements.get(0).contains("RETURN id(n), paths"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldNotReadQueryThatHasNotBeenExecuted() {
+        openSession(new GeneratedResponse(1) {
+            @Override
+            String record(int i) {
+                return bike(i, "");
+            }
+        }).createLoadAllQuery(Bike.class, 0).next();
+    }
+
+    // a record of a load, which returns the id of the bike it is for along with the graph
+    private static String bikeRecord(int id, String otherNodes) {
+        return "{\"row\": [" + id + "], " + bike(id, otherNodes).substring(1);
+    }
+
+    private static String bike(int id, String otherNodes) {
+        return "{\"graph\": { " +
+                "\"nodes\" :[ " +
+                    "{\"id\" : \"" + id + "\",\"labels\" : [ \"Bike\"], \"properties\" : { \"colours\" :[\"red\", \"black\"], \"brand\" : \"Brand " + id + "\" } }" +
+                    otherNodes +
+                "], " +
+                "\"relationships\": [] " +
+            "} }";
+    }
+
+    private static void collectGarbage() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+    }
+
+    private Session openSession(final GeneratedResponse generatedResponse) {
+        response = generatedResponse;
+        return sessionFactory.openSession(new Neo4jRequest<String>() {
+            @Override
+            public Neo4jResponse<String> execute(String url, ParameterisedStatements request) {
+                for (ParameterisedStatement statement : request.getStatements()) {
+                    statements.add(statement.getStatement());
+                }
+                return generatedResponse;
+            }
+        }, new TransactionManager(null, "http://localhost:7474"));
+    }
+
+    /**
+     * A response whose records are generated as they are read, so that the test itself holds none of them.
+     */
+    private static abstract class GeneratedResponse implements Neo4jResponse<String> {
+
+        private final int records;
+        int read;
+        boolean closed;
+
+        GeneratedResponse(int records) {
+            this.records = records;
+        }
+
+        abstract String record(int i);
+
+        @Override
+        public String next() {
+            return read < records ? record(read++) : null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public void initialiseScan(String token) {
+        }
+
+        @Override
+        public String[] columns() {
+            return new String[] { "n" };
+        }
+
+        @Override
+        public int rowId() {
+            return read - 1;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.neo4j.ogm.unit.session.request;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.domain.education.School;
+import org.neo4j.ogm.domain.education.Student;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.Neo4jRequest;
+import org.neo4j.ogm.session.response.JsonResponse;
+import org.neo4j.ogm.session.response.Neo4jResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CollectionSaveTest {
+
+    private static final SessionFactory sessionFactory = new SessionFactory("org.neo4j.ogm.domain.education");
+
+    private Neo4jSession session;
+    private RecordingRequest request;
+
+    @Before
+    public void setUp() {
+        session = (Neo4jSession) sessionFactory.openSession("dummy-url");
+        request = new RecordingRequest();
+        session.setRequest(request);
+    }
+
+    @Test
+    public void shouldSaveCollectionInSingleRequest() {
+
+        Student gary = new Student("Gary");
+        Student sheila = new Student("Sheila");
+        Student xavier = new Student("Xavier");
+        xavier.setId(1L);
+
+        request.response = "{\"results\":[" +
+                "{\"columns\":[\"ref\",\"id\"],\"data\":[{\"row\":[\"_0\",10]},{\"row\":[\"_1\",11]}]}," +
+                "{\"columns\":[],\"data\":[]}" +
+                "],\"errors\":[]}";
+
+        session.save(Arrays.asList(gary, xavier, sheila));
+
+        assertEquals(1, request.requests.size());
+
+        List<ParameterisedStatement> statements = request.requests.get(0);
+        assertEquals(2, statements.size());
+        assertEquals("UNWIND {rows} AS row CREATE (n:`Student`:`DomainObject`) SET n=row.props RETURN row.ref AS ref, id(n) AS id",
+                statements.get(0).getStatement());
+        assertEquals("UNWIND {rows} AS row MATCH (n) WHERE id(n)=row.id SET n:`Student`:`DomainObject`, n+=row.props",
+                statements.get(1).getStatement());
+        assertEquals(1L, rows(statements.get(1), "rows").get(0).get("id"));
+
+        assertEquals(Long.valueOf(10), gary.getId());
+        assertEquals(Long.valueOf(11), sheila.getId());
+    }
+
+    @Test
+    public void shouldSaveArrayInSingleRequest() {
+
+        request.response = "{\"results\":[{\"columns\":[\"ref\",\"id\"],\"data\":[{\"row\":[\"_0\",12]}]}],\"errors\":[]}";
+
+        Student gary = new Student("Gary");
+        session.save(new Student[] { gary });
+
+        assertEquals(1, request.requests.size());
+        assertEquals(Long.valueOf(12), gary.getId());
+    }
+
+    @Test
+    public void shouldLinkNewObjectsInTheSameRequestThatCreatesThem() {
+
+        School waller = new School("Waller");
+        Teacher mary = new Teacher("Mary");
+        mary.setSchool(waller);
+
+        session.save(Arrays.asList(waller, mary));
+
+        // one request, committed as it is executed rather than in a transaction begun and committed separately
+        assertEquals(1, request.requests.size());
+        assertTrue(request.urls.get(0).endsWith("/db/data/transaction/commit"));
+
+        List<ParameterisedStatement> statements = request.requests.get(0);
+        assertEquals(1, statements.size());
+        ParameterisedStatement statement = statements.get(0);
+        assertEquals("UNWIND {nodes0} AS row CREATE (n:`School`:`DomainObject`) SET n=row.props " +
+                        "WITH collect(n) AS nodes, collect([row.ref, id(n)]) AS refs " +
+                        "UNWIND {nodes1} AS row CREATE (n:`Teacher`) SET n=row.props " +
+                        "WITH nodes, refs, collect(n) AS created, collect([row.ref, id(n)]) AS createdRefs " +
+                        "WITH nodes + created AS nodes, refs + createdRefs AS refs " +
+                        "UNWIND {rels0} AS row OPTIONAL MATCH (s) WHERE id(s)=row.start OPTIONAL MATCH (e) WHERE id(e)=row.end " +
+                        "WITH nodes, refs, row, coalesce(s, nodes[row.startIndex]) AS s, coalesce(e, nodes[row.endIndex]) AS e " +
+                        "CREATE (s)-[r:`SCHOOL`]->(e) SET r=row.props " +
+                        "WITH nodes, refs, collect([row.ref, id(r)]) AS createdRefs " +
+                        "WITH nodes, refs + createdRefs AS refs " +
+                        "UNWIND {rels1} AS row OPTIONAL MATCH (s) WHERE id(s)=row.start OPTIONAL MATCH (e) WHERE id(e)=row.end " +
+                        "WITH nodes, refs, row, coalesce(s, nodes[row.startIndex]) AS s, coalesce(e, nodes[row.endIndex]) AS e " +
+                        "CREATE (s)-[r:`TEACHERS`]->(e) SET r=row.props " +
+                        "WITH nodes, refs, collect([row.ref, id(r)]) AS createdRefs " +
+                        "WITH nodes, refs + createdRefs AS refs " +
+                        "UNWIND refs AS created RETURN created[0] AS ref, created[1] AS id",
+                statement.getStatement());
+
+        // new nodes are taken from the list of created nodes: the school first, then the teacher
+        assertEquals(1, rows(statement, "rels0").get(0).get("startIndex"));
+        assertEquals(0, rows(statement, "rels0").get(0).get("endIndex"));
+        assertEquals(0, rows(statement, "rels1").get(0).get("startIndex"));
+        assertEquals(1, rows(statement, "rels1").get(0).get("endIndex"));
+
+        assertEquals(Long.valueOf(100), waller.getId());
+        assertEquals(Long.valueOf(101), mary.getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> rows(ParameterisedStatement statement, String parameter) {
+        return (List<Map<String, Object>>) statement.getParameters().get(parameter);
+    }
+
+    static class RecordingRequest implements Neo4jRequest<String> {
+
+        private final List<List<ParameterisedStatement>> requests = new ArrayList<>();
+        private final List<String> urls = new ArrayList<>();
+        private String response;
+
+        @Override
+        public Neo4jResponse<String> execute(String url, ParameterisedStatements statements) {
+            requests.add(statements.getStatements());
+            urls.add(url);
+            String json = response != null ? response : newIdentities(statements.getStatements().get(0));
+            return new JsonResponse(new ByteArrayInputStream(json.getBytes()));
+        }
+
+        // answers a statement creating new nodes and relationships with an identity for each, in the order they're created
+        private static String newIdentities(ParameterisedStatement statement) {
+            StringBuilder data = new StringBuilder();
+            long id = 100;
+            for (String parameter : new String[] { "nodes0", "nodes1", "rels0", "rels1" }) {
+                List<Map<String, Object>> rows = rows(statement, parameter);
+                for (int i = 0; rows != null && i < rows.size(); i++) {
+                    Map<String, Object> row = rows.get(i);
+                    if (data.length() > 0) {
+                        data.append(',');
+                    }
+                    data.append("{\"row\":[\"").append(row.get("ref")).append("\",").append(id++).append("]}");
+                }
+            }
+            return "{\"results\":[{\"columns\":[\"ref\",\"id\"],\"data\":[" + data + "]}],\"errors\":[]}";
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.neo4j.ogm.unit.session.request;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.session.ConnectionConfiguration;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.*;
+
+public class CompressionTest {
+
+    private static final String RESPONSE = "{\"results\":[{\"columns\":[\"count\"],\"data\":[{\"row\":[3]}]}],\"errors\":[]}";
+
+    private HttpServer server;
+    private final List<String> requestEncodings = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> requestBodies = Collections.synchronizedList(new ArrayList<String>());
+    private final List<Boolean> compressedResponses = Collections.synchronizedList(new ArrayList<Boolean>());
+    private SessionFactory sessionFactory;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+                requestEncodings.add(encoding);
+                try (InputStream request = "gzip".equals(encoding) ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+                    requestBodies.add(read(request));
+                }
+                String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+                byte[] body = RESPONSE.getBytes("UTF-8");
+                boolean compress = acceptEncoding != null && acceptEncoding.contains("gzip");
+                compressedResponses.add(compress);
+                if (compress) {
+                    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                    try (OutputStream gzip = new GZIPOutputStream(compressed)) {
+                        gzip.write(body);
+                    }
+                    body = compressed.toByteArray();
+                    exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                }
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream response = exchange.getResponseBody()) {
+                    response.write(body);
+                }
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        if (sessionFactory != null) {
+            sessionFactory.close();
+        }
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldNotCompressRequestsByDefault() {
+        Collection<Integer> counts = openSession(new ConnectionConfiguration()).query(Integer.class, "MATCH (n) RETURN count(n)", parameters(1000));
+
+        assertEquals(Collections.singletonList(3), new ArrayList<>(counts));
+        assertEquals(Collections.singletonList((String) null), requestEncodings);
+    }
+
+    @Test
+    public void shouldCompressRequestsAboveThreshold() {
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setRequestCompressionThreshold(512);
+        Session session = openSession(configuration);
+
+        session.query(Integer.class, "MATCH (n) RETURN count(n)", parameters(1));
+        session.query(Integer.class, "MATCH (n) RETURN count(n)", parameters(1000));
+
+        assertEquals(Arrays.asList(null, "gzip"), requestEncodings);
+        assertTrue(requestBodies.get(0).contains("\"p0\":\"value\""));
+        assertTrue(requestBodies.get(1).contains("\"p999\":\"value\""));
+    }
+
+    @Test
+    public void shouldReadCompressedResponses() {
+        Collection<Integer> counts = openSession(new ConnectionConfiguration()).query(Integer.class, "MATCH (n) RETURN count(n)", parameters(1));
+
+        assertEquals(Collections.singletonList(3), new ArrayList<>(counts));
+        assertEquals(Collections.singletonList(true), compressedResponses);
+    }
+
+    @Test
+    public void shouldNotAskForCompressedResponsesWhenDisabled() {
+        ConnectionConfiguration configuration = new ConnectionConfiguration();
+        configuration.setResponseCompression(false);
+        Collection<Integer> counts = openSession(configuration).query(Integer.class, "MATCH (n) RETURN count(n)", parameters(1));
+
+        assertEquals(Collections.singletonList(3), new ArrayList<>(counts));
+        assertEquals(Collections.singletonList(false), compressedResponses);
+    }
+
+    private Session openSession(ConnectionConfiguration configuration) {
+        sessionFactory = new SessionFactory(configuration, "org.neo4j.ogm.domain.bike");
+        return sessionFactory.openSession("http://localhost:" + server.getAddress().getPort());
+    }
+
+    private static Map<String, Object> parameters(int count) {
+        Map<String, Object> parameters = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            parameters.put("p" + i, "value");
+        }
+        return parameters;
+    }
+
+    private static String read(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            bytes.write(buffer, 0, read);
+        }
+        return bytes.toString("UTF-8");
+    }
+}
@@ -0,0 +1,57 @@
+package org.neo4j.ogm.unit.session.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatement;
+import org.neo4j.ogm.cypher.statement.ParameterisedStatements;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.session.request.JsonStatementsEntity;
+import org.neo4j.ogm.session.request.strategy.VariableDepthQuery;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class JsonStatementsEntityTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void shouldStreamStatementsAsJson() throws Exception {
+
+        List<ParameterisedStatement> statements = new ArrayList<>();
+        statements.add(new VariableDepthQuery().findOne(123L, 1));
+        statements.add(new ParameterisedStatement("MATCH (n) WHERE id(n) = { id } RETURN n", Utils.map("id", 42L)));
+
+        ParameterisedStatements parameterisedStatements = new ParameterisedStatements(statements);
+        JsonStatementsEntity entity = new JsonStatementsEntity(parameterisedStatements, mapper);
+
+        ClosingOutputStream outputStream = new ClosingOutputStream();
+        entity.writeTo(outputStream);
+
+        assertEquals(mapper.writeValueAsString(parameterisedStatements), outputStream.toString("UTF-8"));
+        assertFalse(outputStream.closed);
+        assertTrue(entity.isChunked());
+        assertEquals(-1, entity.getContentLength());
+        assertEquals("application/json;charset=UTF-8", entity.getContentType().getValue());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotReadStatementsBackIntoMemory() {
+        new JsonStatementsEntity(new ParameterisedStatements(new ArrayList<ParameterisedStatement>()), mapper).getContent();
+    }
+
+    static class ClosingOutputStream extends ByteArrayOutputStream {
+
+        boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
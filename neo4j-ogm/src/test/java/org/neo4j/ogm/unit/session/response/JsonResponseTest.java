@@ -0,0 +1,139 @@
+package org.neo4j.ogm.unit.session.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.session.response.GraphModelResponse;
+import org.neo4j.ogm.session.response.GraphRowModelResponse;
+import org.neo4j.ogm.session.response.JsonResponse;
+import org.neo4j.ogm.session.response.RowModelResponse;
+import org.neo4j.ogm.session.result.GraphRowModel;
+import org.neo4j.ogm.session.result.ResultProcessingException;
+import org.neo4j.ogm.session.result.RowModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static org.junit.Assert.*;
+
+public class JsonResponseTest {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void shouldReadColumnsAndRows() {
+
+        String json = "{\"commit\":\"http://localhost:7474/db/data/transaction/1/commit\"," +
+                "\"results\":[{\"columns\":[\"_0\",\"_1\"],\"data\":[{\"row\":[3,4]},{\"row\":[5,6]}]}]," +
+                "\"transaction\":{\"expires\":\"Wed, 25 Feb 2015 12:00:00 +0000\"},\"errors\":[]}";
+
+        try (RowModelResponse response = new RowModelResponse(new JsonResponse(stream(json)), mapper)) {
+
+            assertArrayEquals(new String[] { "_0", "_1" }, response.columns());
+
+            RowModel rowModel = response.next();
+            assertEquals(0, response.rowId());
+            assertEquals(3, rowModel.getValues()[0]);
+            assertEquals(4, rowModel.getValues()[1]);
+
+            rowModel = response.next();
+            assertEquals(1, response.rowId());
+            assertEquals(5, rowModel.getValues()[0]);
+
+            assertNull(response.next());
+        }
+    }
+
+    @Test
+    public void shouldNotBeConfusedByScanTokensInsideData() {
+
+        String json = "{\"results\":[{\"columns\":[\"n\"],\"data\":[" +
+                "{\"row\":[\"{\\\"row\\\":\"],\"graph\":{\"nodes\":[],\"relationships\":[]}}," +
+                "{\"row\":[\",{\\\"graph\"]}]}],\"errors\":[]}";
+
+        JsonResponse response = new JsonResponse(stream(json));
+        response.initialiseScan("row");
+
+        assertEquals("{\"row\":[\"{\\\"row\\\":\"]}", response.next());
+        assertEquals("{\"row\":[\",{\\\"graph\"]}", response.next());
+        assertNull(response.next());
+
+        response.close();
+    }
+
+    @Test
+    public void shouldReadGraphsFromMultipleResults() {
+
+        String json = "{\"results\":[" +
+                "{\"columns\":[\"p\"],\"data\":[{\"graph\":{\"nodes\":[{\"id\":\"1\",\"labels\":[\"Bike\"],\"properties\":{}}],\"relationships\":[]}}]}," +
+                "{\"columns\":[\"q\"],\"data\":[]}," +
+                "{\"columns\":[\"r\"],\"data\":[{\"graph\":{\"nodes\":[{\"id\":\"2\",\"labels\":[\"Wheel\"],\"properties\":{\"spokes\":3}}],\"relationships\":[]}}]}" +
+                "],\"errors\":[]}";
+
+        try (GraphModelResponse response = new GraphModelResponse(new JsonResponse(stream(json)), mapper)) {
+
+            assertArrayEquals(new String[] { "p" }, response.columns());
+
+            GraphModel graphModel = response.next();
+            assertEquals(1L, (long) graphModel.getNodes()[0].getId());
+
+            graphModel = response.next();
+            assertEquals(2L, (long) graphModel.getNodes()[0].getId());
+            assertEquals(3, graphModel.getNodes()[0].property("spokes"));
+            assertArrayEquals(new String[] { "r" }, response.columns());
+
+            assertNull(response.next());
+        }
+    }
+
+    @Test
+    public void shouldReadWholeRecordsWithBothRowAndGraph() {
+
+        String json = "{\"results\":[{\"columns\":[\"id(n)\",\"paths\"],\"data\":[" +
+                "{\"row\":[2,[]],\"graph\":{\"nodes\":[{\"id\":\"1\",\"labels\":[\"Bike\"],\"properties\":{}},{\"id\":\"2\",\"labels\":[\"Bike\"],\"properties\":{}}],\"relationships\":[]}}," +
+                "{\"graph\":{\"nodes\":[{\"id\":\"1\",\"labels\":[\"Bike\"],\"properties\":{}}],\"relationships\":[]},\"row\":[1,[]]}" +
+                "]}],\"errors\":[]}";
+
+        try (GraphRowModelResponse response = new GraphRowModelResponse(new JsonResponse(stream(json)), mapper)) {
+
+            GraphRowModel record = response.next();
+            assertEquals(2, record.getRow()[0]);
+            assertEquals(2, record.getGraph().getNodes().length);
+
+            record = response.next();
+            assertEquals(1, record.getRow()[0]);
+            assertEquals(1L, (long) record.getGraph().getNodes()[0].getId());
+
+            assertNull(response.next());
+        }
+    }
+
+    @Test(expected = ResultProcessingException.class)
+    public void shouldThrowExceptionWhenResponseHasErrorsAndNoResults() {
+        String json = "{\"results\":[],\"errors\":[{\"code\":\"Neo.ClientError.Statement.InvalidSyntax\",\"message\":\"Invalid input\"}]}";
+        new RowModelResponse(new JsonResponse(stream(json)), mapper);
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenErrorsFollowResults() {
+
+        String json = "{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]}]}]," +
+                "\"errors\":[{\"code\":\"Neo.ClientError.Statement.InvalidSyntax\",\"message\":\"Invalid input\"}]}";
+
+        RowModelResponse response = new RowModelResponse(new JsonResponse(stream(json)), mapper);
+        assertEquals(1, response.next().getValues()[0]);
+
+        try {
+            response.next();
+            fail("Expected a ResultProcessingException");
+        } catch (ResultProcessingException e) {
+            assertTrue(e.getMessage().contains("Neo.ClientError.Statement.InvalidSyntax"));
+        } finally {
+            response.close();
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes());
+    }
+}
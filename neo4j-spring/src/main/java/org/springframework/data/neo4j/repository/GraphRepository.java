@@ -1,11 +1,14 @@
 package org.springframework.data.neo4j.repository;
 
-import org.springframework.data.repository.CrudRepository;
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.NoRepositoryBean;
-import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.PagingAndSortingRepository;
 
 @NoRepositoryBean
-public interface GraphRepository<T> extends CrudRepository<T, Long> {
+public interface GraphRepository<T> extends PagingAndSortingRepository<T, Long> {
 
     <S extends T> S save(S s, int depth);
 
@@ -17,6 +20,22 @@ public interface GraphRepository<T> extends CrudRepository<T, Long> {
 
     Iterable<T> findAll(Iterable<Long> ids, int depth);
 
+    Iterable<T> findAll(Sort sort, int depth);
+
+    Page<T> findAll(Pageable pageable, int depth);
+
+    T findOne(Long id, FetchPlan fetchPlan);
+
+    Iterable<T> findAll(FetchPlan fetchPlan);
+
+    Iterable<T> findAll(Iterable<Long> ids, FetchPlan fetchPlan);
+
+    /**
+     * @return the fetch plan that the {@link org.neo4j.ogm.annotation.Fetch} annotations on the relationship fields of
+     * the entity declare
+     */
+    FetchPlan fetchPlan();
+
     Iterable<T> findByProperty(String propertyName, Object propertyValue);
 
     Iterable<T> findByProperty(String propertyName, Object propertyValue, int depth);
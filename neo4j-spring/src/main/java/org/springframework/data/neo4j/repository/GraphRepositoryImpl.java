@@ -1,14 +1,25 @@
 package org.springframework.data.neo4j.repository;
 
+import org.neo4j.ogm.cypher.query.FetchPlan;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 @Repository
 public class GraphRepositoryImpl<T> implements GraphRepository<T> {
 
+    private static final int DEFAULT_DEPTH = 1;
+
     private final Class clazz;
     private final Session session;
 
@@ -51,10 +62,19 @@ public class GraphRepositoryImpl<T> implements GraphRepository<T> {
         return (Iterable<T>) session.loadAll(clazz, (Collection<Long>) longs);
     }
 
+    @Override
+    public Iterable<T> findAll(Sort sort) {
+        return findAll(sort, DEFAULT_DEPTH);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        return findAll(pageable, DEFAULT_DEPTH);
+    }
+
     @Override
     public long count() {
-        Collection<?> all = (Collection) findAll();
-        return all.size();
+        return session.countEntitiesOfType(clazz);
     }
 
     @Override
@@ -109,6 +129,48 @@ public class GraphRepositoryImpl<T> implements GraphRepository<T> {
         return (Iterable<T>) session.loadAll(clazz, (Collection<Long>) ids, depth);
     }
 
+    @Override
+    public Iterable<T> findAll(Sort sort, int depth) {
+        return (Iterable<T>) session.loadAll(clazz, null, sortOrder(sort), depth);
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable, int depth) {
+        Pagination pagination = new Pagination(pageable.getPageNumber(), pageable.getPageSize());
+        List<T> content = new ArrayList<>((Collection<T>) session.loadAll(clazz, pagination, sortOrder(pageable.getSort()), depth));
+        return new PageImpl<>(content, pageable, count());
+    }
+
+    @Override
+    public T findOne(Long id, FetchPlan fetchPlan) {
+        return (T) session.load(clazz, id, fetchPlan);
+    }
+
+    @Override
+    public Iterable<T> findAll(FetchPlan fetchPlan) {
+        return (Iterable<T>) session.loadAll(clazz, fetchPlan);
+    }
+
+    @Override
+    public Iterable<T> findAll(Iterable<Long> ids, FetchPlan fetchPlan) {
+        return (Iterable<T>) session.loadAll(clazz, (Collection<Long>) ids, fetchPlan);
+    }
+
+    @Override
+    public FetchPlan fetchPlan() {
+        return session.fetchPlan(clazz);
+    }
+
+    private static SortOrder sortOrder(Sort sort) {
+        SortOrder sortOrder = new SortOrder();
+        if (sort != null) {
+            for (Sort.Order order : sort) {
+                sortOrder.add(order.isAscending() ? SortOrder.Direction.ASC : SortOrder.Direction.DESC, order.getProperty());
+            }
+        }
+        return sortOrder;
+    }
+
     @Override
     public Iterable<T> findByProperty(String propertyName, Object propertyValue) {
         return (Iterable<T>) session.loadByProperty(clazz, new Property(propertyName, propertyValue));